@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.autoconfigure.datastore;
+
+import java.time.Duration;
+
+/**
+ * Properties for configuring the cache of entities of kinds annotated with
+ * {@code @CachedEntity}.
+ *
+ * @since 1.2.8
+ */
+public class EntityCacheSettings {
+	/**
+	 * If enabled, lookups by key of entities annotated with {@code @CachedEntity} are
+	 * served from an in-memory cache. Default: {@code false}
+	 */
+	private boolean enabled;
+
+	/**
+	 * The maximum number of cached entities. Default: {@code 10000}
+	 */
+	private int maxSize = 10000;
+
+	/**
+	 * How long an entity stays cached. Default: {@code 10m}
+	 */
+	private Duration ttl = Duration.ofMinutes(10);
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public Duration getTtl() {
+		return this.ttl;
+	}
+
+	public void setTtl(Duration ttl) {
+		this.ttl = ttl;
+	}
+}
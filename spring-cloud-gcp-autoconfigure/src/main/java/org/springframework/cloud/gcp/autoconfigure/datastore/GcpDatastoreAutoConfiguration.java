@@ -41,6 +41,8 @@ import org.springframework.cloud.gcp.core.GcpProjectIdProvider;
 import org.springframework.cloud.gcp.core.UserAgentHeaderProvider;
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreOperations;
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreTemplate;
+import org.springframework.cloud.gcp.data.datastore.core.cache.DatastoreEntityCache;
+import org.springframework.cloud.gcp.data.datastore.core.cache.InMemoryDatastoreEntityCache;
 import org.springframework.cloud.gcp.data.datastore.core.convert.DatastoreCustomConversions;
 import org.springframework.cloud.gcp.data.datastore.core.convert.DatastoreEntityConverter;
 import org.springframework.cloud.gcp.data.datastore.core.convert.DatastoreServiceObjectToKeyFactory;
@@ -78,6 +80,16 @@ public class GcpDatastoreAutoConfiguration {
 
 	private final String host;
 
+	private final int descendantReadParallelism;
+
+	private final int maxWriteSize;
+
+	private final int writeParallelism;
+
+	private final boolean skipUnchangedEntities;
+
+	private final EntityCacheSettings entityCacheSettings;
+
 	GcpDatastoreAutoConfiguration(GcpDatastoreProperties gcpDatastoreProperties,
 			GcpProjectIdProvider projectIdProvider,
 			CredentialsProvider credentialsProvider) throws IOException {
@@ -104,6 +116,11 @@ public class GcpDatastoreAutoConfiguration {
 		}
 
 		this.host = hostToConnect;
+		this.descendantReadParallelism = gcpDatastoreProperties.getDescendantReadParallelism();
+		this.maxWriteSize = gcpDatastoreProperties.getMaxWriteSize();
+		this.writeParallelism = gcpDatastoreProperties.getWriteParallelism();
+		this.skipUnchangedEntities = gcpDatastoreProperties.isSkipUnchangedEntities();
+		this.entityCacheSettings = gcpDatastoreProperties.getEntityCache();
 	}
 
 	@Bean
@@ -160,12 +177,28 @@ public class GcpDatastoreAutoConfiguration {
 		return new DefaultDatastoreEntityConverter(datastoreMappingContext, conversions);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty("spring.cloud.gcp.datastore.entity-cache.enabled")
+	public DatastoreEntityCache datastoreEntityCache() {
+		return new InMemoryDatastoreEntityCache(this.entityCacheSettings.getMaxSize(),
+				this.entityCacheSettings.getTtl());
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public DatastoreTemplate datastoreTemplate(Supplier<? extends DatastoreReaderWriter> datastore,
 			DatastoreMappingContext datastoreMappingContext,
-			DatastoreEntityConverter datastoreEntityConverter, ObjectToKeyFactory objectToKeyFactory) {
-		return new DatastoreTemplate(datastore, datastoreEntityConverter, datastoreMappingContext, objectToKeyFactory);
+			DatastoreEntityConverter datastoreEntityConverter, ObjectToKeyFactory objectToKeyFactory,
+			ObjectProvider<DatastoreEntityCache> entityCache) {
+		DatastoreTemplate datastoreTemplate = new DatastoreTemplate(datastore, datastoreEntityConverter,
+				datastoreMappingContext, objectToKeyFactory);
+		datastoreTemplate.setEntityCache(entityCache.getIfAvailable());
+		datastoreTemplate.setDescendantReadParallelism(this.descendantReadParallelism);
+		datastoreTemplate.setMaxWriteSize(this.maxWriteSize);
+		datastoreTemplate.setWriteParallelism(this.writeParallelism);
+		datastoreTemplate.setSkipUnchangedEntities(this.skipUnchangedEntities);
+		return datastoreTemplate;
 	}
 
 	private DatastoreProvider getDatastoreProvider(DatastoreNamespaceProvider keySupplier) {
@@ -42,6 +42,12 @@ public class GcpDatastoreProperties implements CredentialsSupplier {
 	@NestedConfigurationProperty
 	private final EmulatorSettings emulator = new EmulatorSettings();
 
+	/**
+	 * Properties to configure the cache of entities annotated with {@code @CachedEntity}.
+	 */
+	@NestedConfigurationProperty
+	private final EntityCacheSettings entityCache = new EntityCacheSettings();
+
 	/**
 	 * @deprecated use <code>spring.cloud.gcp.datastore.host</code> instead.
 	 * @see #host
@@ -58,6 +64,27 @@ public class GcpDatastoreProperties implements CredentialsSupplier {
 
 	private String namespace;
 
+	/**
+	 * The maximum number of descendant queries run concurrently when several entities are
+	 * read at once.
+	 */
+	private int descendantReadParallelism = 1;
+
+	/**
+	 * The maximum number of entities or keys sent in a single put or delete call.
+	 */
+	private int maxWriteSize = 500;
+
+	/**
+	 * The maximum number of write slices sent concurrently outside of transactions.
+	 */
+	private int writeParallelism = 1;
+
+	/**
+	 * Whether saves skip entities that did not change since they were read or last saved.
+	 */
+	private boolean skipUnchangedEntities;
+
 	@Override
 	public Credentials getCredentials() {
 		return this.credentials;
@@ -67,6 +94,10 @@ public class GcpDatastoreProperties implements CredentialsSupplier {
 		return this.emulator;
 	}
 
+	public EntityCacheSettings getEntityCache() {
+		return this.entityCache;
+	}
+
 	public String getProjectId() {
 		return this.projectId;
 	}
@@ -83,6 +114,38 @@ public class GcpDatastoreProperties implements CredentialsSupplier {
 		this.namespace = namespace;
 	}
 
+	public int getDescendantReadParallelism() {
+		return this.descendantReadParallelism;
+	}
+
+	public void setDescendantReadParallelism(int descendantReadParallelism) {
+		this.descendantReadParallelism = descendantReadParallelism;
+	}
+
+	public int getMaxWriteSize() {
+		return this.maxWriteSize;
+	}
+
+	public void setMaxWriteSize(int maxWriteSize) {
+		this.maxWriteSize = maxWriteSize;
+	}
+
+	public int getWriteParallelism() {
+		return this.writeParallelism;
+	}
+
+	public void setWriteParallelism(int writeParallelism) {
+		this.writeParallelism = writeParallelism;
+	}
+
+	public boolean isSkipUnchangedEntities() {
+		return this.skipUnchangedEntities;
+	}
+
+	public void setSkipUnchangedEntities(boolean skipUnchangedEntities) {
+		this.skipUnchangedEntities = skipUnchangedEntities;
+	}
+
 	public String getHost() {
 		return this.host;
 	}
@@ -17,6 +17,8 @@
 package org.springframework.cloud.gcp.autoconfigure.pubsub;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -27,6 +29,7 @@ import com.google.api.gax.batching.FlowControlSettings;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.core.ExecutorProvider;
 import com.google.api.gax.core.FixedExecutorProvider;
+import com.google.api.gax.core.InstantiatingExecutorProvider;
 import com.google.api.gax.core.NoCredentialsProvider;
 import com.google.api.gax.retrying.RetrySettings;
 import com.google.api.gax.retrying.RetrySettings.Builder;
@@ -63,6 +66,7 @@ import org.springframework.cloud.gcp.pubsub.support.SubscriberFactory;
 import org.springframework.cloud.gcp.pubsub.support.converter.PubSubMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
@@ -170,14 +174,34 @@ public class GcpPubSubAutoConfiguration {
 	public PubSubSubscriberTemplate pubSubSubscriberTemplate(SubscriberFactory subscriberFactory,
 			ObjectProvider<PubSubMessageConverter> pubSubMessageConverter,
 			@Qualifier("pubSubAsynchronousPullExecutor") ObjectProvider<Executor> asyncPullExecutor,
-			@Qualifier("pubSubAcknowledgementExecutor") Executor ackExecutor) {
+			@Qualifier("pubSubAcknowledgementExecutor") Executor ackExecutor,
+			@Qualifier("subscriberAckBatchSettings") ObjectProvider<BatchingSettings> ackBatchingSettings) {
 		PubSubSubscriberTemplate pubSubSubscriberTemplate = new PubSubSubscriberTemplate(subscriberFactory);
 		pubSubMessageConverter.ifUnique(pubSubSubscriberTemplate::setMessageConverter);
 		pubSubSubscriberTemplate.setAckExecutor(ackExecutor);
 		asyncPullExecutor.ifAvailable(pubSubSubscriberTemplate::setAsyncPullExecutor);
+		ackBatchingSettings.ifAvailable(pubSubSubscriberTemplate::setAckBatchingSettings);
+		GcpPubSubProperties.PullLeaseExtension pullLeaseExtension =
+				this.gcpPubSubProperties.getSubscriber().getPullLeaseExtension();
+		if (pullLeaseExtension.isEnabled()) {
+			pubSubSubscriberTemplate.setPullLeaseExtension(pullLeaseExtension.getAckDeadlineSeconds(),
+					java.time.Duration.ofSeconds(pullLeaseExtension.getMaxExtensionPeriodSeconds()));
+		}
 		return pubSubSubscriberTemplate;
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(name = "subscriberAckBatchSettings")
+	@ConditionalOnProperty("spring.cloud.gcp.pubsub.subscriber.ack-batching.enabled")
+	public BatchingSettings subscriberAckBatchSettings() {
+		GcpPubSubProperties.AckBatching ackBatching = this.gcpPubSubProperties.getSubscriber().getAckBatching();
+		return BatchingSettings.newBuilder()
+				.setElementCountThreshold(ackBatching.getElementCountThreshold())
+				.setRequestByteThreshold(ackBatching.getRequestByteThreshold())
+				.setDelayThreshold(Duration.ofMillis(ackBatching.getDelayThresholdMillis()))
+				.build();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public PubSubTemplate pubSubTemplate(PubSubPublisherTemplate pubSubPublisherTemplate,
@@ -243,16 +267,64 @@ public class GcpPubSubAutoConfiguration {
 			factory.setPullEndpoint(
 					this.gcpPubSubProperties.getSubscriber().getPullEndpoint());
 		}
+		applySubscriptionProperties(factory);
 		return factory;
 	}
 
+	private void applySubscriptionProperties(DefaultSubscriberFactory factory) {
+		Map<String, ExecutorProvider> executorProviders = new HashMap<>();
+		Map<String, FlowControlSettings> flowControlSettings = new HashMap<>();
+		Map<String, Duration> maxAckExtensionPeriods = new HashMap<>();
+		Map<String, Integer> parallelPullCounts = new HashMap<>();
+
+		this.gcpPubSubProperties.getSubscription().forEach((name, subscription) -> {
+			if (subscription.getExecutorThreads() != null) {
+				executorProviders.put(name,
+						buildExecutorProvider("gcp-pubsub-subscriber-" + name, subscription.getExecutorThreads()));
+			}
+			FlowControlSettings subscriptionFlowControlSettings =
+					buildFlowControlSettings(subscription.getFlowControl());
+			if (subscriptionFlowControlSettings != null) {
+				flowControlSettings.put(name, subscriptionFlowControlSettings);
+			}
+			if (subscription.getMaxAckExtensionPeriod() != null) {
+				maxAckExtensionPeriods.put(name, Duration.ofSeconds(subscription.getMaxAckExtensionPeriod()));
+			}
+			if (subscription.getParallelPullCount() != null) {
+				parallelPullCounts.put(name, subscription.getParallelPullCount());
+			}
+		});
+
+		factory.setExecutorProviderMap(executorProviders);
+		factory.setFlowControlSettingsMap(flowControlSettings);
+		factory.setMaxAckExtensionPeriodMap(maxAckExtensionPeriods);
+		factory.setParallelPullCountMap(parallelPullCounts);
+	}
+
+	/**
+	 * Build a provider of executors owned by the subscriber or publisher they are created for,
+	 * which shut them down when they are stopped.
+	 * @param threadNamePrefix the prefix of the executor thread names
+	 * @param threads the number of executor threads
+	 * @return the executor provider
+	 */
+	private ExecutorProvider buildExecutorProvider(String threadNamePrefix, int threads) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		return InstantiatingExecutorProvider.newBuilder()
+				.setExecutorThreadCount(threads)
+				.setThreadFactory(threadFactory)
+				.build();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean(name = "publisherBatchSettings")
 	public BatchingSettings publisherBatchSettings() {
-		BatchingSettings.Builder builder = BatchingSettings.newBuilder();
+		return buildBatchingSettings(this.gcpPubSubProperties.getPublisher().getBatching());
+	}
 
-		GcpPubSubProperties.Batching batching = this.gcpPubSubProperties.getPublisher()
-				.getBatching();
+	private BatchingSettings buildBatchingSettings(GcpPubSubProperties.Batching batching) {
+		BatchingSettings.Builder builder = BatchingSettings.newBuilder();
 
 		FlowControlSettings flowControlSettings = buildFlowControlSettings(batching.getFlowControl());
 		if (flowControlSettings != null) {
@@ -327,9 +399,35 @@ public class GcpPubSubAutoConfiguration {
 		factory.setChannelProvider(publisherTransportChannelProvider);
 		retrySettings.ifAvailable(factory::setRetrySettings);
 		batchingSettings.ifAvailable(factory::setBatchingSettings);
+		applyTopicProperties(factory);
 		return factory;
 	}
 
+	private void applyTopicProperties(DefaultPublisherFactory factory) {
+		Map<String, ExecutorProvider> executorProviders = new HashMap<>();
+		Map<String, RetrySettings> retrySettings = new HashMap<>();
+		Map<String, BatchingSettings> batchingSettings = new HashMap<>();
+
+		this.gcpPubSubProperties.getTopic().forEach((name, topic) -> {
+			if (topic.getExecutorThreads() != null) {
+				executorProviders.put(name,
+						buildExecutorProvider("gcp-pubsub-publisher-" + name, topic.getExecutorThreads()));
+			}
+			RetrySettings topicRetrySettings = buildRetrySettings(topic.getRetry());
+			if (topicRetrySettings != null) {
+				retrySettings.put(name, topicRetrySettings);
+			}
+			BatchingSettings topicBatchingSettings = buildBatchingSettings(topic.getBatching());
+			if (topicBatchingSettings != null) {
+				batchingSettings.put(name, topicBatchingSettings);
+			}
+		});
+
+		factory.setExecutorProviderMap(executorProviders);
+		factory.setRetrySettingsMap(retrySettings);
+		factory.setBatchingSettingsMap(batchingSettings);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public PubSubAdmin pubSubAdmin(TopicAdminClient topicAdminClient,
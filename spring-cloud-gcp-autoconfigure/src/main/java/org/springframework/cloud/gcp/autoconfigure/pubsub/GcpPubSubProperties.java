@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.gcp.autoconfigure.pubsub;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.google.api.gax.batching.FlowController.LimitExceededBehavior;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -44,6 +47,18 @@ public class GcpPubSubProperties implements CredentialsSupplier {
 	 */
 	private final Publisher publisher = new Publisher();
 
+	/**
+	 * Subscriber settings of individual subscriptions, by subscription name or fully
+	 * qualified subscription name. They override the subscriber factory settings.
+	 */
+	private final Map<String, Subscription> subscription = new HashMap<>();
+
+	/**
+	 * Publisher settings of individual topics, by topic name or fully qualified topic name.
+	 * They override the publisher factory settings.
+	 */
+	private final Map<String, Topic> topic = new HashMap<>();
+
 	/**
 	 * Overrides the GCP project ID specified in the Core module.
 	 */
@@ -74,6 +89,14 @@ public class GcpPubSubProperties implements CredentialsSupplier {
 		return this.publisher;
 	}
 
+	public Map<String, Subscription> getSubscription() {
+		return this.subscription;
+	}
+
+	public Map<String, Topic> getTopic() {
+		return this.topic;
+	}
+
 	public String getProjectId() {
 		return this.projectId;
 	}
@@ -183,10 +206,28 @@ public class GcpPubSubProperties implements CredentialsSupplier {
 		 */
 		private final FlowControl flowControl = new FlowControl();
 
+		/**
+		 * Batching settings for individual acknowledgements of pulled messages.
+		 */
+		private final AckBatching ackBatching = new AckBatching();
+
+		/**
+		 * Lease extension settings for synchronously pulled messages.
+		 */
+		private final PullLeaseExtension pullLeaseExtension = new PullLeaseExtension();
+
 		public Retry getRetry() {
 			return this.retry;
 		}
 
+		public AckBatching getAckBatching() {
+			return this.ackBatching;
+		}
+
+		public PullLeaseExtension getPullLeaseExtension() {
+			return this.pullLeaseExtension;
+		}
+
 		public FlowControl getFlowControl() {
 			return this.flowControl;
 		}
@@ -237,6 +278,99 @@ public class GcpPubSubProperties implements CredentialsSupplier {
 		}
 	}
 
+	/**
+	 * Subscriber settings of an individual subscription.
+	 */
+	public static class Subscription {
+
+		/**
+		 * Number of threads of an executor dedicated to the subscription's subscribers.
+		 */
+		private Integer executorThreads;
+
+		/**
+		 * The max ack extension period in seconds.
+		 */
+		private Long maxAckExtensionPeriod;
+
+		/**
+		 * The number of pull workers.
+		 */
+		private Integer parallelPullCount;
+
+		/**
+		 * Flow control settings. They replace the subscriber factory flow control settings
+		 * if any is set.
+		 */
+		private final FlowControl flowControl = new FlowControl();
+
+		public Integer getExecutorThreads() {
+			return this.executorThreads;
+		}
+
+		public void setExecutorThreads(Integer executorThreads) {
+			this.executorThreads = executorThreads;
+		}
+
+		public Long getMaxAckExtensionPeriod() {
+			return this.maxAckExtensionPeriod;
+		}
+
+		public void setMaxAckExtensionPeriod(Long maxAckExtensionPeriod) {
+			this.maxAckExtensionPeriod = maxAckExtensionPeriod;
+		}
+
+		public Integer getParallelPullCount() {
+			return this.parallelPullCount;
+		}
+
+		public void setParallelPullCount(Integer parallelPullCount) {
+			this.parallelPullCount = parallelPullCount;
+		}
+
+		public FlowControl getFlowControl() {
+			return this.flowControl;
+		}
+	}
+
+	/**
+	 * Publisher settings of an individual topic.
+	 */
+	public static class Topic {
+
+		/**
+		 * Number of threads of an executor dedicated to the topic's publisher.
+		 */
+		private Integer executorThreads;
+
+		/**
+		 * Retry properties. They replace the publisher factory retry settings if any is set.
+		 */
+		private final Retry retry = new Retry();
+
+		/**
+		 * Batching properties. They replace the publisher factory batching settings if any
+		 * is set.
+		 */
+		private final Batching batching = new Batching();
+
+		public Integer getExecutorThreads() {
+			return this.executorThreads;
+		}
+
+		public void setExecutorThreads(Integer executorThreads) {
+			this.executorThreads = executorThreads;
+		}
+
+		public Retry getRetry() {
+			return this.retry;
+		}
+
+		public Batching getBatching() {
+			return this.batching;
+		}
+	}
+
 	/**
 	 * Retry settings.
 	 */
@@ -490,4 +624,108 @@ public class GcpPubSubProperties implements CredentialsSupplier {
 			return this.flowControl;
 		}
 	}
+
+	/**
+	 * Batching settings for acks, nacks and ack deadline modifications of individual pulled
+	 * messages.
+	 */
+	public static class AckBatching {
+
+		/**
+		 * Enables batching of individual acknowledgements if true.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The number of ack IDs at which a batch is sent.
+		 */
+		private Long elementCountThreshold = 1000L;
+
+		/**
+		 * The total size of ack IDs in bytes at which a batch is sent.
+		 */
+		private Long requestByteThreshold;
+
+		/**
+		 * The time in milliseconds after which a batch is sent, counting from its first ack ID.
+		 */
+		private long delayThresholdMillis = 100;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Long getElementCountThreshold() {
+			return this.elementCountThreshold;
+		}
+
+		public void setElementCountThreshold(Long elementCountThreshold) {
+			this.elementCountThreshold = elementCountThreshold;
+		}
+
+		public Long getRequestByteThreshold() {
+			return this.requestByteThreshold;
+		}
+
+		public void setRequestByteThreshold(Long requestByteThreshold) {
+			this.requestByteThreshold = requestByteThreshold;
+		}
+
+		public long getDelayThresholdMillis() {
+			return this.delayThresholdMillis;
+		}
+
+		public void setDelayThresholdMillis(long delayThresholdMillis) {
+			this.delayThresholdMillis = delayThresholdMillis;
+		}
+	}
+
+	/**
+	 * Lease extension settings for messages obtained by synchronous pull.
+	 */
+	public static class PullLeaseExtension {
+
+		/**
+		 * Extends the ack deadlines of pulled messages until they are acknowledged if true.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The ack deadline in seconds set on every extension.
+		 */
+		private int ackDeadlineSeconds = 60;
+
+		/**
+		 * The maximum time in seconds a pulled message lease is extended for.
+		 */
+		private long maxExtensionPeriodSeconds = 3600;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getAckDeadlineSeconds() {
+			return this.ackDeadlineSeconds;
+		}
+
+		public void setAckDeadlineSeconds(int ackDeadlineSeconds) {
+			this.ackDeadlineSeconds = ackDeadlineSeconds;
+		}
+
+		public long getMaxExtensionPeriodSeconds() {
+			return this.maxExtensionPeriodSeconds;
+		}
+
+		public void setMaxExtensionPeriodSeconds(long maxExtensionPeriodSeconds) {
+			this.maxExtensionPeriodSeconds = maxExtensionPeriodSeconds;
+		}
+	}
 }
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.auth.Credentials;
+import com.google.cloud.spanner.BatchClient;
 import com.google.cloud.spanner.DatabaseAdminClient;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.DatabaseId;
@@ -28,8 +29,12 @@ import com.google.cloud.spanner.SessionPoolOptions;
 import com.google.cloud.spanner.Spanner;
 import com.google.cloud.spanner.SpannerOptions;
 import com.google.cloud.spanner.SpannerOptions.Builder;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,6 +43,7 @@ import org.springframework.cloud.gcp.autoconfigure.core.GcpContextAutoConfigurat
 import org.springframework.cloud.gcp.core.DefaultCredentialsProvider;
 import org.springframework.cloud.gcp.core.GcpProjectIdProvider;
 import org.springframework.cloud.gcp.core.UserAgentHeaderProvider;
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerMutationFactory;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerMutationFactoryImpl;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerOperations;
@@ -49,6 +55,8 @@ import org.springframework.cloud.gcp.data.spanner.core.admin.SpannerSchemaUtils;
 import org.springframework.cloud.gcp.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
 import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.MicrometerSpannerMetricsRecorder;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerMetricsRecorder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
@@ -59,7 +67,9 @@ import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
  * @author Chengyuan Zhao
  */
 @Configuration(proxyBeanMethods = false)
-@AutoConfigureAfter(GcpContextAutoConfiguration.class)
+@AutoConfigureAfter(value = GcpContextAutoConfiguration.class, name = {
+		"org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration" })
 @ConditionalOnProperty(value = "spring.cloud.gcp.spanner.enabled", matchIfMissing = true)
 @ConditionalOnClass({ SpannerMappingContext.class, SpannerOperations.class,
 		SpannerMutationFactory.class, SpannerEntityProcessor.class })
@@ -97,6 +107,12 @@ public class GcpSpannerAutoConfiguration {
 
 		private final boolean failIfPoolExhausted;
 
+		private final boolean batchInterleavedReads;
+
+		private final int bulkWriteMaxMutations;
+
+		private final int bulkWriteParallelism;
+
 		CoreSpannerAutoConfiguration(GcpSpannerProperties gcpSpannerProperties,
 				GcpProjectIdProvider projectIdProvider,
 				CredentialsProvider credentialsProvider) throws IOException {
@@ -119,6 +135,9 @@ public class GcpSpannerAutoConfiguration {
 			this.createInterleavedTableDdlOnDeleteCascade = gcpSpannerProperties
 					.isCreateInterleavedTableDdlOnDeleteCascade();
 			this.failIfPoolExhausted = gcpSpannerProperties.isFailIfPoolExhausted();
+			this.batchInterleavedReads = gcpSpannerProperties.isBatchInterleavedReads();
+			this.bulkWriteMaxMutations = gcpSpannerProperties.getBulkWriteMaxMutations();
+			this.bulkWriteParallelism = gcpSpannerProperties.getBulkWriteParallelism();
 		}
 
 		@Bean
@@ -188,6 +207,13 @@ public class GcpSpannerAutoConfiguration {
 			return new CachingComposingSupplier<>(databaseIdProvider, spanner::getDatabaseClient);
 		}
 
+		@Bean
+		@ConditionalOnMissingBean(value = BatchClient.class, parameterizedContainer = Supplier.class)
+		public Supplier<BatchClient> batchClientProvider(
+				Spanner spanner, Supplier<DatabaseId> databaseIdProvider) {
+			return new CachingComposingSupplier<>(databaseIdProvider, spanner::getBatchClient);
+		}
+
 		@Bean
 		@ConditionalOnMissingBean
 		public DatabaseAdminClient spannerDatabaseAdminClient(
@@ -204,11 +230,19 @@ public class GcpSpannerAutoConfiguration {
 		@Bean
 		@ConditionalOnMissingBean
 		public SpannerTemplate spannerTemplate(Supplier<DatabaseClient> databaseClientProvider,
+				Supplier<BatchClient> batchClientProvider,
 				SpannerMappingContext mappingContext, SpannerEntityProcessor spannerEntityProcessor,
 				SpannerMutationFactory spannerMutationFactory,
-				SpannerSchemaUtils spannerSchemaUtils) {
-			return new SpannerTemplate(databaseClientProvider, mappingContext, spannerEntityProcessor,
-					spannerMutationFactory, spannerSchemaUtils);
+				SpannerSchemaUtils spannerSchemaUtils,
+				ObjectProvider<SpannerMetricsRecorder> metricsRecorder) {
+			SpannerTemplate spannerTemplate = new SpannerTemplate(databaseClientProvider, mappingContext,
+					spannerEntityProcessor, spannerMutationFactory, spannerSchemaUtils);
+			spannerTemplate.setBatchInterleavedReads(this.batchInterleavedReads);
+			spannerTemplate.setBulkWriteMaxMutations(this.bulkWriteMaxMutations);
+			spannerTemplate.setBulkWriteParallelism(this.bulkWriteParallelism);
+			spannerTemplate.setBatchClientProvider(batchClientProvider);
+			metricsRecorder.ifAvailable(spannerTemplate::setMetricsRecorder);
+			return spannerTemplate;
 		}
 
 		@Bean
@@ -245,6 +279,32 @@ public class GcpSpannerAutoConfiguration {
 		}
 	}
 
+	/**
+	 * Reactive template settings.
+	 */
+	@ConditionalOnClass(Flux.class)
+	static class ReactiveSpannerAutoConfiguration {
+		@Bean
+		@ConditionalOnMissingBean
+		public ReactiveSpannerTemplate reactiveSpannerTemplate(SpannerTemplate spannerTemplate) {
+			return new ReactiveSpannerTemplate(spannerTemplate);
+		}
+	}
+
+	/**
+	 * Micrometer metrics settings.
+	 */
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnProperty(value = "spring.cloud.gcp.spanner.metrics.enabled", matchIfMissing = true)
+	static class SpannerMetricsAutoConfiguration {
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnBean(MeterRegistry.class)
+		public SpannerMetricsRecorder spannerMetricsRecorder(MeterRegistry meterRegistry) {
+			return new MicrometerSpannerMetricsRecorder(meterRegistry);
+		}
+	}
+
 	/**
 	 * REST settings.
 	 */
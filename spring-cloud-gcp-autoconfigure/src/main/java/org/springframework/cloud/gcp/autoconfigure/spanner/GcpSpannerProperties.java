@@ -72,6 +72,17 @@ public class GcpSpannerProperties implements CredentialsSupplier {
 	// Otherwise, by default, block until a session becomes available.
 	private boolean failIfPoolExhausted = false;
 
+	// When {@code true}, interleaved children of all entities in a result are retrieved with
+	// one query per child table instead of one query per parent entity.
+	private boolean batchInterleavedReads = false;
+
+	// When greater than 0, the mutations of insertAll, updateAll, upsertAll and deleteAll
+	// outside of transactions are committed in batches of at most this many mutations.
+	private int bulkWriteMaxMutations = 0;
+
+	// The maximum number of bulk write batches committed concurrently.
+	private int bulkWriteParallelism = 1;
+
 	// Host:port used to connect to the emulator, when the emulator is enabled.
 	private String emulatorHost = "localhost:9010";
 
@@ -177,6 +188,30 @@ public class GcpSpannerProperties implements CredentialsSupplier {
 		this.failIfPoolExhausted = failIfPoolExhausted;
 	}
 
+	public boolean isBatchInterleavedReads() {
+		return this.batchInterleavedReads;
+	}
+
+	public void setBatchInterleavedReads(boolean batchInterleavedReads) {
+		this.batchInterleavedReads = batchInterleavedReads;
+	}
+
+	public int getBulkWriteMaxMutations() {
+		return this.bulkWriteMaxMutations;
+	}
+
+	public void setBulkWriteMaxMutations(int bulkWriteMaxMutations) {
+		this.bulkWriteMaxMutations = bulkWriteMaxMutations;
+	}
+
+	public int getBulkWriteParallelism() {
+		return this.bulkWriteParallelism;
+	}
+
+	public void setBulkWriteParallelism(int bulkWriteParallelism) {
+		this.bulkWriteParallelism = bulkWriteParallelism;
+	}
+
 	public String getEmulatorHost() {
 		return this.emulatorHost;
 	}
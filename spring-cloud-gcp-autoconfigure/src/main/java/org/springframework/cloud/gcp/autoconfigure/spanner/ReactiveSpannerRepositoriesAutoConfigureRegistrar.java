@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.autoconfigure.spanner;
+
+import java.lang.annotation.Annotation;
+
+import org.springframework.boot.autoconfigure.data.AbstractRepositoryConfigurationSourceSupport;
+import org.springframework.cloud.gcp.data.spanner.repository.config.EnableReactiveSpannerRepositories;
+import org.springframework.cloud.gcp.data.spanner.repository.config.ReactiveSpannerRepositoryConfigurationExtension;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+/**
+ * {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * used to auto-configure reactive Spring Data Cloud Spanner Repositories.
+ *
+ * @since 1.2.8
+ */
+public class ReactiveSpannerRepositoriesAutoConfigureRegistrar
+		extends AbstractRepositoryConfigurationSourceSupport {
+
+	@Override
+	protected Class<? extends Annotation> getAnnotation() {
+		return EnableReactiveSpannerRepositories.class;
+	}
+
+	@Override
+	protected Class<?> getConfiguration() {
+		return EnableReactiveSpannerRepositoriesConfiguration.class;
+	}
+
+	@Override
+	protected RepositoryConfigurationExtension getRepositoryConfigurationExtension() {
+		return new ReactiveSpannerRepositoryConfigurationExtension();
+	}
+
+	@EnableReactiveSpannerRepositories
+	private static class EnableReactiveSpannerRepositoriesConfiguration {
+
+	}
+}
@@ -36,7 +36,10 @@ import org.springframework.cloud.gcp.autoconfigure.datastore.health.DatastoreHea
 import org.springframework.cloud.gcp.autoconfigure.datastore.health.DatastoreHealthIndicatorAutoConfiguration;
 import org.springframework.cloud.gcp.core.GcpProjectIdProvider;
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreOperations;
+import org.springframework.cloud.gcp.data.datastore.core.DatastoreTemplate;
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreTransactionManager;
+import org.springframework.cloud.gcp.data.datastore.core.cache.DatastoreEntityCache;
+import org.springframework.cloud.gcp.data.datastore.core.cache.InMemoryDatastoreEntityCache;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -122,6 +125,57 @@ public class GcpDatastoreAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void testDescendantReadParallelismDefault() {
+		this.contextRunner.run((context) -> assertThat(context.getBean(DatastoreTemplate.class)
+				.getDescendantReadParallelism()).isEqualTo(1));
+	}
+
+	@Test
+	public void testDescendantReadParallelismSet() {
+		this.contextRunner.withPropertyValues("spring.cloud.gcp.datastore.descendant-read-parallelism=8")
+				.run((context) -> assertThat(context.getBean(DatastoreTemplate.class)
+						.getDescendantReadParallelism()).isEqualTo(8));
+	}
+
+	@Test
+	public void testWriteSettings() {
+		this.contextRunner.withPropertyValues("spring.cloud.gcp.datastore.max-write-size=100",
+				"spring.cloud.gcp.datastore.write-parallelism=4")
+				.run((context) -> {
+					DatastoreTemplate datastoreTemplate = context.getBean(DatastoreTemplate.class);
+					assertThat(datastoreTemplate.getMaxWriteSize()).isEqualTo(100);
+					assertThat(datastoreTemplate.getWriteParallelism()).isEqualTo(4);
+				});
+	}
+
+	@Test
+	public void testSkipUnchangedEntities() {
+		this.contextRunner.run((context) ->
+				assertThat(context.getBean(DatastoreTemplate.class).isSkipUnchangedEntities()).isFalse());
+		this.contextRunner.withPropertyValues("spring.cloud.gcp.datastore.skip-unchanged-entities=true")
+				.run((context) ->
+						assertThat(context.getBean(DatastoreTemplate.class).isSkipUnchangedEntities()).isTrue());
+	}
+
+	@Test
+	public void testEntityCacheEnabled() {
+		this.contextRunner.withPropertyValues("spring.cloud.gcp.datastore.entity-cache.enabled=true")
+				.run((context) -> {
+					DatastoreEntityCache entityCache = context.getBean(DatastoreEntityCache.class);
+					assertThat(entityCache).isInstanceOf(InMemoryDatastoreEntityCache.class);
+					assertThat(context.getBean(DatastoreTemplate.class).getEntityCache()).isSameAs(entityCache);
+				});
+	}
+
+	@Test
+	public void testEntityCacheDisabledByDefault() {
+		this.contextRunner.run((context) -> {
+			assertThat(context.getBeansOfType(DatastoreEntityCache.class)).isEmpty();
+			assertThat(context.getBean(DatastoreTemplate.class).getEntityCache()).isNull();
+		});
+	}
+
 	@Test
 	public void testDatastoreEmulatorCredentialsConfig() {
 		this.contextRunner.run((context) -> {
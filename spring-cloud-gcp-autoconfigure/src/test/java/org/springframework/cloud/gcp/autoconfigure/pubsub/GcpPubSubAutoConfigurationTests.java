@@ -16,16 +16,22 @@
 
 package org.springframework.cloud.gcp.autoconfigure.pubsub;
 
+import com.google.api.gax.batching.BatchingSettings;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
 import com.google.api.gax.rpc.TransportChannelProvider;
 import com.google.auth.Credentials;
+import com.google.cloud.pubsub.v1.Publisher;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.Test;
+import org.threeten.bp.Duration;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cloud.gcp.core.GcpProjectIdProvider;
+import org.springframework.cloud.gcp.pubsub.core.subscriber.PubSubSubscriberTemplate;
+import org.springframework.cloud.gcp.pubsub.support.PublisherFactory;
+import org.springframework.cloud.gcp.pubsub.support.SubscriberFactory;
 import org.springframework.context.annotation.Bean;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,6 +102,76 @@ public class GcpPubSubAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void ackBatching_disabledByDefault() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(GcpPubSubAutoConfiguration.class))
+				.withUserConfiguration(TestConfig.class);
+
+		contextRunner.run(ctx -> assertThat(ctx.containsBean("subscriberAckBatchSettings")).isFalse());
+	}
+
+	@Test
+	public void ackBatching_custom() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(GcpPubSubAutoConfiguration.class))
+				.withUserConfiguration(TestConfig.class)
+				.withPropertyValues("spring.cloud.gcp.pubsub.subscriber.ack-batching.enabled=true",
+						"spring.cloud.gcp.pubsub.subscriber.ack-batching.element-count-threshold=500",
+						"spring.cloud.gcp.pubsub.subscriber.ack-batching.request-byte-threshold=10000",
+						"spring.cloud.gcp.pubsub.subscriber.ack-batching.delay-threshold-millis=250");
+
+		contextRunner.run(ctx -> {
+			BatchingSettings settings = ctx.getBean("subscriberAckBatchSettings", BatchingSettings.class);
+			assertThat(settings.getElementCountThreshold()).isEqualTo(500);
+			assertThat(settings.getRequestByteThreshold()).isEqualTo(10000);
+			assertThat(settings.getDelayThreshold()).isEqualTo(Duration.ofMillis(250));
+		});
+	}
+
+	@Test
+	public void pullLeaseExtension_custom() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(GcpPubSubAutoConfiguration.class))
+				.withUserConfiguration(TestConfig.class)
+				.withPropertyValues("spring.cloud.gcp.pubsub.subscriber.pull-lease-extension.enabled=true",
+						"spring.cloud.gcp.pubsub.subscriber.pull-lease-extension.ack-deadline-seconds=30",
+						"spring.cloud.gcp.pubsub.subscriber.pull-lease-extension.max-extension-period-seconds=600");
+
+		contextRunner.run(ctx -> {
+			GcpPubSubProperties.PullLeaseExtension pullLeaseExtension =
+					ctx.getBean(GcpPubSubProperties.class).getSubscriber().getPullLeaseExtension();
+			assertThat(pullLeaseExtension.isEnabled()).isTrue();
+			assertThat(pullLeaseExtension.getAckDeadlineSeconds()).isEqualTo(30);
+			assertThat(pullLeaseExtension.getMaxExtensionPeriodSeconds()).isEqualTo(600);
+			assertThat(ctx).hasSingleBean(PubSubSubscriberTemplate.class);
+		});
+	}
+
+	@Test
+	public void perSubscriptionAndTopicSettings() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(GcpPubSubAutoConfiguration.class))
+				.withUserConfiguration(TestConfig.class)
+				.withPropertyValues("spring.cloud.gcp.pubsub.subscriber.flow-control.max-outstanding-element-count=10",
+						"spring.cloud.gcp.pubsub.subscription.firehose.flow-control.max-outstanding-element-count=1000",
+						"spring.cloud.gcp.pubsub.subscription.firehose.executor-threads=8",
+						"spring.cloud.gcp.pubsub.topic.firehose.batching.element-count-threshold=500",
+						"spring.cloud.gcp.pubsub.topic.firehose.batching.delay-threshold-seconds=1");
+
+		contextRunner.run(ctx -> {
+			SubscriberFactory subscriberFactory = ctx.getBean(SubscriberFactory.class);
+			assertThat(subscriberFactory.createSubscriber("firehose", (message, consumer) -> { })
+					.getFlowControlSettings().getMaxOutstandingElementCount()).isEqualTo(1000);
+			assertThat(subscriberFactory.createSubscriber("trickle", (message, consumer) -> { })
+					.getFlowControlSettings().getMaxOutstandingElementCount()).isEqualTo(10);
+
+			Publisher publisher = ctx.getBean(PublisherFactory.class).createPublisher("firehose");
+			assertThat(publisher.getBatchingSettings().getElementCountThreshold()).isEqualTo(500);
+			publisher.shutdown();
+		});
+	}
+
 	static class TestConfig {
 
 		@Bean
@@ -18,6 +18,8 @@ package org.springframework.cloud.gcp.autoconfigure.spanner;
 
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.auth.Credentials;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
@@ -25,10 +27,14 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cloud.gcp.autoconfigure.core.GcpContextAutoConfiguration;
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerOperations;
+import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTransactionManager;
 import org.springframework.cloud.gcp.data.spanner.core.admin.SpannerDatabaseAdminTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.admin.SpannerSchemaUtils;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.MicrometerSpannerMetricsRecorder;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerMetricsRecorder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 
@@ -46,7 +52,8 @@ public class GcpSpannerAutoConfigurationTests {
 	private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
 			.withConfiguration(AutoConfigurations.of(GcpSpannerAutoConfiguration.class,
 					GcpContextAutoConfiguration.class, SpannerTransactionManagerAutoConfiguration.class,
-					SpannerRepositoriesAutoConfiguration.class))
+					SpannerRepositoriesAutoConfiguration.class,
+					ReactiveSpannerRepositoriesAutoConfiguration.class))
 			.withUserConfiguration(TestConfiguration.class)
 			.withPropertyValues("spring.cloud.gcp.spanner.project-id=test-project",
 					"spring.cloud.gcp.spanner.instance-id=testInstance",
@@ -59,6 +66,63 @@ public class GcpSpannerAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void testBatchInterleavedReadsProperty() {
+		this.contextRunner.run((context) -> {
+			assertThat(context.getBean(SpannerTemplate.class).isBatchInterleavedReads()).isFalse();
+		});
+		this.contextRunner.withPropertyValues("spring.cloud.gcp.spanner.batch-interleaved-reads=true")
+				.run((context) -> {
+					assertThat(context.getBean(SpannerTemplate.class).isBatchInterleavedReads()).isTrue();
+				});
+	}
+
+	@Test
+	public void testBulkWriteProperties() {
+		this.contextRunner.withPropertyValues("spring.cloud.gcp.spanner.bulk-write-max-mutations=20000",
+				"spring.cloud.gcp.spanner.bulk-write-parallelism=4")
+				.run((context) -> {
+					SpannerTemplate spannerTemplate = context.getBean(SpannerTemplate.class);
+					assertThat(spannerTemplate.getBulkWriteMaxMutations()).isEqualTo(20000);
+					assertThat(spannerTemplate.getBulkWriteParallelism()).isEqualTo(4);
+				});
+	}
+
+	@Test
+	public void testBatchClientProviderCreated() {
+		this.contextRunner.run((context) -> {
+			assertThat(context.getBean("batchClientProvider")).isNotNull();
+		});
+	}
+
+	@Test
+	public void testMetricsRecorderWithMeterRegistry() {
+		this.contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+				.run((context) -> {
+					SpannerMetricsRecorder metricsRecorder = context.getBean(SpannerMetricsRecorder.class);
+					assertThat(metricsRecorder).isInstanceOf(MicrometerSpannerMetricsRecorder.class);
+					assertThat(context.getBean(SpannerTemplate.class).getMetricsRecorder())
+							.isSameAs(metricsRecorder);
+				});
+	}
+
+	@Test
+	public void testMetricsRecorderDisabled() {
+		this.contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+				.withPropertyValues("spring.cloud.gcp.spanner.metrics.enabled=false")
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(SpannerMetricsRecorder.class);
+					assertThat(context.getBean(SpannerTemplate.class).getMetricsRecorder()).isNull();
+				});
+	}
+
+	@Test
+	public void testNoMetricsRecorderWithoutMeterRegistry() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).doesNotHaveBean(SpannerMetricsRecorder.class);
+		});
+	}
+
 	@Test
 	public void testTestRepositoryCreated() {
 		this.contextRunner.run((context) -> {
@@ -66,6 +130,30 @@ public class GcpSpannerAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void testReactiveSpannerTemplateCreated() {
+		this.contextRunner.run((context) -> {
+			assertThat(context.getBean(ReactiveSpannerTemplate.class)).isNotNull();
+		});
+	}
+
+	@Test
+	public void testReactiveSpannerTemplateNotCreatedWithoutReactor() {
+		this.contextRunner
+				.withClassLoader(new FilteredClassLoader("reactor.core"))
+				.run((context) -> {
+					assertThat(context.getBeansOfType(ReactiveSpannerTemplate.class)).isEmpty();
+					assertThat(context.getBeansOfType(TestReactiveRepository.class)).isEmpty();
+				});
+	}
+
+	@Test
+	public void testTestReactiveRepositoryCreated() {
+		this.contextRunner.run((context) -> {
+			assertThat(context.getBean(TestReactiveRepository.class)).isNotNull();
+		});
+	}
+
 	@Test
 	public void testDatabaseAdminClientCreated() {
 		this.contextRunner.run((context) -> {
@@ -19,6 +19,7 @@ package org.springframework.cloud.gcp.data.datastore.core;
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.google.cloud.datastore.BaseEntity;
 import com.google.cloud.datastore.Key;
@@ -116,7 +117,8 @@ public interface DatastoreOperations {
 	<T> void deleteAll(Iterable<T> entities);
 
 	/**
-	 * Delete all entities of a given domain type.
+	 * Delete all entities of a given domain type. The keys are deleted in batches of the
+	 * max write size as they are read, with delete events published for each batch.
 	 * @param entityClass the domain type to delete from Cloud Datastore.
 	 * @return the number of entities that were deleted.
 	 */
@@ -150,6 +152,22 @@ public interface DatastoreOperations {
 	 */
 	<T> Iterable<T> query(Query<? extends BaseEntity> query, Class<T> entityClass);
 
+	/**
+	 * Finds objects by using a Cloud Datastore query, converting them lazily as the
+	 * returned stream is consumed. Further batches of results are fetched with the query
+	 * cursor only when they are needed, so a stream over a whole kind can be consumed in
+	 * constant memory. Within a transaction the stream has to be consumed before the
+	 * transaction ends. Instead of a single {@code AfterQueryEvent} with all results, one
+	 * is published for each batch of results as it is converted, so no event is published
+	 * for results that are never consumed.
+	 * @param query the query to execute.
+	 * @param entityClass the type of object to retrieve.
+	 * @param <T> the type of object to retrieve.
+	 * @return a stream of the found entities.
+	 * @since 1.2.8
+	 */
+	<T> Stream<T> queryStream(Query<? extends BaseEntity> query, Class<T> entityClass);
+
 	/**
 	 * Runs given query and applies given function to each entity in the result.
 	 * @param query the query to run.
@@ -240,6 +258,14 @@ public interface DatastoreOperations {
 	 */
 	Key createKey(Class aClass, Object id);
 
+	/**
+	 * Get the namespace the operations currently run in, which may change from request to
+	 * request if a namespace provider is used.
+	 * @return the namespace, or {@code null} if it is not known.
+	 * @since 1.2.8
+	 */
+	String getNamespace();
+
 	/**
 	 * Create a {@link com.google.cloud.datastore.Key} from id property of an entity object.
 	 * @param entity the Cloud Datastore entity object
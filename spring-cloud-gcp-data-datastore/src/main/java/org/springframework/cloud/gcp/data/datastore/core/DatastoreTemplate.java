@@ -17,20 +17,37 @@
 package org.springframework.cloud.gcp.data.datastore.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.google.cloud.datastore.BaseEntity;
@@ -55,10 +72,14 @@ import com.google.cloud.datastore.QueryResults;
 import com.google.cloud.datastore.StructuredQuery;
 import com.google.cloud.datastore.StructuredQuery.Filter;
 import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.cloud.datastore.Transaction;
 import com.google.cloud.datastore.Value;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gcp.data.datastore.core.cache.DatastoreEntityCache;
 import org.springframework.cloud.gcp.data.datastore.core.convert.DatastoreEntityConverter;
 import org.springframework.cloud.gcp.data.datastore.core.convert.ObjectToKeyFactory;
+import org.springframework.cloud.gcp.data.datastore.core.mapping.CachedEntity;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreDataException;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreMappingContext;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastorePersistentEntity;
@@ -88,6 +109,8 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.TypeUtils;
@@ -100,7 +123,30 @@ import org.springframework.util.TypeUtils;
  *
  * @since 1.1
  */
-public class DatastoreTemplate implements DatastoreOperations, ApplicationEventPublisherAware {
+public class DatastoreTemplate implements DatastoreOperations, ApplicationEventPublisherAware, DisposableBean {
+
+	/**
+	 * The maximum number of keys Cloud Datastore accepts in a single lookup.
+	 */
+	private static final int MAX_KEYS_PER_LOOKUP = 1000;
+
+	/**
+	 * The number of entities of a stream that are converted together, sharing the lookups
+	 * of their references.
+	 */
+	private static final int STREAM_CONVERSION_BATCH_SIZE = 100;
+
+	/**
+	 * The maximum number of entities whose last read or written state is remembered to
+	 * skip unchanged entities on save.
+	 */
+	private static final int MAX_SAVED_STATES = 10000;
+
+	/**
+	 * The number of stripes keys are hashed into to count the evictions from the entity
+	 * cache.
+	 */
+	private static final int CACHE_EVICTION_STRIPES = 64;
 
 	private int maxWriteSize = 500;
 
@@ -114,6 +160,46 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
 	private @Nullable ApplicationEventPublisher eventPublisher;
 
+	private int descendantReadParallelism = 1;
+
+	private @Nullable Executor readExecutor;
+
+	private int writeParallelism = 1;
+
+	private @Nullable Executor writeExecutor;
+
+	private @Nullable ExecutorService defaultExecutor;
+
+	// the template whose default executor is used instead of creating one, set for the
+	// templates of transactions run by that template.
+	private @Nullable DatastoreTemplate defaultExecutorOwner;
+
+	private @Nullable DatastoreEntityCache entityCache;
+
+	// the number of evictions from the entity cache per stripe of keys, so that a lookup
+	// racing with a write does not cache what it read before the write. Shared with the
+	// templates of transactions run by this one.
+	private AtomicLongArray cacheEvictions = new AtomicLongArray(CACHE_EVICTION_STRIPES);
+
+	// whether the entities of each kind looked up with the entity cache may be cached.
+	private final Map<String, Boolean> cachedKinds = new ConcurrentHashMap<>();
+
+	private boolean skipUnchangedEntities;
+
+	// the Datastore entities last read or written by key, used to skip unchanged entities
+	// on save. Shared with the templates of transactions run by this one.
+	private Map<Key, Entity> savedStates = Collections.synchronizedMap(
+			new LinkedHashMap<Key, Entity>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, Entity> eldest) {
+					return size() > MAX_SAVED_STATES;
+				}
+			});
+
+	// the actions to run once the transaction of a template created by performTransaction
+	// commits.
+	private @Nullable List<Runnable> afterCommitActions;
+
 	public DatastoreTemplate(Supplier<? extends DatastoreReaderWriter> datastore,
 			DatastoreEntityConverter datastoreEntityConverter,
 			DatastoreMappingContext datastoreMappingContext,
@@ -141,6 +227,153 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		this.eventPublisher = applicationEventPublisher;
 	}
 
+	/**
+	 * Sets how many {@code @Descendants} ancestor queries may run concurrently when
+	 * several entities are read at once. The queries for all entities of a result are
+	 * issued up front, and the descendants are distributed to their parents afterwards.
+	 * Defaults to {@code 1}, which runs the queries one after another as each entity is
+	 * converted.
+	 * @param descendantReadParallelism the maximum number of concurrent descendant
+	 * queries.
+	 * @since 1.2.8
+	 */
+	public void setDescendantReadParallelism(int descendantReadParallelism) {
+		Assert.isTrue(descendantReadParallelism > 0, "The descendant read parallelism must be positive.");
+		this.descendantReadParallelism = descendantReadParallelism;
+	}
+
+	public int getDescendantReadParallelism() {
+		return this.descendantReadParallelism;
+	}
+
+	/**
+	 * Sets the executor on which concurrent descendant queries and the chunks of lookups
+	 * exceeding {@value #MAX_KEYS_PER_LOOKUP} keys run. Defaults to a pool of daemon
+	 * threads, one per available processor, that is shared with the writes, created when
+	 * first needed and shut down when this template is destroyed.
+	 * @param readExecutor the executor to use.
+	 * @since 1.2.8
+	 * @see #setDescendantReadParallelism(int)
+	 */
+	public synchronized void setReadExecutor(Executor readExecutor) {
+		Assert.notNull(readExecutor, "A valid executor is required.");
+		this.readExecutor = readExecutor;
+	}
+
+	/**
+	 * Sets the maximum number of entities or keys sent in a single put or delete call.
+	 * Larger writes are split into slices of this size. Defaults to {@code 500}, the
+	 * maximum number of mutations Cloud Datastore accepts in a single commit.
+	 * @param maxWriteSize the maximum number of entities or keys per write call.
+	 * @since 1.2.8
+	 */
+	public void setMaxWriteSize(int maxWriteSize) {
+		Assert.isTrue(maxWriteSize > 0, "The max write size must be positive.");
+		this.maxWriteSize = maxWriteSize;
+	}
+
+	public int getMaxWriteSize() {
+		return this.maxWriteSize;
+	}
+
+	/**
+	 * Sets how many slices of a write larger than the max write size may be sent
+	 * concurrently. Writes within a transaction are always sent one slice after another.
+	 * Defaults to {@code 1}.
+	 * @param writeParallelism the maximum number of concurrent write calls.
+	 * @since 1.2.8
+	 * @see #setMaxWriteSize(int)
+	 */
+	public void setWriteParallelism(int writeParallelism) {
+		Assert.isTrue(writeParallelism > 0, "The write parallelism must be positive.");
+		this.writeParallelism = writeParallelism;
+	}
+
+	public int getWriteParallelism() {
+		return this.writeParallelism;
+	}
+
+	/**
+	 * Sets the executor on which concurrent write slices are sent. Defaults to a pool of
+	 * daemon threads, one per available processor, that is shared with the reads, created
+	 * when first needed and shut down when this template is destroyed.
+	 * @param writeExecutor the executor to use.
+	 * @since 1.2.8
+	 * @see #setWriteParallelism(int)
+	 */
+	public synchronized void setWriteExecutor(Executor writeExecutor) {
+		Assert.notNull(writeExecutor, "A valid executor is required.");
+		this.writeExecutor = writeExecutor;
+	}
+
+	private synchronized Executor getReadExecutor() {
+		return (this.readExecutor != null) ? this.readExecutor : getDefaultExecutor();
+	}
+
+	private synchronized Executor getWriteExecutor() {
+		return (this.writeExecutor != null) ? this.writeExecutor : getDefaultExecutor();
+	}
+
+	private synchronized Executor getDefaultExecutor() {
+		if (this.defaultExecutorOwner != null) {
+			return this.defaultExecutorOwner.getDefaultExecutor();
+		}
+		if (this.defaultExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("datastore-");
+			threadFactory.setDaemon(true);
+			int threads = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+			this.defaultExecutor = executor;
+		}
+		return this.defaultExecutor;
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (this.defaultExecutor != null) {
+			this.defaultExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Sets the cache consulted before looking up entities of kinds annotated with
+	 * {@link CachedEntity} by key. Saved and deleted entities are evicted from it. Reads
+	 * within a transaction always go to Cloud Datastore. Defaults to no cache.
+	 * @param entityCache the cache to use, or {@code null} to disable caching.
+	 * @since 1.2.8
+	 */
+	public void setEntityCache(@Nullable DatastoreEntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	@Nullable
+	public DatastoreEntityCache getEntityCache() {
+		return this.entityCache;
+	}
+
+	/**
+	 * Sets whether saves only write the entities of an object graph whose Cloud Datastore
+	 * representation differs from the one last read or saved by this template under the
+	 * same key. The {@code @Descendants} and {@code @Reference} entities of saved objects
+	 * are still visited, but unchanged ones are not written. Entities whose keys were not
+	 * read or saved through this template, or not among the last
+	 * {@value #MAX_SAVED_STATES} that were, are always written. Writes within a
+	 * transaction are only remembered once it commits. Changes made by other writers are not
+	 * detected, so this should only be enabled if this template is the only writer of the
+	 * entities it saves. Defaults to {@code false}.
+	 * @param skipUnchangedEntities whether unchanged entities are skipped on save.
+	 * @since 1.2.8
+	 */
+	public void setSkipUnchangedEntities(boolean skipUnchangedEntities) {
+		this.skipUnchangedEntities = skipUnchangedEntities;
+	}
+
+	public boolean isSkipUnchangedEntities() {
+		return this.skipUnchangedEntities;
+	}
+
 	@Override
 	public <T> T findById(Object id, Class<T> entityClass) {
 		Iterator<T> results = performFindByKey(Collections.singleton(id), entityClass).iterator();
@@ -169,6 +402,7 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 	}
 
 	private <T> List<Entity> getEntitiesForSave(Iterable<T> entities, Set<Key> persisted, Key... ancestors) {
+		allocateMissingKeys(entities, ancestors);
 		List<Entity> entitiesForSave = new LinkedList<>();
 		for (T entity : entities) {
 			Key key = getKey(entity, true, ancestors);
@@ -180,12 +414,43 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		return entitiesForSave;
 	}
 
+	/**
+	 * Allocates the IDs of all given entities that do not have one yet with one call per
+	 * kind, instead of one call per entity.
+	 * @param entities the entities to be saved.
+	 * @param ancestors the ancestors shared by the entities.
+	 */
+	private <T> void allocateMissingKeys(Iterable<T> entities, Key... ancestors) {
+		Map<DatastorePersistentEntity<?>, List<Object>> entitiesWithoutId = new LinkedHashMap<>();
+		Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (T entity : entities) {
+			if (entity == null || !seen.add(entity)) {
+				continue;
+			}
+			DatastorePersistentEntity<?> datastorePersistentEntity = this.datastoreMappingContext
+					.getPersistentEntity(entity.getClass());
+			if (datastorePersistentEntity.getPropertyAccessor(entity)
+					.getProperty(datastorePersistentEntity.getIdPropertyOrFail()) == null) {
+				entitiesWithoutId.computeIfAbsent(datastorePersistentEntity, (x) -> new ArrayList<>()).add(entity);
+			}
+		}
+		entitiesWithoutId.forEach((datastorePersistentEntity, kindEntities) -> {
+			if (kindEntities.size() > 1) {
+				this.objectToKeyFactory.allocateKeysForObjects(kindEntities, datastorePersistentEntity, ancestors);
+			}
+		});
+	}
+
 	private <T> void saveEntities(List<T> instances, Key[] ancestors) {
 		if (!instances.isEmpty()) {
 			maybeEmitEvent(new BeforeSaveEvent(instances));
 			List<Entity> entities = getEntitiesForSave(instances, new HashSet<>(), ancestors);
-			SliceUtil.sliceAndExecute(
-					entities.toArray(new Entity[0]), this.maxWriteSize, getDatastoreReadWriter()::put);
+			DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+			sliceAndExecute(entities.toArray(new Entity[0]), datastoreReaderWriter, datastoreReaderWriter::put);
+			evictFromCache(entities.stream().map(Entity::getKey).collect(Collectors.toList()));
+			if (this.skipUnchangedEntities) {
+				rememberSavedStates(entities);
+			}
 			maybeEmitEvent(new AfterSaveEvent(entities, instances));
 		}
 	}
@@ -213,20 +478,53 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
 	@Override
 	public long deleteAll(Class<?> entityClass) {
-		Key[] keysToDelete = findAllKeys(entityClass);
+		// keys are deleted page by page as the keys-only query streams them, so that the keys
+		// of a whole kind are never held in memory at once.
+		List<Key> batch = new ArrayList<>();
+		long[] deleted = new long[1];
+		findAllKeys(entityClass).forEachRemaining((key) -> {
+			batch.add(key);
+			if (batch.size() == this.maxWriteSize) {
+				deleted[0] += deleteBatch(batch, entityClass);
+			}
+		});
+		if (!batch.isEmpty() || deleted[0] == 0) {
+			deleted[0] += deleteBatch(batch, entityClass);
+		}
+		return deleted[0];
+	}
+
+	private int deleteBatch(List<Key> batch, Class<?> entityClass) {
+		Key[] keysToDelete = batch.toArray(new Key[0]);
+		batch.clear();
 		performDelete(keysToDelete, null, null, entityClass);
 		return keysToDelete.length;
 	}
 
 	private void performDelete(Key[] keys, Iterable ids, Iterable entities, Class entityClass) {
 		maybeEmitEvent(new BeforeDeleteEvent(keys, entityClass, ids, entities));
-		SliceUtil.sliceAndExecute(keys, this.maxWriteSize, getDatastoreReadWriter()::delete);
+		DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+		sliceAndExecute(keys, datastoreReaderWriter, datastoreReaderWriter::delete);
+		evictFromCache(Arrays.asList(keys));
+		forgetSavedStates(Arrays.asList(keys));
 		maybeEmitEvent(new AfterDeleteEvent(keys, entityClass, ids, entities));
 	}
 
+	private <T> void sliceAndExecute(T[] elements, DatastoreReaderWriter datastoreReaderWriter,
+			Consumer<T[]> write) {
+		// a transaction is not shared across threads, so only plain writes are sent concurrently.
+		if (!(datastoreReaderWriter instanceof Datastore) || this.writeParallelism <= 1) {
+			SliceUtil.sliceAndExecute(elements, this.maxWriteSize, write);
+			return;
+		}
+		SliceUtil.sliceAndExecute(elements, this.maxWriteSize, this.writeParallelism, getWriteExecutor(), write);
+	}
+
 	@Override
 	public long count(Class<?> entityClass) {
-		return findAllKeys(entityClass).length;
+		long[] count = new long[1];
+		findAllKeys(entityClass).forEachRemaining((key) -> count[0]++);
+		return count[0];
 	}
 
 	@Override
@@ -242,19 +540,152 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 	}
 
 	private <T> List<T> findAllById(Set<Key> keys, Class<T> entityClass, ReadContext context) {
+		// registers the entity class, whose kind may be looked up in the entity cache.
+		this.datastoreMappingContext.getPersistentEntity(entityClass);
 		List<Key> missingKeys = keys.stream().filter(context::notCached).collect(Collectors.toList());
 
-		if (!missingKeys.isEmpty()) {
-			List<Entity> entities = getDatastoreReadWriter().fetch(missingKeys.toArray(new Key[] {}));
-			Assert.isTrue(missingKeys.size() == entities.size(), "Fetched incorrect number of entities");
+		fetchIntoContext(missingKeys, context);
+
+		return convertEntitiesForRead(keys, entityClass, context);
+	}
 
-			for (int i = 0; i < missingKeys.size(); i++) {
-				BaseKey key = missingKeys.get(i);
-				context.putReadEntity(key, entities.get(i));
+	private void fetchIntoContext(List<Key> keys, ReadContext context) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		// a transaction must see its own snapshot, so the cache is only used outside of one.
+		DatastoreEntityCache cache = (getDatastoreReadWriter() instanceof Datastore) ? this.entityCache : null;
+		List<Key> keysToFetch = keys;
+		Map<Key, Long> evictionsBeforeLookup = Collections.emptyMap();
+		if (cache != null) {
+			keysToFetch = new ArrayList<>();
+			evictionsBeforeLookup = new HashMap<>();
+			for (Key key : keys) {
+				Entity cached = null;
+				if (isCachedKind(key.getKind())) {
+					evictionsBeforeLookup.put(key, getCacheEvictions(key));
+					cached = cache.get(key);
+				}
+				if (cached != null) {
+					context.putReadEntity(key, cached);
+				}
+				else {
+					keysToFetch.add(key);
+				}
+			}
+			if (keysToFetch.isEmpty()) {
+				return;
+			}
+		}
+		List<Entity> entities = fetch(keysToFetch);
+		Assert.isTrue(keysToFetch.size() == entities.size(), "Fetched incorrect number of entities");
+
+		for (int i = 0; i < keysToFetch.size(); i++) {
+			Key key = keysToFetch.get(i);
+			Entity entity = entities.get(i);
+			context.putReadEntity(key, entity);
+			Long evictions = evictionsBeforeLookup.get(key);
+			if (entity != null && evictions != null) {
+				cache.put(key, entity);
+				// the entity may have been written and evicted since it was looked up, in which
+				// case what was read could be stale. Either the eviction happened before this
+				// check, or it happens after the put and removes the entity itself.
+				if (getCacheEvictions(key) != evictions) {
+					cache.evict(key);
+				}
 			}
 		}
+	}
 
-		return convertEntitiesForRead(keys, entityClass, context);
+	private long getCacheEvictions(Key key) {
+		return this.cacheEvictions.get(Math.floorMod(key.hashCode(), CACHE_EVICTION_STRIPES));
+	}
+
+	private boolean isCachedKind(String kind) {
+		// the entity classes of looked up keys, and the classes they reference, are known to
+		// the mapping context by the time of the lookup, so negative answers are final too.
+		return this.cachedKinds.computeIfAbsent(kind, (unused) -> this.datastoreMappingContext
+				.getPersistentEntities().stream()
+				.anyMatch((persistentEntity) -> kind.equals(persistentEntity.kindName())
+						&& persistentEntity.getType().isAnnotationPresent(CachedEntity.class)));
+	}
+
+	private void evictFromCache(Collection<Key> keys) {
+		DatastoreEntityCache cache = this.entityCache;
+		if (cache != null) {
+			keys.forEach((key) -> evictFromCache(cache, key));
+			// reads outside of the transaction may cache the entities again until it commits.
+			runAfterCommit(() -> keys.forEach((key) -> evictFromCache(cache, key)));
+		}
+	}
+
+	private void evictFromCache(DatastoreEntityCache cache, Key key) {
+		// counted before evicting, so that lookups caching the entity concurrently notice.
+		this.cacheEvictions.incrementAndGet(Math.floorMod(key.hashCode(), CACHE_EVICTION_STRIPES));
+		cache.evict(key);
+	}
+
+	/**
+	 * Runs the given action once the transaction this template writes in commits. Nothing
+	 * is run if there is no transaction or it does not commit.
+	 * @param action the action to run.
+	 */
+	private void runAfterCommit(Runnable action) {
+		if (this.afterCommitActions != null) {
+			this.afterCommitActions.add(action);
+		}
+		else if (TransactionSynchronizationManager.isSynchronizationActive()
+				&& !(getDatastoreReadWriter() instanceof Datastore)) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		}
+	}
+
+	private void rememberSavedStates(List<Entity> entities) {
+		if (getDatastoreReadWriter() instanceof Datastore) {
+			entities.forEach((entity) -> this.savedStates.put(entity.getKey(), entity));
+		}
+		else {
+			// transactional writes only take effect on commit, and until then the states of
+			// their keys are unknown.
+			forgetSavedStates(entities.stream().map(Entity::getKey).collect(Collectors.toList()));
+			runAfterCommit(() -> entities.forEach((entity) -> this.savedStates.put(entity.getKey(), entity)));
+		}
+	}
+
+	private void forgetSavedStates(Collection<Key> keys) {
+		keys.forEach(this.savedStates::remove);
+		// reads outside of the transaction may remember the states again until it commits.
+		runAfterCommit(() -> keys.forEach(this.savedStates::remove));
+	}
+
+	/**
+	 * Looks up entities by key, splitting the keys into chunks of at most
+	 * {@value #MAX_KEYS_PER_LOOKUP} that are looked up concurrently on the read executor.
+	 * @param keys the keys to look up.
+	 * @return the entities in the order of the keys, with {@code null} for missing ones.
+	 */
+	private List<Entity> fetch(List<Key> keys) {
+		// the transaction is bound to this thread, so it is looked up before handing off.
+		DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+		if (keys.size() <= MAX_KEYS_PER_LOOKUP) {
+			return datastoreReaderWriter.fetch(keys.toArray(new Key[0]));
+		}
+		Executor readExecutor = getReadExecutor();
+		List<CompletableFuture<List<Entity>>> chunks = new ArrayList<>();
+		for (int start = 0; start < keys.size(); start += MAX_KEYS_PER_LOOKUP) {
+			Key[] chunk = keys.subList(start, Math.min(start + MAX_KEYS_PER_LOOKUP, keys.size()))
+					.toArray(new Key[0]);
+			chunks.add(CompletableFuture.supplyAsync(() -> datastoreReaderWriter.fetch(chunk), readExecutor));
+		}
+		SliceUtil.join(chunks.toArray(new CompletableFuture<?>[0]));
+		List<Entity> entities = new ArrayList<>(keys.size());
+		chunks.forEach((chunk) -> entities.addAll(chunk.join()));
+		return entities;
 	}
 
 	@Override
@@ -267,6 +698,33 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 				: null;
 	}
 
+	@Override
+	public <T> Stream<T> queryStream(Query<? extends BaseEntity> query, Class<T> entityClass) {
+		QueryResults<? extends BaseEntity> results = getDatastoreReadWriter().run(query);
+		Iterator<List<T>> batches = new Iterator<List<T>>() {
+			@Override
+			public boolean hasNext() {
+				return results.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				List<BaseEntity> batch = new ArrayList<>();
+				while (batch.size() < STREAM_CONVERSION_BATCH_SIZE && results.hasNext()) {
+					batch.add(results.next());
+				}
+				List<T> convertedBatch = convertEntitiesForRead(batch.iterator(), entityClass);
+				maybeEmitEvent(new AfterQueryEvent(convertedBatch, query));
+				return convertedBatch;
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+				.flatMap(List::stream);
+	}
+
 	@Override
 	public <T> Slice<Key> queryKeysSlice(KeyQuery query, Class<T> entityClass, Pageable pageable) {
 		return buildSlice(query, pageable, Key.class);
@@ -431,16 +889,37 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 							+ " object is required to run functions as transactions. Ensure that this method "
 							+ "was not called in an ongoing transaction.");
 		}
-		return ((Datastore) getDatastoreReadWriter())
+		List<Runnable> afterCommitActions = new ArrayList<>();
+		A result = ((Datastore) getDatastoreReadWriter())
 				.runInTransaction(
 				(DatastoreReaderWriter readerWriter) -> {
+					// only the actions of the attempt that is committed are run.
+					afterCommitActions.clear();
 					DatastoreTemplate template = new DatastoreTemplate(() -> readerWriter,
 							DatastoreTemplate.this.datastoreEntityConverter,
 							DatastoreTemplate.this.datastoreMappingContext,
 							DatastoreTemplate.this.objectToKeyFactory);
 					template.setApplicationEventPublisher(DatastoreTemplate.this.eventPublisher);
+					template.setEntityCache(DatastoreTemplate.this.entityCache);
+					template.setSkipUnchangedEntities(DatastoreTemplate.this.skipUnchangedEntities);
+					template.setDescendantReadParallelism(DatastoreTemplate.this.descendantReadParallelism);
+					template.setMaxWriteSize(DatastoreTemplate.this.maxWriteSize);
+					template.setWriteParallelism(DatastoreTemplate.this.writeParallelism);
+					template.savedStates = DatastoreTemplate.this.savedStates;
+					template.cacheEvictions = DatastoreTemplate.this.cacheEvictions;
+					// the executors of this template are shared so that the transaction does not
+					// create a pool of its own that would never be shut down. The default pool
+					// is still only created once it is needed.
+					synchronized (DatastoreTemplate.this) {
+						template.readExecutor = DatastoreTemplate.this.readExecutor;
+						template.writeExecutor = DatastoreTemplate.this.writeExecutor;
+					}
+					template.defaultExecutorOwner = DatastoreTemplate.this;
+					template.afterCommitActions = afterCommitActions;
 					return operations.apply(template);
 				});
+		afterCommitActions.forEach(Runnable::run);
+		return result;
 	}
 
 	@Override
@@ -463,6 +942,8 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 						builder.set(key, this.datastoreEntityConverter.getConversions().convertOnWriteSingle(value)));
 		Entity entity = builder.build();
 		getDatastoreReadWriter().put(entity);
+		evictFromCache(Collections.singletonList(datastoreKey));
+		forgetSavedStates(Collections.singletonList(datastoreKey));
 	}
 
 	@Override
@@ -476,6 +957,18 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 				this.datastoreMappingContext.getPersistentEntity(aClass).kindName());
 	}
 
+	@Override
+	public String getNamespace() {
+		DatastoreReaderWriter datastoreReaderWriter = this.datastore.get();
+		// the templates of transactions run by this one read and write through the transaction.
+		if (datastoreReaderWriter instanceof Transaction) {
+			datastoreReaderWriter = ((Transaction) datastoreReaderWriter).getDatastore();
+		}
+		return (datastoreReaderWriter instanceof Datastore)
+				? ((Datastore) datastoreReaderWriter).getOptions().getNamespace()
+				: null;
+	}
+
 
 	private static StructuredQuery.OrderBy createOrderBy(DatastorePersistentEntity<?> persistentEntity,
 			Sort.Order order) {
@@ -504,7 +997,10 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		this.datastoreEntityConverter.write(entity, builder);
 		entitiesToSave.addAll(getDescendantEntitiesForSave(entity, key, persistedEntities));
 		entitiesToSave.addAll(getReferenceEntitiesForSave(entity, builder, persistedEntities));
-		entitiesToSave.add(builder.build());
+		Entity converted = builder.build();
+		if (!this.skipUnchangedEntities || !converted.equals(this.savedStates.get(key))) {
+			entitiesToSave.add(converted);
+		}
 		return entitiesToSave;
 	}
 
@@ -555,7 +1051,8 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 						//we can be sure that the property is an array or an iterable,
 						//because we check it in isDescendant
 						entitiesToSave
-								.addAll(getEntitiesForSave((Iterable<?>) ValueUtil.toListIfArray(val), persistedEntities, key));
+								.addAll(getEntitiesForSave((Iterable<?>) ValueUtil.toListIfArray(val), persistedEntities,
+										key));
 					}
 				});
 		return entitiesToSave;
@@ -617,6 +1114,9 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		DatastorePersistentEntity datastorePersistentEntity = this.datastoreMappingContext
 				.getPersistentEntity(entityClass);
 
+		prefetchDescendants(datastorePersistentEntity, keys, context);
+		prefetchReferences(datastorePersistentEntity, keys, context);
+
 		return keys.stream()
 				.map((key) -> convertEntityResolveDescendantsAndReferences(entityClass,
 				datastorePersistentEntity,
@@ -645,6 +1145,10 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 			if (convertedObject != null) {
 				resolveDescendantProperties(datastorePersistentEntity, readEntity, convertedObject, context);
 				resolveReferenceProperties(datastorePersistentEntity, readEntity, convertedObject, context);
+				// projections are partial, so only full entities are remembered.
+				if (this.skipUnchangedEntities && readEntity instanceof Entity) {
+					this.savedStates.put(((Entity) readEntity).getKey(), (Entity) readEntity);
+				}
 			}
 		}
 
@@ -738,16 +1242,13 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 							.getComponentType();
 
 					Key entityKey = (Key) entity.getKey();
-					Key ancestorKey = KeyUtil.getKeyWithoutAncestors(entityKey);
-
-					EntityQuery descendantQuery = Query.newEntityQueryBuilder()
-							.setKind(this.datastoreMappingContext
-									.getPersistentEntity(descendantType).kindName())
-							.setFilter(PropertyFilter.hasAncestor(ancestorKey))
-							.build();
+					List<Entity> prefetched = context.removePrefetchedDescendants(entityKey,
+							descendantPersistentProperty);
 
-					List entities = convertEntitiesForRead(
-							getDatastoreReadWriter().run(descendantQuery), descendantType, context);
+					List entities = convertEntitiesForRead((prefetched != null)
+							? prefetched.iterator()
+							: getDatastoreReadWriter().run(getDescendantQuery(entityKey, descendantType)),
+							descendantType, context);
 
 					datastorePersistentEntity.getPropertyAccessor(convertedObject)
 							.setProperty(descendantPersistentProperty,
@@ -760,6 +1261,113 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 				});
 	}
 
+	private EntityQuery getDescendantQuery(Key entityKey, Class descendantType) {
+		Key ancestorKey = KeyUtil.getKeyWithoutAncestors(entityKey);
+		return Query.newEntityQueryBuilder()
+				.setKind(this.datastoreMappingContext
+						.getPersistentEntity(descendantType).kindName())
+				.setFilter(PropertyFilter.hasAncestor(ancestorKey))
+				.build();
+	}
+
+	/**
+	 * Runs the descendant queries of all given entities that are about to be converted on
+	 * the descendant read executor, and keeps their results in the read context until the
+	 * entities are converted.
+	 * @param datastorePersistentEntity the metadata of the entities.
+	 * @param keys the keys of the entities.
+	 * @param context the read context holding the entities.
+	 */
+	private void prefetchDescendants(DatastorePersistentEntity<?> datastorePersistentEntity,
+			Collection<? extends BaseKey> keys, ReadContext context) {
+		if (this.descendantReadParallelism <= 1 || keys.size() < 2) {
+			return;
+		}
+		List<PersistentProperty<?>> descendantProperties = new ArrayList<>();
+		datastorePersistentEntity.doWithDescendantProperties(descendantProperties::add);
+		if (descendantProperties.isEmpty()) {
+			return;
+		}
+
+		List<DescendantRead> reads = new ArrayList<>();
+		for (BaseKey key : keys) {
+			BaseEntity readEntity = context.getReadEntity(key);
+			if (readEntity != null && !context.converted(key)) {
+				Key entityKey = (Key) readEntity.getKey();
+				for (PersistentProperty<?> descendantProperty : descendantProperties) {
+					reads.add(new DescendantRead(entityKey, descendantProperty,
+							getDescendantQuery(entityKey, descendantProperty.getComponentType())));
+				}
+			}
+		}
+		if (reads.size() < 2) {
+			return;
+		}
+
+		// the transaction is bound to this thread, so it is looked up before handing off.
+		DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+		int lanes = Math.min(this.descendantReadParallelism, reads.size());
+		Executor readExecutor = getReadExecutor();
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[lanes];
+		for (int lane = 0; lane < lanes; lane++) {
+			int firstRead = lane;
+			futures[lane] = CompletableFuture.runAsync(() -> {
+				for (int i = firstRead; i < reads.size(); i += lanes) {
+					DescendantRead read = reads.get(i);
+					datastoreReaderWriter.run(read.query).forEachRemaining(read.results::add);
+				}
+			}, readExecutor);
+		}
+		SliceUtil.join(futures);
+		reads.forEach((read) -> context.putPrefetchedDescendants(read.entityKey, read.property, read.results));
+	}
+
+	/**
+	 * Looks up the entities referenced by eagerly loaded {@code @Reference} properties of
+	 * all given entities that are about to be converted, so that resolving the references
+	 * of each entity finds them in the read context instead of looking them up one by one.
+	 * @param datastorePersistentEntity the metadata of the entities.
+	 * @param keys the keys of the entities.
+	 * @param context the read context holding the entities.
+	 */
+	private void prefetchReferences(DatastorePersistentEntity<?> datastorePersistentEntity,
+			Collection<? extends BaseKey> keys, ReadContext context) {
+		Set<Key> referencedKeys = new LinkedHashSet<>();
+		datastorePersistentEntity.doWithAssociations((AssociationHandler<DatastorePersistentProperty>) (association) -> {
+			DatastorePersistentProperty referenceProperty = association.getInverse();
+			if (referenceProperty.isLazyLoaded()) {
+				return;
+			}
+			// registers the referenced class, whose kind may be looked up in the entity cache.
+			this.datastoreMappingContext.getPersistentEntity(referenceProperty.getActualType());
+			String fieldName = referenceProperty.getFieldName();
+			for (BaseKey key : keys) {
+				BaseEntity readEntity = context.getReadEntity(key);
+				if (readEntity != null && !context.converted(key)
+						&& readEntity.contains(fieldName) && !readEntity.isNull(fieldName)) {
+					collectReferencedKeys(readEntity, referenceProperty, referencedKeys);
+				}
+			}
+		});
+		fetchIntoContext(referencedKeys.stream().filter(context::notCached).collect(Collectors.toList()), context);
+	}
+
+	private void collectReferencedKeys(BaseEntity entity, DatastorePersistentProperty referenceProperty,
+			Set<Key> referencedKeys) {
+		String fieldName = referenceProperty.getFieldName();
+		try {
+			if (referenceProperty.isCollectionLike()) {
+				referencedKeys.addAll(valuesToKeys(entity.getList(fieldName)));
+			}
+			else {
+				referencedKeys.add(entity.getKey(fieldName));
+			}
+		}
+		catch (ClassCastException ex) {
+			// left to the resolution of the property, which reports the invalid value.
+		}
+	}
+
 	private Key getKeyFromId(Object id, Class entityClass) {
 		return this.objectToKeyFactory.getKeyFromId(id,
 				this.datastoreMappingContext.getPersistentEntity(entityClass).kindName());
@@ -780,13 +1388,11 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		return this.objectToKeyFactory.getKeyFromObject(entity, datastorePersistentEntity);
 	}
 
-	private Key[] findAllKeys(Class entityClass) {
-		Iterable<Key> keysFound = queryKeys(Query.newKeyQueryBuilder().setKind(
+	private Iterator<Key> findAllKeys(Class entityClass) {
+		return queryKeys(Query.newKeyQueryBuilder().setKind(
 				this.datastoreMappingContext
 						.getPersistentEntity(entityClass).kindName())
-				.build());
-		return StreamSupport.stream(keysFound.spliterator(),
-				false).toArray(Key[]::new);
+				.build()).iterator();
 	}
 
 	private <T> Set<Key> getKeysFromIds(Iterable<?> ids, Class<T> entityClass) {
@@ -919,10 +1525,6 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		}
 	}
 
-	void setMaxWriteSize(int maxWriteSize) {
-		this.maxWriteSize = maxWriteSize;
-	}
-
 	/**
 	 * Class to hold caches for read and conversion.
 	 *
@@ -931,6 +1533,7 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 	class ReadContext {
 		private final Map<BaseKey, Object> convertedEntities = new HashMap<>();
 		private final Map<BaseKey, BaseEntity> readEntities = new HashMap<>();
+		private final Map<BaseKey, Map<PersistentProperty<?>, List<Entity>>> prefetchedDescendants = new HashMap<>();
 
 		void putConvertedEntity(BaseKey key, Object entity) {
 			this.convertedEntities.put(key, entity);
@@ -960,5 +1563,37 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 		void removeReadEntity(BaseKey key) {
 			this.readEntities.remove(key);
 		}
+
+		void putPrefetchedDescendants(BaseKey key, PersistentProperty<?> property, List<Entity> descendants) {
+			this.prefetchedDescendants.computeIfAbsent(key, (x) -> new HashMap<>()).put(property, descendants);
+		}
+
+		List<Entity> removePrefetchedDescendants(BaseKey key, PersistentProperty<?> property) {
+			Map<PersistentProperty<?>, List<Entity>> descendants = this.prefetchedDescendants.get(key);
+			if (descendants == null) {
+				return null;
+			}
+			List<Entity> result = descendants.remove(property);
+			if (descendants.isEmpty()) {
+				this.prefetchedDescendants.remove(key);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * A descendant query of one entity and its results.
+	 */
+	private static final class DescendantRead {
+		private final Key entityKey;
+		private final PersistentProperty<?> property;
+		private final EntityQuery query;
+		private final List<Entity> results = new ArrayList<>();
+
+		DescendantRead(Key entityKey, PersistentProperty<?> property, EntityQuery query) {
+			this.entityKey = entityKey;
+			this.property = property;
+			this.query = query;
+		}
 	}
 }
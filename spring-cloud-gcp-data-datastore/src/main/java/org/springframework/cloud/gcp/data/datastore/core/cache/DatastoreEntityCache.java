@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.datastore.core.cache;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A cache of Cloud Datastore entities consulted by
+ * {@link org.springframework.cloud.gcp.data.datastore.core.DatastoreTemplate} before
+ * looking entities up by key. Only entities of kinds annotated with
+ * {@link org.springframework.cloud.gcp.data.datastore.core.mapping.CachedEntity} are
+ * cached. Implementations must be thread-safe.
+ *
+ * @since 1.2.8
+ */
+public interface DatastoreEntityCache {
+
+	/**
+	 * Returns the cached entity for a key.
+	 * @param key the key of the entity.
+	 * @return the entity, or {@code null} if it is not cached.
+	 */
+	@Nullable
+	Entity get(Key key);
+
+	/**
+	 * Caches an entity that was read from Cloud Datastore.
+	 * @param key the key of the entity.
+	 * @param entity the entity.
+	 */
+	void put(Key key, Entity entity);
+
+	/**
+	 * Removes the entity of a key from the cache, because it was written or deleted.
+	 * @param key the key of the entity.
+	 */
+	void evict(Key key);
+
+	/**
+	 * Removes all entities from the cache.
+	 */
+	void clear();
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.datastore.core.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DatastoreEntityCache} holding up to a maximum number of entities in memory,
+ * evicting the least recently used ones first, and expiring entities a fixed time after
+ * they were cached.
+ *
+ * @since 1.2.8
+ */
+public class InMemoryDatastoreEntityCache implements DatastoreEntityCache {
+
+	private final int maxSize;
+
+	private final long ttlNanos;
+
+	private final LongSupplier nanoClock;
+
+	private final Map<Key, CacheEntry> entities;
+
+	/**
+	 * Constructor.
+	 * @param maxSize the maximum number of cached entities.
+	 * @param ttl how long an entity stays cached.
+	 */
+	public InMemoryDatastoreEntityCache(int maxSize, Duration ttl) {
+		this(maxSize, ttl, System::nanoTime);
+	}
+
+	InMemoryDatastoreEntityCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+		Assert.isTrue(maxSize > 0, "The maximum size must be positive.");
+		Assert.isTrue(ttl != null && !ttl.isNegative() && !ttl.isZero(), "The time-to-live must be positive.");
+		this.maxSize = maxSize;
+		this.ttlNanos = ttl.toNanos();
+		this.nanoClock = nanoClock;
+		this.entities = new LinkedHashMap<Key, CacheEntry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CacheEntry> eldest) {
+				return size() > InMemoryDatastoreEntityCache.this.maxSize;
+			}
+		};
+	}
+
+	@Override
+	public synchronized Entity get(Key key) {
+		CacheEntry cached = this.entities.get(key);
+		if (cached == null) {
+			return null;
+		}
+		if (this.nanoClock.getAsLong() - cached.expiresAtNanos >= 0) {
+			this.entities.remove(key);
+			return null;
+		}
+		return cached.entity;
+	}
+
+	@Override
+	public synchronized void put(Key key, Entity entity) {
+		this.entities.put(key, new CacheEntry(entity, this.nanoClock.getAsLong() + this.ttlNanos));
+	}
+
+	@Override
+	public synchronized void evict(Key key) {
+		this.entities.remove(key);
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.entities.clear();
+	}
+
+	synchronized int size() {
+		return this.entities.size();
+	}
+
+	/**
+	 * An entity and the time it expires at.
+	 */
+	private static final class CacheEntry {
+		private final Entity entity;
+
+		private final long expiresAtNanos;
+
+		CacheEntry(Entity entity, long expiresAtNanos) {
+			this.entity = entity;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+	}
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.gcp.data.datastore.core.convert;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 
 import com.google.cloud.datastore.Datastore;
@@ -39,6 +43,11 @@ import org.springframework.util.Assert;
  */
 public class DatastoreServiceObjectToKeyFactory implements ObjectToKeyFactory {
 
+	/**
+	 * The maximum number of IDs requested from Cloud Datastore in one call.
+	 */
+	private static final int MAX_KEYS_PER_ALLOCATION = 500;
+
 	private final Supplier<Datastore> datastore;
 
 	public DatastoreServiceObjectToKeyFactory(Supplier<Datastore> datastore) {
@@ -95,9 +104,36 @@ public class DatastoreServiceObjectToKeyFactory implements ObjectToKeyFactory {
 			DatastorePersistentEntity datastorePersistentEntity, Key... ancestors) {
 		Assert.notNull(entity, "Cannot get key for null entity object.");
 		Assert.notNull(datastorePersistentEntity, "Persistent entity must not be null.");
-		PersistentProperty idProp = datastorePersistentEntity.getIdPropertyOrFail();
+		Key allocatedKey = this.datastore.get().allocateId(getKeyForAllocation(datastorePersistentEntity, ancestors));
+		setAllocatedId(entity, datastorePersistentEntity, allocatedKey);
+		return allocatedKey;
+	}
 
-		Class idPropType = idProp.getType();
+	@Override
+	public List<Key> allocateKeysForObjects(List<?> entities, DatastorePersistentEntity datastorePersistentEntity,
+			Key... ancestors) {
+		Assert.notNull(entities, "Cannot get keys for null entity objects.");
+		Assert.notNull(datastorePersistentEntity, "Persistent entity must not be null.");
+		if (entities.isEmpty()) {
+			return Collections.emptyList();
+		}
+		IncompleteKey incompleteKey = getKeyForAllocation(datastorePersistentEntity, ancestors);
+		List<Key> allocatedKeys = new ArrayList<>(entities.size());
+		for (int from = 0; from < entities.size(); from += MAX_KEYS_PER_ALLOCATION) {
+			IncompleteKey[] keys = new IncompleteKey[Math.min(MAX_KEYS_PER_ALLOCATION, entities.size() - from)];
+			Arrays.fill(keys, incompleteKey);
+			allocatedKeys.addAll(this.datastore.get().allocateId(keys));
+		}
+		for (int i = 0; i < entities.size(); i++) {
+			Assert.notNull(entities.get(i), "Cannot get key for null entity object.");
+			setAllocatedId(entities.get(i), datastorePersistentEntity, allocatedKeys.get(i));
+		}
+		return allocatedKeys;
+	}
+
+	private IncompleteKey getKeyForAllocation(DatastorePersistentEntity datastorePersistentEntity,
+			Key... ancestors) {
+		Class idPropType = datastorePersistentEntity.getIdPropertyOrFail().getType();
 
 		if (!idPropType.equals(Key.class) && !idPropType.equals(Long.class)) {
 			throw new DatastoreDataException("Cloud Datastore can only allocate IDs for Long and Key properties. " +
@@ -113,8 +149,13 @@ public class DatastoreServiceObjectToKeyFactory implements ObjectToKeyFactory {
 				keyFactory.addAncestor(DatastoreTemplate.keyToPathElement(ancestor));
 			}
 		}
-		Key allocatedKey = this.datastore.get().allocateId(keyFactory.newKey());
+		return keyFactory.newKey();
+	}
 
+	private void setAllocatedId(Object entity, DatastorePersistentEntity datastorePersistentEntity,
+			Key allocatedKey) {
+		PersistentProperty idProp = datastorePersistentEntity.getIdPropertyOrFail();
+		Class idPropType = idProp.getType();
 		Object value;
 		if (idPropType.equals(Key.class)) {
 			value = allocatedKey;
@@ -127,7 +168,6 @@ public class DatastoreServiceObjectToKeyFactory implements ObjectToKeyFactory {
 		}
 
 		datastorePersistentEntity.getPropertyAccessor(entity).setProperty(idProp, value);
-		return allocatedKey;
 	}
 
 	private KeyFactory getKeyFactory() {
@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.gcp.data.datastore.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.cloud.datastore.IncompleteKey;
 import com.google.cloud.datastore.Key;
 
@@ -66,4 +69,24 @@ public interface ObjectToKeyFactory {
 	 * @return the newly allocated Key.
 	 */
 	Key allocateKeyForObject(Object entity, DatastorePersistentEntity datastorePersistentEntity, Key... ancestors);
+
+	/**
+	 * Allocates new ID {@link Key}s for the given entity objects and sets the allocated ID
+	 * values in the objects. All of the objects must be of the given persistent entity
+	 * type and share the same ancestors.
+	 * Only Key ids are allowed in entities if ancestors are present.
+	 * @param entities the objects for which to get and set the ID values.
+	 * @param datastorePersistentEntity the persistent entity metadata for the entity objects.
+	 * @param ancestors ancestors that should be added to the entities
+	 * @return the newly allocated Keys, in the order of the given objects.
+	 * @since 1.2.8
+	 */
+	default List<Key> allocateKeysForObjects(List<?> entities, DatastorePersistentEntity datastorePersistentEntity,
+			Key... ancestors) {
+		List<Key> keys = new ArrayList<>(entities.size());
+		for (Object entity : entities) {
+			keys.add(allocateKeyForObject(entity, datastorePersistentEntity, ancestors));
+		}
+		return keys;
+	}
 }
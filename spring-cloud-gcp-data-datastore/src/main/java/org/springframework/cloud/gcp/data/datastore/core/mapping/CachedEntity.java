@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.datastore.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for entities whose Cloud Datastore entities may be kept in the
+ * {@link org.springframework.cloud.gcp.data.datastore.core.cache.DatastoreEntityCache} of
+ * the template, so that lookups by key can be served without a call to Cloud Datastore.
+ * Suited to rarely changing reference data, since changes made by other applications
+ * are only seen once cached entities expire. Entities saved or deleted through the
+ * template are evicted, and lookups overlapping with such a write do not cache what they
+ * read.
+ *
+ * @since 1.2.8
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedEntity {
+
+}
@@ -17,6 +17,9 @@
 package org.springframework.cloud.gcp.data.datastore.core.util;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -46,4 +49,57 @@ public final class SliceUtil {
 			consumer.accept(slice);
 		}
 	}
+
+	/**
+	 * Cut array into slices of a given size and call consumer on each of them, with at
+	 * most {@code parallelism} slices being processed concurrently on the given executor.
+	 * Returns once all slices have been processed.
+	 * @param <T> the type of the elements.
+	 * @param elements the array to be sliced.
+	 * @param sliceSize the max size of a slice.
+	 * @param parallelism the max number of slices processed concurrently.
+	 * @param executor the executor on which the slices are processed.
+	 * @param consumer the consumer to be called on every slice.
+	 * @since 1.2.8
+	 */
+	public static <T> void sliceAndExecute(T[] elements, int sliceSize, int parallelism, Executor executor,
+			Consumer<T[]> consumer) {
+		int num_slices = (int) (Math.ceil((double) elements.length / sliceSize));
+		if (parallelism <= 1 || num_slices <= 1) {
+			sliceAndExecute(elements, sliceSize, consumer);
+			return;
+		}
+		int lanes = Math.min(parallelism, num_slices);
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[lanes];
+		for (int lane = 0; lane < lanes; lane++) {
+			int firstSlice = lane;
+			futures[lane] = CompletableFuture.runAsync(() -> {
+				for (int i = firstSlice; i < num_slices; i += lanes) {
+					int start = i * sliceSize;
+					int end = Math.min(start + sliceSize, elements.length);
+					consumer.accept(Arrays.copyOfRange(elements, start, end));
+				}
+			}, executor);
+		}
+		join(futures);
+	}
+
+	/**
+	 * Wait for all given futures to complete. If any of them completed exceptionally with
+	 * a runtime exception, that exception is rethrown instead of the wrapping
+	 * {@link CompletionException}.
+	 * @param futures the futures to wait for.
+	 * @since 1.2.8
+	 */
+	public static void join(CompletableFuture<?>... futures) {
+		try {
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
+	}
 }
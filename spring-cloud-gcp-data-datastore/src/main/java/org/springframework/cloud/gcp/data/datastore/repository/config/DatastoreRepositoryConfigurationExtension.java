@@ -17,6 +17,7 @@
 package org.springframework.cloud.gcp.data.datastore.repository.config;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -62,7 +63,8 @@ public class DatastoreRepositoryConfigurationExtension
 				attributes.getString("datastoreTemplateRef"));
 		builder.addPropertyReference("datastoreMappingContext",
 				attributes.getString("datastoreMappingContextRef"));
-
+		builder.addPropertyValue("pageTotalCountCacheTtl",
+				Duration.ofMillis(attributes.getNumber("pageTotalCountCacheTtlMillis").longValue()));
 	}
 
 	@Override
@@ -140,4 +140,15 @@ public @interface EnableDatastoreRepositories {
 	 * @return the name of the Datastore mapping context class
 	 */
 	String datastoreMappingContextRef() default "datastoreMappingContext";
+
+	/**
+	 * Configures for how many milliseconds the total count computed for a {@code Page}
+	 * query method is reused by requests with the same arguments, such as requests for
+	 * the following pages. Defaults to {@code 0}, which counts the results on every
+	 * request that does not carry the total of the previous page.
+	 *
+	 * @return the time-to-live of cached page total counts in milliseconds.
+	 * @since 1.2.8
+	 */
+	long pageTotalCountCacheTtlMillis() default 0;
 }
@@ -17,13 +17,19 @@
 package org.springframework.cloud.gcp.data.datastore.repository.query;
 
 import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreOperations;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreMappingContext;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
 
 /**
  * Abstract class for implementing Cloud Datastore query methods.
@@ -36,6 +42,11 @@ import org.springframework.data.repository.query.RepositoryQuery;
  */
 public abstract class AbstractDatastoreQuery<T> implements RepositoryQuery {
 
+	/**
+	 * The maximum number of total counts cached per query method.
+	 */
+	private static final int MAX_CACHED_PAGE_TOTAL_COUNTS = 256;
+
 	final DatastoreMappingContext datastoreMappingContext;
 
 	final DatastoreQueryMethod queryMethod;
@@ -44,6 +55,10 @@ public abstract class AbstractDatastoreQuery<T> implements RepositoryQuery {
 
 	final Class<T> entityType;
 
+	private Duration pageTotalCountCacheTtl = Duration.ZERO;
+
+	private final Map<Object, CachedCount> pageTotalCounts = new ConcurrentHashMap<>();
+
 	public AbstractDatastoreQuery(DatastoreQueryMethod queryMethod,
 							DatastoreOperations datastoreOperations,
 			DatastoreMappingContext datastoreMappingContext, Class<T> entityType) {
@@ -58,6 +73,49 @@ public abstract class AbstractDatastoreQuery<T> implements RepositoryQuery {
 		return this.queryMethod;
 	}
 
+	/**
+	 * Sets how long the total count of a {@code Page} query is reused for requests with
+	 * the same count query, such as requests for the following pages. Defaults to
+	 * {@link Duration#ZERO}, which counts the results for every request that does not
+	 * carry the total of the previous page.
+	 * @param pageTotalCountCacheTtl how long a total count is reused.
+	 * @since 1.2.8
+	 */
+	public void setPageTotalCountCacheTtl(Duration pageTotalCountCacheTtl) {
+		Assert.notNull(pageTotalCountCacheTtl, "A non-null time-to-live is required.");
+		this.pageTotalCountCacheTtl = pageTotalCountCacheTtl;
+	}
+
+	/**
+	 * Returns the total count of a {@code Page} query, counting the results only if no
+	 * unexpired count of the same count query in the current namespace is cached.
+	 * Expired counts are purged once the cache is full, and no more counts are cached
+	 * while it is still full afterwards.
+	 * @param countQuery the query whose results are counted, identifying the count.
+	 * @param counter counts the results of the query.
+	 * @return the total count.
+	 */
+	long getPageTotalCount(Object countQuery, LongSupplier counter) {
+		if (this.pageTotalCountCacheTtl.isZero() || this.pageTotalCountCacheTtl.isNegative()) {
+			return counter.getAsLong();
+		}
+		// the namespace may change from request to request if a namespace provider is used.
+		Object cacheKey = Arrays.asList(this.datastoreOperations.getNamespace(), countQuery);
+		long now = System.nanoTime();
+		CachedCount cached = this.pageTotalCounts.get(cacheKey);
+		if (cached != null && !cached.isExpired(now)) {
+			return cached.count;
+		}
+		long count = counter.getAsLong();
+		if (this.pageTotalCounts.size() >= MAX_CACHED_PAGE_TOTAL_COUNTS) {
+			this.pageTotalCounts.values().removeIf((cachedCount) -> cachedCount.isExpired(now));
+		}
+		if (cached != null || this.pageTotalCounts.size() < MAX_CACHED_PAGE_TOTAL_COUNTS) {
+			this.pageTotalCounts.put(cacheKey, new CachedCount(count, now + this.pageTotalCountCacheTtl.toNanos()));
+		}
+		return count;
+	}
+
 	/**
 	 * Convert collection-like param from the query method into an array of compatible types
 	 * for Datastore.
@@ -91,4 +149,22 @@ public abstract class AbstractDatastoreQuery<T> implements RepositoryQuery {
 		return getQueryMethod().isSliceQuery();
 	}
 
+	/**
+	 * A total count and the time it expires at.
+	 */
+	private static final class CachedCount {
+		private final long count;
+
+		private final long expiresAtNanos;
+
+		CachedCount(long count, long expiresAtNanos) {
+			this.count = count;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+
+		boolean isExpired(long nowNanos) {
+			return nowNanos - this.expiresAtNanos >= 0;
+		}
+	}
+
 }
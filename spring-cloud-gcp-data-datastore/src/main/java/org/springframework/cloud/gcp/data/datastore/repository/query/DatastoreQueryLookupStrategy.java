@@ -17,6 +17,7 @@
 package org.springframework.cloud.gcp.data.datastore.repository.query;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreOperations;
@@ -45,6 +46,8 @@ public class DatastoreQueryLookupStrategy implements QueryLookupStrategy {
 
 	private QueryMethodEvaluationContextProvider evaluationContextProvider;
 
+	private Duration pageTotalCountCacheTtl = Duration.ZERO;
+
 	public DatastoreQueryLookupStrategy(DatastoreMappingContext datastoreMappingContext,
 			DatastoreOperations datastoreOperations,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
@@ -59,23 +62,38 @@ public class DatastoreQueryLookupStrategy implements QueryLookupStrategy {
 		this.datastoreOperations = datastoreOperations;
 	}
 
+	/**
+	 * Sets how long the total count of a {@code Page} query method is reused for requests
+	 * with the same arguments. Defaults to {@link Duration#ZERO}, which disables reuse.
+	 * @param pageTotalCountCacheTtl how long a total count is reused.
+	 * @since 1.2.8
+	 */
+	public void setPageTotalCountCacheTtl(Duration pageTotalCountCacheTtl) {
+		Assert.notNull(pageTotalCountCacheTtl, "A non-null time-to-live is required.");
+		this.pageTotalCountCacheTtl = pageTotalCountCacheTtl;
+	}
+
 	@Override
 	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata,
 			ProjectionFactory projectionFactory, NamedQueries namedQueries) {
 		DatastoreQueryMethod queryMethod = createQueryMethod(method, metadata, projectionFactory);
 		Class<?> entityType = getEntityType(queryMethod);
 
+		AbstractDatastoreQuery<?> query;
 		if (queryMethod.hasAnnotatedQuery()) {
 			String sql = queryMethod.getQueryAnnotation().value();
-			return createGqlDatastoreQuery(entityType, queryMethod, sql);
+			query = createGqlDatastoreQuery(entityType, queryMethod, sql);
 		}
 		else if (namedQueries.hasQuery(queryMethod.getNamedQueryName())) {
 			String sql = namedQueries.getQuery(queryMethod.getNamedQueryName());
-			return createGqlDatastoreQuery(entityType, queryMethod, sql);
+			query = createGqlDatastoreQuery(entityType, queryMethod, sql);
 		}
-
-		return new PartTreeDatastoreQuery<>(queryMethod, this.datastoreOperations,
-				this.datastoreMappingContext, entityType, projectionFactory);
+		else {
+			query = new PartTreeDatastoreQuery<>(queryMethod, this.datastoreOperations,
+					this.datastoreMappingContext, entityType, projectionFactory);
+		}
+		query.setPageTotalCountCacheTtl(this.pageTotalCountCacheTtl);
+		return query;
 	}
 
 	<T> GqlDatastoreQuery<T> createGqlDatastoreQuery(Class<T> entityType,
@@ -76,6 +76,12 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 	private static final Pattern CLASS_NAME_PATTERN = Pattern.compile("\\" + ENTITY_CLASS_NAME_BOOKEND + "\\S+\\"
 			+ ENTITY_CLASS_NAME_BOOKEND + "");
 
+	// Matches queries of whole entities, whose results can be counted with a keys-only query.
+	private static final Pattern SELECT_ALL_PATTERN = Pattern.compile("^\\s*SELECT\\s+\\*\\s+FROM\\b",
+			Pattern.CASE_INSENSITIVE);
+
+	private static final String SELECT_KEYS = "SELECT __key__ FROM";
+
 	private final String originalGql;
 
 	private String gqlResolvedEntityClassName;
@@ -86,6 +92,9 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 
 	private SpelQueryContext.EvaluatingSpelQueryContext evaluatingSpelQueryContext;
 
+	// The GQL with SpEL expressions replaced by tags, parsed once and evaluated per call.
+	private SpelEvaluator spelEvaluator;
+
 	/**
 	 * Constructor.
 	 * @param type the underlying entity type
@@ -106,6 +115,7 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 		setOriginalParamTags();
 		setEvaluatingSpelQueryContext();
 		setGqlResolvedEntityClassName();
+		setSpelEvaluator();
 	}
 
 	private static Object getNonEntityObjectFromRow(Object x) {
@@ -141,6 +151,11 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 
 		boolean isNonEntityReturnType = isNonEntityReturnedType(returnedItemType);
 
+		if (this.queryMethod.isStreamQuery() && !isNonEntityReturnType) {
+			return this.datastoreOperations.queryStream((GqlQuery<? extends BaseEntity>) query, this.entityType)
+					.map(this::processRawObjectForProjection);
+		}
+
 		DatastoreResultsIterable found = isNonEntityReturnType
 				? this.datastoreOperations.queryIterable(query, GqlDatastoreQuery::getNonEntityObjectFromRow)
 				: this.datastoreOperations.queryKeysOrEntities(query, this.entityType);
@@ -188,10 +203,10 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 				? ((DatastorePageable) pageableParam).getTotalCount()
 				: null;
 		if (count == null) {
-			GqlQuery nextQuery = parsedQueryWithTagsAndValues.bindArgsToGqlQueryNoLimit();
-			DatastoreResultsIterable<?> next = this.datastoreOperations.queryKeysOrEntities(nextQuery,
-					this.entityType);
-			count = StreamSupport.stream(next.spliterator(), false).count();
+			GqlQuery countQuery = parsedQueryWithTagsAndValues.bindArgsToGqlQueryNoLimit();
+			count = getPageTotalCount(countQuery, () -> StreamSupport.stream(
+					this.datastoreOperations.queryKeysOrEntities(countQuery, this.entityType).spliterator(), false)
+					.count());
 		}
 
 		Pageable pageable = DatastorePageable.from(pageableParam, cursor, count);
@@ -307,6 +322,10 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 				.withEvaluationContextProvider(GqlDatastoreQuery.this.evaluationContextProvider);
 	}
 
+	private void setSpelEvaluator() {
+		this.spelEvaluator = this.evaluatingSpelQueryContext.parse(this.gqlResolvedEntityClassName,
+				this.queryMethod.getParameters());
+	}
 
 	// Convenience class to hold a grouping of GQL, tags, and parameter values.
 	private class ParsedQueryWithTagsAndValues {
@@ -336,9 +355,7 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 			this.rawParams = rawParams;
 			this.tagsOrdered = new ArrayList<>(initialTags);
 
-			SpelEvaluator spelEvaluator = GqlDatastoreQuery.this.evaluatingSpelQueryContext.parse(
-					GqlDatastoreQuery.this.gqlResolvedEntityClassName,
-					GqlDatastoreQuery.this.queryMethod.getParameters());
+			SpelEvaluator spelEvaluator = GqlDatastoreQuery.this.spelEvaluator;
 			Map<String, Object> results = spelEvaluator.evaluate(this.rawParams);
 			this.finalGql = spelEvaluator.getQueryString();
 
@@ -382,7 +399,8 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 		}
 
 		private GqlQuery<? extends BaseEntity> bindArgsToGqlQueryNoLimit() {
-			this.finalGql = this.noLimitQuery;
+			// only the number of results is needed, so entities are not read where possible.
+			this.finalGql = SELECT_ALL_PATTERN.matcher(this.noLimitQuery).replaceFirst(SELECT_KEYS);
 			this.tagsOrdered = this.tagsOrdered.subList(0, this.limitPosition);
 			this.params = this.params.subList(0, this.limitPosition);
 
@@ -27,8 +27,10 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.google.cloud.datastore.BaseEntity;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.EntityQuery;
 import com.google.cloud.datastore.KeyQuery;
@@ -162,7 +164,10 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 				totalCount = ((DatastorePageable) pageableParam).getTotalCount();
 			}
 			else {
-				totalCount = (Long) runQuery(parameters, Long.class, null, true);
+				ExecutionOptions countOptions = new ExecutionOptions(Long.class, null, true);
+				StructuredQuery countQuery = applyQueryBody(parameters, countOptions.getQueryBuilder(), true,
+						countOptions.isSingularResult(), null);
+				totalCount = getPageTotalCount(countQuery, () -> (Long) runQuery(countOptions, countQuery, null));
 			}
 
 			Pageable pageable = DatastorePageable.from(pageableParam, executionResult.getCursor(), totalCount);
@@ -174,6 +179,11 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 			return executeSliceQuery(parameters);
 		}
 
+		if (getQueryMethod().isStreamQuery() && !this.tree.isDelete() && !this.tree.isCountProjection()
+				&& !this.tree.isExistsProjection()) {
+			return executeStreamQuery(parameters);
+		}
+
 		Object result = runQuery(parameters, returnedObjectType,
 				((DatastoreQueryMethod) getQueryMethod()).getCollectionReturnType(), false);
 
@@ -188,11 +198,12 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 	private Object runQuery(Object[] parameters, Class returnedElementType, Class<?> collectionType, boolean requiresCount) {
 		ExecutionOptions options = new ExecutionOptions(returnedElementType, collectionType, requiresCount);
 
-		DatastoreResultsIterable rawResults = getDatastoreOperations()
-				.queryKeysOrEntities(
-						applyQueryBody(parameters, options.getQueryBuilder(),
-								requiresCount, options.isSingularResult(), null),
-						this.entityType);
+		return runQuery(options, applyQueryBody(parameters, options.getQueryBuilder(),
+				requiresCount, options.isSingularResult(), null), collectionType);
+	}
+
+	private Object runQuery(ExecutionOptions options, StructuredQuery query, Class<?> collectionType) {
+		DatastoreResultsIterable rawResults = getDatastoreOperations().queryKeysOrEntities(query, this.entityType);
 
 		Object result = StreamSupport.stream(rawResults.spliterator(), false)
 				.map(options.isReturnedTypeIsNumber() ? Function.identity() : this::processRawObjectForProjection)
@@ -260,6 +271,13 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 		return (Slice) this.processRawObjectForProjection(results);
 	}
 
+	private Stream<?> executeStreamQuery(Object[] parameters) {
+		StructuredQuery<? extends BaseEntity> structuredQuery = (StructuredQuery<? extends BaseEntity>) buildSliceQuey(
+				parameters);
+		return this.datastoreOperations.queryStream(structuredQuery, this.entityType)
+				.map(this::processRawObjectForProjection);
+	}
+
 	private StructuredQuery buildSliceQuey(Object[] parameters) {
 		StructuredQuery.Builder builder = getEntityOrProjectionQueryBuilder()
 				.setKind(this.datastorePersistentEntity.kindName());
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.gcp.data.datastore.repository.support;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.springframework.beans.BeansException;
@@ -58,6 +59,8 @@ public class DatastoreRepositoryFactory extends RepositoryFactorySupport
 
 	private ApplicationContext applicationContext;
 
+	private Duration pageTotalCountCacheTtl = Duration.ZERO;
+
 	/**
 	 * Constructor.
 	 * @param datastoreMappingContext the mapping context used to get mapping metadata for
@@ -105,9 +108,22 @@ public class DatastoreRepositoryFactory extends RepositoryFactorySupport
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
-		return Optional.of(new DatastoreQueryLookupStrategy(this.datastoreMappingContext,
+		DatastoreQueryLookupStrategy lookupStrategy = new DatastoreQueryLookupStrategy(this.datastoreMappingContext,
 				this.datastoreOperations,
-				delegateContextProvider(evaluationContextProvider)));
+				delegateContextProvider(evaluationContextProvider));
+		lookupStrategy.setPageTotalCountCacheTtl(this.pageTotalCountCacheTtl);
+		return Optional.of(lookupStrategy);
+	}
+
+	/**
+	 * Sets how long the total count of a {@code Page} query method is reused for requests
+	 * with the same arguments. Defaults to {@link Duration#ZERO}, which disables reuse.
+	 * @param pageTotalCountCacheTtl how long a total count is reused.
+	 * @since 1.2.8
+	 */
+	public void setPageTotalCountCacheTtl(Duration pageTotalCountCacheTtl) {
+		Assert.notNull(pageTotalCountCacheTtl, "A non-null time-to-live is required.");
+		this.pageTotalCountCacheTtl = pageTotalCountCacheTtl;
 	}
 
 	@Override
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.gcp.data.datastore.repository.support;
 
+import java.time.Duration;
+
 import org.springframework.beans.BeansException;
 import org.springframework.cloud.gcp.data.datastore.core.DatastoreTemplate;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreMappingContext;
@@ -43,6 +45,8 @@ public class DatastoreRepositoryFactoryBean<S, ID>
 
 	private ApplicationContext applicationContext;
 
+	private Duration pageTotalCountCacheTtl = Duration.ZERO;
+
 	/**
 	 * Creates a new {@link DatastoreRepositoryFactoryBean} for the given repository
 	 * interface.
@@ -63,11 +67,22 @@ public class DatastoreRepositoryFactoryBean<S, ID>
 		this.datastoreMappingContext = mappingContext;
 	}
 
+	/**
+	 * Sets how long the total count of a {@code Page} query method is reused for requests
+	 * with the same arguments.
+	 * @param pageTotalCountCacheTtl how long a total count is reused.
+	 * @since 1.2.8
+	 */
+	public void setPageTotalCountCacheTtl(Duration pageTotalCountCacheTtl) {
+		this.pageTotalCountCacheTtl = pageTotalCountCacheTtl;
+	}
+
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 		DatastoreRepositoryFactory datastoreRepositoryFactory = new DatastoreRepositoryFactory(
 				this.datastoreMappingContext, this.datastoreTemplate);
 		datastoreRepositoryFactory.setApplicationContext(this.applicationContext);
+		datastoreRepositoryFactory.setPageTotalCountCacheTtl(this.pageTotalCountCacheTtl);
 		return datastoreRepositoryFactory;
 	}
 
@@ -16,11 +16,13 @@
 
 package org.springframework.cloud.gcp.data.datastore.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -30,10 +32,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import com.google.cloud.NoCredentials;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.Datastore.TransactionCallable;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.DatastoreOptions;
 import com.google.cloud.datastore.DatastoreReaderWriter;
 import com.google.cloud.datastore.Entity;
 import com.google.cloud.datastore.EntityQuery;
@@ -52,6 +58,7 @@ import com.google.cloud.datastore.Query.ResultType;
 import com.google.cloud.datastore.QueryResults;
 import com.google.cloud.datastore.StructuredQuery;
 import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.cloud.datastore.Transaction;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -61,9 +68,12 @@ import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import org.springframework.cloud.gcp.core.util.MapBuilder;
+import org.springframework.cloud.gcp.data.datastore.core.cache.DatastoreEntityCache;
+import org.springframework.cloud.gcp.data.datastore.core.cache.InMemoryDatastoreEntityCache;
 import org.springframework.cloud.gcp.data.datastore.core.convert.DatastoreEntityConverter;
 import org.springframework.cloud.gcp.data.datastore.core.convert.ObjectToKeyFactory;
 import org.springframework.cloud.gcp.data.datastore.core.convert.ReadWriteConversions;
+import org.springframework.cloud.gcp.data.datastore.core.mapping.CachedEntity;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreDataException;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreMappingContext;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.Descendants;
@@ -89,12 +99,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.util.ClassTypeInformation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -390,6 +403,57 @@ public class DatastoreTemplateTests {
 		verify(transactionContext, times(2)).fetch((Key[]) any());
 	}
 
+	@Test
+	public void getNamespaceTest() {
+		when(this.datastore.getOptions()).thenReturn(DatastoreOptions.newBuilder().setProjectId("project")
+				.setNamespace("tenant1").setCredentials(NoCredentials.getInstance()).build());
+		Transaction transaction = mock(Transaction.class);
+		when(transaction.getDatastore()).thenReturn(this.datastore);
+		when(this.datastore.runInTransaction(any())).thenAnswer((invocation) -> {
+			TransactionCallable<String> callable = invocation.getArgument(0);
+			return callable.run(transaction);
+		});
+
+		assertThat(this.datastoreTemplate.getNamespace()).isEqualTo("tenant1");
+		assertThat(this.datastoreTemplate.performTransaction(DatastoreOperations::getNamespace)).isEqualTo("tenant1");
+	}
+
+	@Test
+	public void performTransactionKeepsDescendantReadParallelismTest() {
+		DatastoreReaderWriter transactionContext = mock(DatastoreReaderWriter.class);
+		when(this.datastore.runInTransaction(any())).thenAnswer((invocation) -> {
+			TransactionCallable<Integer> callable = invocation.getArgument(0);
+			return callable.run(transactionContext);
+		});
+		this.datastoreTemplate.setDescendantReadParallelism(4);
+
+		int parallelism = this.datastoreTemplate.performTransaction((datastoreOperations) ->
+				((DatastoreTemplate) datastoreOperations).getDescendantReadParallelism());
+		assertThat(parallelism).isEqualTo(4);
+	}
+
+	@Test
+	public void performTransactionKeepsWriteSettingsTest() {
+		DatastoreReaderWriter transactionContext = mock(DatastoreReaderWriter.class);
+		when(this.datastore.runInTransaction(any())).thenAnswer((invocation) -> {
+			TransactionCallable<String> callable = invocation.getArgument(0);
+			return callable.run(transactionContext);
+		});
+		this.datastoreTemplate.setMaxWriteSize(1);
+		this.datastoreTemplate.setWriteParallelism(3);
+
+		this.datastoreTemplate.performTransaction((datastoreOperations) -> {
+			DatastoreTemplate template = (DatastoreTemplate) datastoreOperations;
+			assertThat(template.getMaxWriteSize()).isEqualTo(1);
+			assertThat(template.getWriteParallelism()).isEqualTo(3);
+			datastoreOperations.saveAll(Arrays.asList(this.ob1, this.ob2));
+			return null;
+		});
+
+		// the two entities and their six descendants and references are sent one at a time.
+		verify(transactionContext, times(8)).put(ArgumentMatchers.<FullEntity[]>any());
+	}
+
 	@Test
 	public void findAllByIdTestNotNull() {
 		assertThat(
@@ -410,6 +474,207 @@ public class DatastoreTemplateTests {
 				});
 	}
 
+	@Test
+	public void findByIdCachedEntityTest() {
+		Key cachedKey = new KeyFactory("project").setKind("cached_kind").newKey("c1");
+		Entity cachedDatastoreEntity = Entity.newBuilder(cachedKey).build();
+		CachedTestEntity cachedTestEntity = new CachedTestEntity();
+		when(this.objectToKeyFactory.getKeyFromId(eq(cachedKey), any())).thenReturn(cachedKey);
+		when(this.datastore.fetch(eq(cachedKey))).thenReturn(Collections.singletonList(cachedDatastoreEntity));
+		when(this.datastoreEntityConverter.read(eq(CachedTestEntity.class), eq(cachedDatastoreEntity)))
+				.thenReturn(cachedTestEntity);
+		this.datastoreTemplate.setEntityCache(new InMemoryDatastoreEntityCache(10, Duration.ofMinutes(1)));
+
+		assertThat(this.datastoreTemplate.findById(cachedKey, CachedTestEntity.class)).isSameAs(cachedTestEntity);
+		assertThat(this.datastoreTemplate.findById(cachedKey, CachedTestEntity.class)).isSameAs(cachedTestEntity);
+		verify(this.datastore, times(1)).fetch((Key[]) any());
+
+		this.datastoreTemplate.deleteById(cachedKey, CachedTestEntity.class);
+		assertThat(this.datastoreTemplate.findById(cachedKey, CachedTestEntity.class)).isSameAs(cachedTestEntity);
+		verify(this.datastore, times(2)).fetch((Key[]) any());
+	}
+
+	@Test
+	public void findByIdDoesNotCacheEntityEvictedDuringLookupTest() {
+		Key cachedKey = new KeyFactory("project").setKind("cached_kind").newKey("c1");
+		Entity cachedDatastoreEntity = Entity.newBuilder(cachedKey).build();
+		CachedTestEntity cachedTestEntity = new CachedTestEntity();
+		when(this.objectToKeyFactory.getKeyFromId(eq(cachedKey), any())).thenReturn(cachedKey);
+		// the entity is deleted after it was read, but before the read is cached.
+		when(this.datastore.fetch(eq(cachedKey))).thenAnswer((invocation) -> {
+			this.datastoreTemplate.deleteById(cachedKey, CachedTestEntity.class);
+			return Collections.singletonList(cachedDatastoreEntity);
+		});
+		when(this.datastoreEntityConverter.read(eq(CachedTestEntity.class), eq(cachedDatastoreEntity)))
+				.thenReturn(cachedTestEntity);
+		DatastoreEntityCache entityCache = new InMemoryDatastoreEntityCache(10, Duration.ofMinutes(1));
+		this.datastoreTemplate.setEntityCache(entityCache);
+
+		assertThat(this.datastoreTemplate.findById(cachedKey, CachedTestEntity.class)).isSameAs(cachedTestEntity);
+		assertThat(entityCache.get(cachedKey)).isNull();
+	}
+
+	@Test
+	public void findByIdUncachedKindTest() {
+		DatastoreEntityCache entityCache = mock(DatastoreEntityCache.class);
+		this.datastoreTemplate.setEntityCache(entityCache);
+
+		assertThat(this.datastoreTemplate.findById(this.key1, TestEntity.class)).isEqualTo(this.ob1);
+		verify(entityCache, never()).get(any());
+		verify(entityCache, never()).put(any(), any());
+	}
+
+	@Test
+	public void saveEvictsCachedEntityTest() {
+		DatastoreEntityCache entityCache = mock(DatastoreEntityCache.class);
+		this.datastoreTemplate.setEntityCache(entityCache);
+
+		this.datastoreTemplate.save(this.ob1);
+		verify(entityCache, times(1)).evict(eq(this.key1));
+	}
+
+	@Test
+	public void performTransactionEvictsCachedEntityAfterCommitTest() {
+		DatastoreEntityCache entityCache = mock(DatastoreEntityCache.class);
+		this.datastoreTemplate.setEntityCache(entityCache);
+		DatastoreReaderWriter transactionContext = mock(DatastoreReaderWriter.class);
+		when(this.datastore.runInTransaction(any())).thenAnswer((invocation) -> {
+			TransactionCallable<String> callable = invocation.getArgument(0);
+			String result = callable.run(transactionContext);
+			// the commit happens after the callable returns.
+			verify(entityCache, times(1)).evict(eq(this.key1));
+			return result;
+		});
+
+		this.datastoreTemplate.performTransaction((datastoreOperations) -> {
+			datastoreOperations.save(this.ob1);
+			return null;
+		});
+
+		verify(entityCache, times(2)).evict(eq(this.key1));
+	}
+
+	@Test
+	public void saveSkipsUnchangedEntityTest() {
+		Key simpleKey = setUpSimpleTestEntityRead("simple_test_color");
+		this.datastoreTemplate.setSkipUnchangedEntities(true);
+
+		this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class);
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, never()).put((FullEntity<?>[]) any());
+	}
+
+	@Test
+	public void saveWritesChangedEntityOnceTest() {
+		Key simpleKey = setUpSimpleTestEntityRead("old_color");
+		this.datastoreTemplate.setSkipUnchangedEntities(true);
+
+		this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class);
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, times(1)).put((FullEntity<?>[]) any());
+
+		// deleted entities are written again when saved.
+		this.datastoreTemplate.deleteById(simpleKey, SimpleTestEntity.class);
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, times(2)).put((FullEntity<?>[]) any());
+	}
+
+	@Test
+	public void saveWritesStaleCopyAfterChangedCopyTest() {
+		Key simpleKey = setUpSimpleTestEntityRead("simple_test_color");
+		SimpleTestEntity changedCopy = new SimpleTestEntity();
+		changedCopy.id = "simple1";
+		when(this.objectToKeyFactory.getKeyFromObject(same(changedCopy), any())).thenReturn(simpleKey);
+		doReturn(this.simpleTestEntity, changedCopy).when(this.datastoreEntityConverter)
+				.read(eq(SimpleTestEntity.class), any());
+		doAnswer((invocation) -> {
+			Entity.Builder builder = invocation.getArgument(1);
+			builder.set("color", "new_color");
+			builder.set("int_field", 1);
+			return null;
+		}).when(this.datastoreEntityConverter).write(same(changedCopy), any());
+		this.datastoreTemplate.setSkipUnchangedEntities(true);
+
+		assertThat(this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class)).isSameAs(this.simpleTestEntity);
+		assertThat(this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class)).isSameAs(changedCopy);
+		this.datastoreTemplate.save(changedCopy);
+
+		// the unchanged copy now differs from the stored entity, so it is written too.
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, times(2)).put((FullEntity<?>[]) any());
+	}
+
+	@Test
+	public void saveRemembersTransactionalWriteAfterCommitTest() {
+		Key simpleKey = setUpSimpleTestEntityRead("old_color");
+		this.datastoreTemplate.setSkipUnchangedEntities(true);
+		DatastoreReaderWriter transactionContext = mock(DatastoreReaderWriter.class);
+		when(this.datastore.runInTransaction(any())).thenAnswer((invocation) -> {
+			TransactionCallable<String> callable = invocation.getArgument(0);
+			return callable.run(transactionContext);
+		});
+
+		this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class);
+		this.datastoreTemplate.performTransaction((datastoreOperations) -> {
+			datastoreOperations.save(this.simpleTestEntity);
+			return null;
+		});
+		verify(transactionContext, times(1)).put((FullEntity<?>[]) any());
+
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, never()).put((FullEntity<?>[]) any());
+	}
+
+	@Test
+	public void saveForgetsStateOfRolledBackTransactionalWriteTest() {
+		Key simpleKey = setUpSimpleTestEntityRead("simple_test_color");
+		this.datastoreTemplate.setSkipUnchangedEntities(true);
+		DatastoreReaderWriter transactionContext = mock(DatastoreReaderWriter.class);
+		when(this.datastore.runInTransaction(any())).thenAnswer((invocation) -> {
+			TransactionCallable<String> callable = invocation.getArgument(0);
+			callable.run(transactionContext);
+			throw new DatastoreException(409, "aborted", "ABORTED");
+		});
+
+		this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class);
+		assertThatThrownBy(() -> this.datastoreTemplate.performTransaction((datastoreOperations) -> {
+			datastoreOperations.delete(this.simpleTestEntity);
+			return null;
+		})).isInstanceOf(DatastoreException.class);
+
+		// whether the entity still exists is unknown, so it is written.
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, times(1)).put((FullEntity<?>[]) any());
+	}
+
+	@Test
+	public void saveWritesUnchangedEntityByDefaultTest() {
+		Key simpleKey = setUpSimpleTestEntityRead("simple_test_color");
+
+		this.datastoreTemplate.findById(simpleKey, SimpleTestEntity.class);
+		this.datastoreTemplate.save(this.simpleTestEntity);
+		verify(this.datastore, times(1)).put((FullEntity<?>[]) any());
+	}
+
+	private Key setUpSimpleTestEntityRead(String storedColor) {
+		Key simpleKey = new KeyFactory("project").setKind("test_kind").newKey("simple1");
+		Entity stored = Entity.newBuilder(simpleKey).set("color", storedColor).set("int_field", 1).build();
+		when(this.objectToKeyFactory.getKeyFromId(eq(simpleKey), any())).thenReturn(simpleKey);
+		this.simpleTestEntity.id = "simple1";
+		when(this.objectToKeyFactory.getKeyFromObject(same(this.simpleTestEntity), any())).thenReturn(simpleKey);
+		when(this.datastore.fetch(eq(simpleKey))).thenReturn(Collections.singletonList(stored));
+		when(this.datastoreEntityConverter.read(eq(SimpleTestEntity.class), eq(stored)))
+				.thenReturn(this.simpleTestEntity);
+		doAnswer((invocation) -> {
+			Entity.Builder builder = invocation.getArgument(1);
+			builder.set("color", "simple_test_color");
+			builder.set("int_field", 1);
+			return null;
+		}).when(this.datastoreEntityConverter).write(same(this.simpleTestEntity), any());
+		return simpleKey;
+	}
+
 	@Test
 	public void findByIdNotFoundTest() {
 		when(this.datastore.fetch(ArgumentMatchers.<Key[]>any())).thenReturn(Collections.singletonList(null));
@@ -513,6 +778,45 @@ public class DatastoreTemplateTests {
 				});
 	}
 
+	@Test
+	public void queryPrefetchesReferencesTest() {
+		Key siblingKey1 = createFakeKey("sibling1");
+		Key siblingKey2 = createFakeKey("sibling2");
+		Entity referencing1 = Entity.newBuilder(this.key1).set("sibling", siblingKey1).build();
+		Entity referencing2 = Entity.newBuilder(this.key2).set("sibling", siblingKey2).build();
+		Entity sibling1 = Entity.newBuilder(siblingKey1).build();
+		Entity sibling2 = Entity.newBuilder(siblingKey2).build();
+
+		QueryResults queryResults = mock(QueryResults.class);
+		doAnswer((invocation) -> {
+			Arrays.asList(referencing1, referencing2).iterator().forEachRemaining(invocation.getArgument(0));
+			return null;
+		}).when(queryResults).forEachRemaining(any());
+		when(this.datastore.run(eq(this.testEntityQuery))).thenReturn(queryResults);
+		when(this.datastore.fetch(any(Key.class), any(Key.class))).thenReturn(Arrays.asList(sibling1, sibling2));
+
+		ReferenceTestEntity referencingEntity1 = new ReferenceTestEntity();
+		ReferenceTestEntity referencingEntity2 = new ReferenceTestEntity();
+		ReferenceTestEntity siblingEntity1 = new ReferenceTestEntity();
+		ReferenceTestEntity siblingEntity2 = new ReferenceTestEntity();
+		when(this.datastoreEntityConverter.read(eq(ReferenceTestEntity.class), same(referencing1)))
+				.thenReturn(referencingEntity1);
+		when(this.datastoreEntityConverter.read(eq(ReferenceTestEntity.class), same(referencing2)))
+				.thenReturn(referencingEntity2);
+		when(this.datastoreEntityConverter.read(eq(ReferenceTestEntity.class), same(sibling1)))
+				.thenReturn(siblingEntity1);
+		when(this.datastoreEntityConverter.read(eq(ReferenceTestEntity.class), same(sibling2)))
+				.thenReturn(siblingEntity2);
+
+		assertThat(this.datastoreTemplate.query((Query<Entity>) this.testEntityQuery, ReferenceTestEntity.class))
+				.containsExactly(referencingEntity1, referencingEntity2);
+
+		assertThat(referencingEntity1.sibling).isSameAs(siblingEntity1);
+		assertThat(referencingEntity2.sibling).isSameAs(siblingEntity2);
+		verify(this.datastore, times(1)).fetch(eq(siblingKey1), eq(siblingKey2));
+		verify(this.datastore, times(1)).fetch((Key[]) any());
+	}
+
 	@Test
 	public void saveReferenceLoopTest() {
 		ReferenceTestEntity referenceTestEntity = new ReferenceTestEntity();
@@ -752,6 +1056,30 @@ public class DatastoreTemplateTests {
 		verify(this.datastore, times(1)).put(ArgumentMatchers.<FullEntity[]>any());
 	}
 
+	@Test
+	public void saveAllAllocatesIdsInBatchTest() {
+		ChildEntity newEntity1 = new ChildEntity();
+		ChildEntity newEntity2 = new ChildEntity();
+		Key allocatedKey1 = createFakeKey("allocated1");
+		Key allocatedKey2 = createFakeKey("allocated2");
+		when(this.objectToKeyFactory.allocateKeysForObjects(any(), any())).thenAnswer((invocation) -> {
+			newEntity1.id = allocatedKey1;
+			newEntity2.id = allocatedKey2;
+			return Arrays.asList(allocatedKey1, allocatedKey2);
+		});
+		when(this.objectToKeyFactory.getKeyFromObject(same(newEntity1), any())).thenReturn(allocatedKey1);
+		when(this.objectToKeyFactory.getKeyFromObject(same(newEntity2), any())).thenReturn(allocatedKey2);
+
+		// the same object saved twice only needs one ID.
+		this.datastoreTemplate.saveAll(Arrays.asList(newEntity1, newEntity2, newEntity1));
+
+		verify(this.objectToKeyFactory, times(1)).allocateKeysForObjects(
+				eq(Arrays.asList(newEntity1, newEntity2)), any());
+		verify(this.objectToKeyFactory, never()).allocateKeyForObject(any(), any());
+		verify(this.datastore, times(1)).put(Entity.newBuilder(allocatedKey1).build(),
+				Entity.newBuilder(allocatedKey2).build());
+	}
+
 	@Test
 	public void saveAllMaxWriteSizeTest() {
 		when(this.objectToKeyFactory.allocateKeyForObject(same(this.ob1), any()))
@@ -805,6 +1133,55 @@ public class DatastoreTemplateTests {
 		verify(this.datastore, times(8)).put(ArgumentMatchers.<FullEntity[]>any());
 	}
 
+	@Test
+	public void saveAllConcurrentSlicesTest() {
+		AtomicInteger tasks = new AtomicInteger();
+		this.datastoreTemplate.setMaxWriteSize(1);
+		this.datastoreTemplate.setWriteParallelism(3);
+		this.datastoreTemplate.setWriteExecutor((task) -> {
+			tasks.incrementAndGet();
+			task.run();
+		});
+
+		this.datastoreTemplate.saveAll(Arrays.asList(this.ob1, this.ob2));
+
+		assertThat(tasks).hasValue(3);
+		verify(this.datastore, times(8)).put(ArgumentMatchers.<FullEntity[]>any());
+	}
+
+	@Test
+	public void saveAllConcurrentSlicesDefaultExecutorTest() {
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		when(this.datastore.put(ArgumentMatchers.<FullEntity[]>any())).thenAnswer((invocation) -> {
+			threadNames.add(Thread.currentThread().getName());
+			return Collections.emptyList();
+		});
+		this.datastoreTemplate.setMaxWriteSize(1);
+		this.datastoreTemplate.setWriteParallelism(3);
+
+		this.datastoreTemplate.saveAll(Arrays.asList(this.ob1, this.ob2));
+
+		assertThat(threadNames).isNotEmpty().allMatch((name) -> name.startsWith("datastore-"));
+		this.datastoreTemplate.destroy();
+	}
+
+	@Test
+	public void deleteAllByIdConcurrentSlicesTest() {
+		AtomicInteger tasks = new AtomicInteger();
+		this.datastoreTemplate.setMaxWriteSize(1);
+		this.datastoreTemplate.setWriteParallelism(4);
+		this.datastoreTemplate.setWriteExecutor((task) -> {
+			tasks.incrementAndGet();
+			task.run();
+		});
+
+		this.datastoreTemplate.deleteAllById(Arrays.asList(this.key1, this.key2), TestEntity.class);
+
+		assertThat(tasks).hasValue(2);
+		verify(this.datastore, times(1)).delete(this.key1);
+		verify(this.datastore, times(1)).delete(this.key2);
+	}
+
 	@Test
 	public void findAllTest() {
 		verifyBeforeAndAfterEvents(null,
@@ -813,6 +1190,30 @@ public class DatastoreTemplateTests {
 				});
 	}
 
+	@Test
+	public void findAllPrefetchesDescendantsTest() {
+		Query childTestEntityQuery1 = Query.newEntityQueryBuilder().setKind("child_entity")
+				.setFilter(PropertyFilter.hasAncestor(this.key1)).build();
+		Query childTestEntityQuery2 = Query.newEntityQueryBuilder().setKind("child_entity")
+				.setFilter(PropertyFilter.hasAncestor(this.key2)).build();
+		when(this.datastore.run(eq(childTestEntityQuery2))).thenReturn(mock(QueryResults.class));
+		AtomicInteger tasks = new AtomicInteger();
+		this.datastoreTemplate.setDescendantReadParallelism(4);
+		this.datastoreTemplate.setReadExecutor((task) -> {
+			tasks.incrementAndGet();
+			task.run();
+		});
+
+		assertThat(this.datastoreTemplate.findAll(TestEntity.class)).containsExactly(this.ob1, this.ob2);
+
+		// one task for each of the two descendant queries.
+		assertThat(tasks).hasValue(2);
+		verify(this.datastore, times(1)).run(eq(childTestEntityQuery1));
+		verify(this.datastore, times(1)).run(eq(childTestEntityQuery2));
+		assertThat(this.ob1.childEntities).containsExactly(createChildEntity());
+		assertThat(this.ob2.childEntities).isEmpty();
+	}
+
 	@Test
 	public void queryTest() {
 		verifyBeforeAndAfterEvents(null,
@@ -823,6 +1224,29 @@ public class DatastoreTemplateTests {
 				});
 	}
 
+	@Test
+	public void queryStreamTest() {
+		Iterator<Entity> entities = Arrays.asList(this.e1, this.e2).iterator();
+		QueryResults<Entity> queryResults = mock(QueryResults.class);
+		when(queryResults.hasNext()).thenAnswer((invocation) -> entities.hasNext());
+		when(queryResults.next()).thenAnswer((invocation) -> entities.next());
+		when(this.datastore.run(eq(this.testEntityQuery))).thenReturn(queryResults);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		this.datastoreTemplate.setApplicationEventPublisher(publisher);
+
+		Stream<TestEntity> results = this.datastoreTemplate.queryStream((Query<Entity>) this.testEntityQuery,
+				TestEntity.class);
+
+		// nothing is read or converted until the stream is consumed.
+		verify(queryResults, never()).next();
+		verify(this.datastoreEntityConverter, never()).read(any(), any());
+		verify(publisher, never()).publishEvent(any());
+
+		assertThat(results).containsExactly(this.ob1, this.ob2);
+		verify(publisher, times(1))
+				.publishEvent(eq(new AfterQueryEvent(Arrays.asList(this.ob1, this.ob2), this.testEntityQuery)));
+	}
+
 	@Test
 	public void queryKeysTest() {
 		KeyQuery keyQuery = GqlQuery.newKeyQueryBuilder().build();
@@ -960,6 +1384,27 @@ public class DatastoreTemplateTests {
 				x -> x.verify(this.datastore, times(1)).delete(same(this.key1), same(this.key2)));
 	}
 
+	@Test
+	public void deleteAllInBatchesTest() {
+		QueryResults<Key> queryResults = mock(QueryResults.class);
+		when(queryResults.getResultClass()).thenReturn((Class) Key.class);
+		doAnswer((invocation) -> {
+			Arrays.asList(this.key1, this.key2, this.keyChild1).iterator()
+					.forEachRemaining(invocation.getArgument(0));
+			return null;
+		}).when(queryResults).forEachRemaining(any());
+		when(this.datastore
+				.run(eq(Query.newKeyQueryBuilder().setKind("custom_test_kind").build())))
+						.thenReturn(queryResults);
+		this.datastoreTemplate.setMaxWriteSize(2);
+
+		assertThat(this.datastoreTemplate.deleteAll(TestEntity.class)).isEqualTo(3);
+
+		InOrder inOrder = Mockito.inOrder(this.datastore);
+		inOrder.verify(this.datastore, times(1)).delete(same(this.key1), same(this.key2));
+		inOrder.verify(this.datastore, times(1)).delete(same(this.keyChild1));
+	}
+
 	private void verifyBeforeAndAfterEvents(ApplicationEvent expectedBefore,
 			ApplicationEvent expectedAfter, Runnable operation, Consumer<InOrder> verifyOperation) {
 		ApplicationEventPublisher mockPublisher = mock(ApplicationEventPublisher.class);
@@ -1285,6 +1730,13 @@ public class DatastoreTemplateTests {
 		}
 	}
 
+	@CachedEntity
+	@org.springframework.cloud.gcp.data.datastore.core.mapping.Entity(name = "cached_kind")
+	private static class CachedTestEntity {
+		@Id
+		Key id;
+	}
+
 	@org.springframework.cloud.gcp.data.datastore.core.mapping.Entity(name = "test_kind")
 	private static class SimpleTestEntity {
 		@Id
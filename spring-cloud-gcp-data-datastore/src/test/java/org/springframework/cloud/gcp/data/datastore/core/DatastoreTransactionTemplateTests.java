@@ -31,6 +31,7 @@ import org.junit.runner.RunWith;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.gcp.data.datastore.core.cache.DatastoreEntityCache;
 import org.springframework.cloud.gcp.data.datastore.core.convert.DatastoreEntityConverter;
 import org.springframework.cloud.gcp.data.datastore.core.convert.ObjectToKeyFactory;
 import org.springframework.cloud.gcp.data.datastore.core.mapping.DatastoreMappingContext;
@@ -75,6 +76,9 @@ public class DatastoreTransactionTemplateTests {
 	@Autowired
 	TransactionalService transactionalService;
 
+	@Autowired
+	DatastoreTemplate datastoreTemplate;
+
 	@MockBean
 	ObjectToKeyFactory objectToKeyFactory;
 
@@ -121,6 +125,36 @@ public class DatastoreTransactionTemplateTests {
 		verify(this.transaction, times(1)).delete(any());
 	}
 
+	@Test
+	public void transactionEvictsCachedEntitiesAgainAfterCommit() {
+		DatastoreEntityCache entityCache = mock(DatastoreEntityCache.class);
+		this.datastoreTemplate.setEntityCache(entityCache);
+		try {
+			this.transactionalService.doInTransaction(new TestEntity(), new TestEntity());
+		}
+		finally {
+			this.datastoreTemplate.setEntityCache(null);
+		}
+		// once when each of the four writes is made, and once more after the commit.
+		verify(entityCache, times(8)).evict(this.key);
+	}
+
+	@Test
+	public void rolledBackTransactionDoesNotEvictAgain() {
+		DatastoreEntityCache entityCache = mock(DatastoreEntityCache.class);
+		this.datastoreTemplate.setEntityCache(entityCache);
+		try {
+			this.transactionalService.doInTransactionWithException(new TestEntity(), new TestEntity());
+		}
+		catch (RuntimeException ex) {
+			// expected
+		}
+		finally {
+			this.datastoreTemplate.setEntityCache(null);
+		}
+		verify(entityCache, times(4)).evict(this.key);
+	}
+
 	@Test
 	public void rollBackTransaction() {
 		Exception exception = null;
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.datastore.core.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.KeyFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the in-memory Datastore entity cache.
+ */
+public class InMemoryDatastoreEntityCacheTests {
+
+	/**
+	 * used to check exception messages and types.
+	 */
+	@Rule
+	public ExpectedException expectedEx = ExpectedException.none();
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final Key key1 = createKey("key1");
+
+	private final Key key2 = createKey("key2");
+
+	private final Key key3 = createKey("key3");
+
+	@Test
+	public void putAndGetTest() {
+		InMemoryDatastoreEntityCache cache = createCache(10, Duration.ofSeconds(10));
+		Entity entity = Entity.newBuilder(this.key1).build();
+		cache.put(this.key1, entity);
+
+		assertThat(cache.get(this.key1)).isSameAs(entity);
+		assertThat(cache.get(this.key2)).isNull();
+	}
+
+	@Test
+	public void expiryTest() {
+		InMemoryDatastoreEntityCache cache = createCache(10, Duration.ofSeconds(10));
+		cache.put(this.key1, Entity.newBuilder(this.key1).build());
+
+		this.nanoTime.addAndGet(Duration.ofSeconds(9).toNanos());
+		assertThat(cache.get(this.key1)).isNotNull();
+
+		this.nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(cache.get(this.key1)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedTest() {
+		InMemoryDatastoreEntityCache cache = createCache(2, Duration.ofSeconds(10));
+		cache.put(this.key1, Entity.newBuilder(this.key1).build());
+		cache.put(this.key2, Entity.newBuilder(this.key2).build());
+		cache.get(this.key1);
+		cache.put(this.key3, Entity.newBuilder(this.key3).build());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(this.key1)).isNotNull();
+		assertThat(cache.get(this.key2)).isNull();
+		assertThat(cache.get(this.key3)).isNotNull();
+	}
+
+	@Test
+	public void evictAndClearTest() {
+		InMemoryDatastoreEntityCache cache = createCache(10, Duration.ofSeconds(10));
+		cache.put(this.key1, Entity.newBuilder(this.key1).build());
+		cache.put(this.key2, Entity.newBuilder(this.key2).build());
+
+		cache.evict(this.key1);
+		assertThat(cache.get(this.key1)).isNull();
+		assertThat(cache.get(this.key2)).isNotNull();
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void nonPositiveTtlTest() {
+		this.expectedEx.expect(IllegalArgumentException.class);
+		this.expectedEx.expectMessage("The time-to-live must be positive.");
+		new InMemoryDatastoreEntityCache(10, Duration.ZERO);
+	}
+
+	private InMemoryDatastoreEntityCache createCache(int maxSize, Duration ttl) {
+		return new InMemoryDatastoreEntityCache(maxSize, ttl, this.nanoTime::get);
+	}
+
+	private static Key createKey(String name) {
+		return new KeyFactory("project").setKind("cached_kind").newKey(name);
+	}
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.gcp.data.datastore.core.convert;
 
+import java.util.Arrays;
+import java.util.List;
+
 import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.IncompleteKey;
 import com.google.cloud.datastore.Key;
@@ -33,6 +36,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -146,6 +151,38 @@ public class DatastoreServiceObjectToKeyFactoryTests {
 		assertThat(testEntityWithKeyId.id).isEqualTo(keyWithAncestor);
 	}
 
+	@Test
+	public void allocateIdsForObjectsTest() {
+		TestEntityWithId testEntity1 = new TestEntityWithId();
+		TestEntityWithId testEntity2 = new TestEntityWithId();
+		KeyFactory keyFactory = new KeyFactory("project").setKind("custom_test_kind");
+		when(this.datastore.newKeyFactory()).thenReturn(new KeyFactory("project"));
+		when(this.datastore.allocateId(any(IncompleteKey.class), any(IncompleteKey.class)))
+				.thenReturn(Arrays.asList(keyFactory.newKey(1L), keyFactory.newKey(2L)));
+
+		List<Key> allocatedKeys = this.datastoreServiceObjectToKeyFactory.allocateKeysForObjects(
+				Arrays.asList(testEntity1, testEntity2),
+				this.datastoreMappingContext.getPersistentEntity(TestEntityWithId.class));
+
+		assertThat(allocatedKeys).containsExactly(keyFactory.newKey(1L), keyFactory.newKey(2L));
+		assertThat(testEntity1.id).isEqualTo(1L);
+		assertThat(testEntity2.id).isEqualTo(2L);
+		verify(this.datastore, times(1)).allocateId(keyFactory.newKey(), keyFactory.newKey());
+	}
+
+	@Test
+	public void allocateIdsForObjectsNonKeyIdTest() {
+		this.expectedEx.expect(DatastoreDataException.class);
+		this.expectedEx.expectMessage("Only Key types are allowed for descendants id");
+
+		KeyFactory keyFactory = new KeyFactory("project").setKind("kind");
+		when(this.datastore.newKeyFactory()).thenReturn(keyFactory);
+		this.datastoreServiceObjectToKeyFactory.allocateKeysForObjects(
+				Arrays.asList(new TestEntityWithId(), new TestEntityWithId()),
+				this.datastoreMappingContext.getPersistentEntity(TestEntityWithId.class),
+				keyFactory.newKey("ancestor"));
+	}
+
 	@Test
 	public void allocateIdForObjectNonKeyIdTest() {
 		this.expectedEx.expect(DatastoreDataException.class);
@@ -18,10 +18,13 @@ package org.springframework.cloud.gcp.data.datastore.core.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.cloud.gcp.data.datastore.core.util.SliceUtil.sliceAndExecute;
 
 /**
@@ -58,6 +61,38 @@ public class SliceUtilTest {
 		assertThat(slices).isEmpty();
 	}
 
+	@Test
+	public void sliceAndExecuteConcurrentTest() {
+		Integer[] elements = getIntegers(7);
+		List<Integer[]> slices = new ArrayList<>();
+		AtomicInteger tasks = new AtomicInteger();
+		sliceAndExecute(elements, 2, 2, (task) -> {
+			tasks.incrementAndGet();
+			task.run();
+		}, slices::add);
+		assertThat(tasks).hasValue(2);
+		assertThat(slices).containsExactlyInAnyOrder(new Integer[] { 0, 1 }, new Integer[] { 2, 3 },
+				new Integer[] { 4, 5 }, new Integer[] { 6 });
+	}
+
+	@Test
+	public void sliceAndExecuteConcurrentSingleSliceTest() {
+		Integer[] elements = getIntegers(3);
+		List<Integer[]> slices = new ArrayList<>();
+		sliceAndExecute(elements, 3, 4, (task) -> {
+			throw new IllegalStateException("A single slice should run on the calling thread.");
+		}, slices::add);
+		assertThat(slices).containsExactly(new Integer[] { 0, 1, 2 });
+	}
+
+	@Test
+	public void joinRethrowsCauseTest() {
+		IllegalStateException failure = new IllegalStateException("failed");
+		CompletableFuture<Object> failed = new CompletableFuture<>();
+		failed.completeExceptionally(failure);
+		assertThatThrownBy(() -> SliceUtil.join(CompletableFuture.completedFuture(1), failed)).isSameAs(failure);
+	}
+
 	private Integer[] getIntegers(Integer inputSize) {
 		Integer[] elements = new Integer[inputSize];
 		for (int i = 0; i < inputSize; i++) {
@@ -19,12 +19,14 @@ package org.springframework.cloud.gcp.data.datastore.repository.query;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.EntityQuery;
@@ -74,6 +76,7 @@ import static org.mockito.ArgumentMatchers.isNotNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -441,6 +444,61 @@ public class PartTreeDatastoreQueryTests {
 				.queryKeysOrEntities(isA(KeyQuery.class), any());
 	}
 
+	@Test
+	public void pageableQueryCachedTotalCount() throws NoSuchMethodException {
+		queryWithMockResult("findByActionAndSymbolAndPriceLessThanAndPriceGreater"
+						+ "ThanEqualAndIdIsNull", null,
+				getClass().getMethod("tradeMethod", String.class, String.class, double.class, double.class,
+						Pageable.class));
+
+		this.partTreeDatastoreQuery = createQuery(true, false, null);
+		this.partTreeDatastoreQuery.setPageTotalCountCacheTtl(Duration.ofMinutes(1));
+
+		Object[] params = new Object[] { "BUY", "abcd", 8.88, 3.33, PageRequest.of(1, 2, Sort.Direction.DESC, "id") };
+
+		preparePageResults(2, 2, null, Arrays.asList(3, 4), Arrays.asList(1, 2, 3, 4));
+
+		when(this.queryMethod.getCollectionReturnType()).thenReturn(List.class);
+
+		assertThat(((Page) this.partTreeDatastoreQuery.execute(params)).getTotalElements()).isEqualTo(4);
+		assertThat(((Page) this.partTreeDatastoreQuery.execute(params)).getTotalElements()).isEqualTo(4);
+
+		verify(this.datastoreTemplate, times(2))
+				.queryKeysOrEntities(isA(EntityQuery.class), any());
+
+		verify(this.datastoreTemplate, times(1))
+				.queryKeysOrEntities(isA(KeyQuery.class), any());
+	}
+
+	@Test
+	public void pageableQueryCachedTotalCountPerNamespace() throws NoSuchMethodException {
+		queryWithMockResult("findByActionAndSymbolAndPriceLessThanAndPriceGreater"
+						+ "ThanEqualAndIdIsNull", null,
+				getClass().getMethod("tradeMethod", String.class, String.class, double.class, double.class,
+						Pageable.class));
+
+		this.partTreeDatastoreQuery = createQuery(true, false, null);
+		this.partTreeDatastoreQuery.setPageTotalCountCacheTtl(Duration.ofMinutes(1));
+
+		Object[] params = new Object[] { "BUY", "abcd", 8.88, 3.33, PageRequest.of(1, 2, Sort.Direction.DESC, "id") };
+
+		preparePageResults(2, 2, null, Arrays.asList(3, 4), Arrays.asList(1, 2, 3, 4));
+
+		when(this.queryMethod.getCollectionReturnType()).thenReturn(List.class);
+		when(this.datastoreTemplate.getNamespace()).thenReturn("tenant1", "tenant2", "tenant1");
+
+		assertThat(((Page) this.partTreeDatastoreQuery.execute(params)).getTotalElements()).isEqualTo(4);
+		assertThat(((Page) this.partTreeDatastoreQuery.execute(params)).getTotalElements()).isEqualTo(4);
+		assertThat(((Page) this.partTreeDatastoreQuery.execute(params)).getTotalElements()).isEqualTo(4);
+
+		verify(this.datastoreTemplate, times(3))
+				.queryKeysOrEntities(isA(EntityQuery.class), any());
+
+		// each namespace is counted once.
+		verify(this.datastoreTemplate, times(2))
+				.queryKeysOrEntities(isA(KeyQuery.class), any());
+	}
+
 	@Test
 	public void pageableQueryNextPage() throws NoSuchMethodException {
 		queryWithMockResult("findByActionAndSymbolAndPriceLessThanAndPriceGreater"
@@ -559,6 +617,33 @@ public class PartTreeDatastoreQueryTests {
 				.queryEntitiesSlice(isA(EntityQuery.class), any(), any());
 	}
 
+	@Test
+	public void streamQuery() throws NoSuchMethodException {
+		queryWithMockResult("findByActionAndSymbolAndPriceLessThanAndPriceGreater"
+						+ "ThanEqualAndIdIsNull", null,
+				getClass().getMethod("tradeMethodStream", String.class, String.class, double.class, double.class));
+
+		Object[] params = new Object[] { "BUY", "abcd", 8.88, 3.33 };
+		when(this.queryMethod.isStreamQuery()).thenReturn(true);
+
+		Trade trade1 = new Trade();
+		Trade trade2 = new Trade();
+		when(this.datastoreTemplate.queryStream(isA(EntityQuery.class), eq(Trade.class))).thenAnswer((invocation) -> {
+			EntityQuery statement = invocation.getArgument(0);
+			EntityQuery expected = StructuredQuery.newEntityQueryBuilder()
+					.setFilter(FILTER)
+					.setKind("trades").build();
+
+			assertThat(statement).isEqualTo(expected);
+			return Stream.of(trade1, trade2);
+		});
+
+		Stream<Object> result = (Stream<Object>) this.partTreeDatastoreQuery.execute(params);
+		assertThat(result).containsExactly(trade1, trade2);
+
+		verify(this.datastoreTemplate, never()).queryKeysOrEntities(any(), any());
+	}
+
 	private void preparePageResults(int offset, Integer limit, Cursor cursor,
 			List<Integer> pageResults, List<Integer> fullResults) {
 		when(this.datastoreTemplate.queryKeysOrEntities(isA(EntityQuery.class), any())).thenAnswer((invocation) -> {
@@ -904,6 +989,10 @@ public class PartTreeDatastoreQueryTests {
 		return null;
 	}
 
+	public Stream<Trade> tradeMethodStream(String action, String symbol, double pless, double pgreater) {
+		return null;
+	}
+
 	public List<Trade> tradeMethod(String action, String symbol, double pless, double pgreater) {
 		return null;
 	}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Mutation.Op;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+
+/**
+ * Splits large sets of mutations into batches and commits the batches concurrently.
+ *
+ * @since 1.2.8
+ */
+final class BulkMutationWriter {
+
+	private static final Log LOGGER = LogFactory.getLog(BulkMutationWriter.class);
+
+	private BulkMutationWriter() {
+	}
+
+	/**
+	 * Splits groups of mutations into batches of at most the given number of mutations. The
+	 * mutations of a group, such as an entity and its interleaved children, are never split
+	 * across batches; a group larger than the limit gets a batch of its own.
+	 * @param mutationGroups the groups of mutations, in the order they are to be applied.
+	 * @param maxMutations the maximum number of mutations of a batch, counted like Cloud
+	 * Spanner counts them for the per-commit limit.
+	 * @return the batches.
+	 */
+	static List<List<Mutation>> partition(List<? extends Collection<Mutation>> mutationGroups,
+			int maxMutations) {
+		List<List<Mutation>> batches = new ArrayList<>();
+		List<Mutation> batch = new ArrayList<>();
+		int batchCount = 0;
+		for (Collection<Mutation> group : mutationGroups) {
+			int groupCount = 0;
+			for (Mutation mutation : group) {
+				groupCount += countMutations(mutation);
+			}
+			if (!batch.isEmpty() && batchCount + groupCount > maxMutations) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+				batchCount = 0;
+			}
+			batch.addAll(group);
+			batchCount += groupCount;
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	/**
+	 * Counts a mutation the way Cloud Spanner counts it towards the per-commit limit: one for
+	 * each column written, and one for a delete.
+	 * @param mutation the mutation.
+	 * @return the count.
+	 */
+	static int countMutations(Mutation mutation) {
+		if (mutation.getOperation() == Op.DELETE) {
+			return 1;
+		}
+		int count = 0;
+		for (String ignored : mutation.getColumns()) {
+			count++;
+		}
+		return Math.max(count, 1);
+	}
+
+	/**
+	 * Commits each batch in its own read-write transaction, with at most the given number of
+	 * commits in flight, and waits for all of them to complete. A failed batch does not stop
+	 * the remaining batches from being committed.
+	 * @param databaseClient the client used to commit.
+	 * @param batches the batches of mutations.
+	 * @param parallelism the maximum number of concurrent commits.
+	 * @throws SpannerBulkWriteException if any of the batches could not be committed.
+	 */
+	static void write(DatabaseClient databaseClient, List<List<Mutation>> batches, int parallelism) {
+		Semaphore permits = new Semaphore(parallelism);
+		List<ApiFuture<Void>> commits = new ArrayList<>(batches.size());
+		try {
+			for (List<Mutation> batch : batches) {
+				permits.acquire();
+				ApiFuture<Void> commit = commitAsync(databaseClient, batch);
+				commit.addListener(permits::release, Runnable::run);
+				commits.add(commit);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			commits.forEach((commit) -> commit.cancel(true));
+			throw new SpannerDataException("Interrupted while committing mutation batches.", ex);
+		}
+
+		List<List<Mutation>> committedBatches = new ArrayList<>();
+		List<List<Mutation>> failedBatches = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+		for (int i = 0; i < batches.size(); i++) {
+			try {
+				commits.get(i).get();
+				committedBatches.add(batches.get(i));
+			}
+			catch (ExecutionException ex) {
+				failedBatches.add(batches.get(i));
+				failures.add(ex.getCause());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new SpannerDataException("Interrupted while committing mutation batches.", ex);
+			}
+		}
+		LOGGER.debug("Committed " + committedBatches.size() + " of " + batches.size() + " mutation batches.");
+		if (!failedBatches.isEmpty()) {
+			throw new SpannerBulkWriteException(failedBatches.size() + " of " + batches.size()
+					+ " mutation batches could not be committed.", committedBatches, failedBatches, failures);
+		}
+	}
+
+	private static ApiFuture<Void> commitAsync(DatabaseClient databaseClient, List<Mutation> batch) {
+		try {
+			return databaseClient.runAsync().runAsync((transaction) -> {
+				transaction.buffer(batch);
+				return ApiFutures.immediateFuture(null);
+			}, Runnable::run);
+		}
+		catch (RuntimeException ex) {
+			return ApiFutures.immediateFailedFuture(ex);
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.function.Function;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the non-blocking operations available to use with Spanner. Reads are driven by
+ * the asynchronous result sets of the Spanner client and honor the demand of their
+ * subscribers; writes and DML statements run in their own read-write transactions.
+ * Nothing is executed until the returned publisher is subscribed to.
+ *
+ * @since 1.2.8
+ */
+public interface ReactiveSpannerOperations {
+
+	/**
+	 * Execute a DML statement on Cloud Spanner in a new read-write transaction.
+	 * @param statement the DML statement to execute.
+	 * @return the number of rows affected.
+	 */
+	Mono<Long> executeDmlStatement(Statement statement);
+
+	/**
+	 * Finds a single stored object using a key.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param key the key of the object.
+	 * @param <T> the type of the object to retrieve.
+	 * @return the object, or an empty {@link Mono} if no object is stored with the key.
+	 */
+	<T> Mono<T> read(Class<T> entityClass, Key key);
+
+	/**
+	 * Finds objects stored from their keys.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param keys the keys of the objects to retrieve.
+	 * @param options the Spanner read options with which to conduct the read operation.
+	 * @param <T> the type of the object to retrieve.
+	 * @return the objects found.
+	 */
+	<T> Flux<T> read(Class<T> entityClass, KeySet keys, SpannerReadOptions options);
+
+	/**
+	 * Finds all objects of the given type.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param <T> the type of the object to retrieve.
+	 * @return all objects of the type.
+	 */
+	<T> Flux<T> readAll(Class<T> entityClass);
+
+	/**
+	 * Finds all objects of the given type using a query, allowing sorting, offsets and
+	 * limits to be applied.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param options the Spanner query options with which to conduct the query.
+	 * @param <T> the type of the object to retrieve.
+	 * @return the objects found.
+	 */
+	<T> Flux<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options);
+
+	/**
+	 * Finds objects by using an SQL statement.
+	 * @param entityClass the type of object to retrieve.
+	 * @param statement the SQL statement used to select the objects.
+	 * @param options the Spanner query options with which to conduct the query.
+	 * @param <T> the type of object to retrieve.
+	 * @return the objects found.
+	 */
+	<T> Flux<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+	/**
+	 * Executes a query and maps each row with the given function.
+	 * @param rowFunc the function to apply to each row of the result.
+	 * @param statement the SQL statement used to select the rows.
+	 * @param options the Spanner query options with which to conduct the query.
+	 * @param <A> the type of the mapped rows.
+	 * @return the mapped rows.
+	 */
+	<A> Flux<A> query(Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+
+	/**
+	 * Returns whether an entity with the given key exists.
+	 * @param entityClass the type of the entity.
+	 * @param key the key of the object.
+	 * @param <T> the type of the object to check.
+	 * @return {@literal true} if an entity with the given key exists, {@literal false} otherwise.
+	 */
+	<T> Mono<Boolean> existsById(Class<T> entityClass, Key key);
+
+	/**
+	 * Count how many objects are stored of the given type.
+	 * @param entityClass the type of object to count.
+	 * @param <T> the type of the object to count.
+	 * @return the number of stored objects.
+	 */
+	<T> Mono<Long> count(Class<T> entityClass);
+
+	/**
+	 * Insert an object into Cloud Spanner.
+	 * @param object the object to insert.
+	 * @return a {@link Mono} that completes when the insert has been committed.
+	 */
+	Mono<Void> insert(Object object);
+
+	/**
+	 * Update an object already in Cloud Spanner.
+	 * @param object the object to update.
+	 * @return a {@link Mono} that completes when the update has been committed.
+	 */
+	Mono<Void> update(Object object);
+
+	/**
+	 * Update or insert an object into Cloud Spanner.
+	 * @param object the object to update or insert.
+	 * @return a {@link Mono} that completes when the write has been committed.
+	 */
+	Mono<Void> upsert(Object object);
+
+	/**
+	 * Update or insert objects into Cloud Spanner in a single transaction.
+	 * @param objects the objects to update or insert.
+	 * @return a {@link Mono} that completes when the writes have been committed.
+	 */
+	Mono<Void> upsertAll(Iterable<?> objects);
+
+	/**
+	 * Delete an object from Cloud Spanner.
+	 * @param entity the object to delete.
+	 * @return a {@link Mono} that completes when the delete has been committed.
+	 */
+	Mono<Void> delete(Object entity);
+
+	/**
+	 * Delete objects from Cloud Spanner in a single transaction.
+	 * @param entities the objects to delete.
+	 * @return a {@link Mono} that completes when the deletes have been committed.
+	 */
+	Mono<Void> deleteAll(Iterable<?> entities);
+
+	/**
+	 * Delete an entity from Cloud Spanner that is of the given type and has the given key.
+	 * @param entityClass the type of the object to delete.
+	 * @param key the key of the object to delete from storage.
+	 * @param <T> the type of the object to delete.
+	 * @return a {@link Mono} that completes when the delete has been committed.
+	 */
+	<T> Mono<Void> delete(Class<T> entityClass, Key key);
+
+	/**
+	 * Delete objects from Cloud Spanner that are of the given type and have one of the
+	 * given keys.
+	 * @param entityClass the type of the object to delete.
+	 * @param keys the keys of the objects to delete.
+	 * @param <T> the type of the object to delete.
+	 * @return a {@link Mono} that completes when the deletes have been committed.
+	 */
+	<T> Mono<Void> delete(Class<T> entityClass, KeySet keys);
+}
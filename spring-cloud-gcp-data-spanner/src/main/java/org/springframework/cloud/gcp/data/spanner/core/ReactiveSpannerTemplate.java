@@ -0,0 +1,452 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Options.QueryOption;
+import com.google.cloud.spanner.Options.ReadOption;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntity;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterDeleteEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterSaveEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeDeleteEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeSaveEvent;
+import org.springframework.cloud.gcp.data.spanner.repository.query.SpannerStatementQueryExecutor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A non-blocking implementation of {@link ReactiveSpannerOperations} built on the
+ * asynchronous APIs of the Spanner client.
+ *
+ * <p>Query and read results are produced by {@link AsyncResultSet} callbacks. Rows are only
+ * pulled from the result set while the subscriber has outstanding demand; the callback is
+ * paused otherwise and resumed when more rows are requested. Rows are mapped with the
+ * entity processor of the {@link SpannerTemplate} this template is created from. Resolving
+ * interleaved children requires further blocking reads, so entities with
+ * {@link org.springframework.cloud.gcp.data.spanner.core.mapping.Interleaved} properties
+ * are rejected by the entity-mapping operations of this template.
+ *
+ * <p>Operations of this template do not participate in transactions managed by
+ * {@link SpannerTransactionManager}. Reads use single-use read contexts, and every write or
+ * DML call runs in its own read-write transaction.
+ *
+ * @since 1.2.8
+ */
+public class ReactiveSpannerTemplate
+		implements ReactiveSpannerOperations, ApplicationEventPublisherAware, DisposableBean {
+
+	private static final int DEFAULT_EXECUTOR_THREADS = 4;
+
+	private final SpannerTemplate spannerTemplate;
+
+	private final Supplier<DatabaseClient> databaseClientProvider;
+
+	private final SpannerMappingContext mappingContext;
+
+	private final SpannerEntityProcessor spannerEntityProcessor;
+
+	private final SpannerMutationFactory mutationFactory;
+
+	private final ExecutorService defaultExecutor;
+
+	private Executor executor;
+
+	private @Nullable ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Constructor.
+	 * @param spannerTemplate the blocking template whose database client, mapping context,
+	 * entity processor and mutation factory are used by this template.
+	 */
+	public ReactiveSpannerTemplate(SpannerTemplate spannerTemplate) {
+		Assert.notNull(spannerTemplate, "A valid SpannerTemplate is required.");
+		this.spannerTemplate = spannerTemplate;
+		this.databaseClientProvider = spannerTemplate.getDatabaseClientProvider();
+		this.mappingContext = spannerTemplate.getMappingContext();
+		this.spannerEntityProcessor = spannerTemplate.getSpannerEntityProcessor();
+		this.mutationFactory = spannerTemplate.getMutationFactory();
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("reactive-spanner-");
+		threadFactory.setDaemon(true);
+		this.defaultExecutor = Executors.newFixedThreadPool(DEFAULT_EXECUTOR_THREADS, threadFactory);
+		this.executor = this.defaultExecutor;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.eventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Sets the executor that runs result set callbacks and asynchronous transaction work.
+	 * Rows are mapped and emitted to subscribers on this executor, so it should not be a
+	 * direct executor if subscribers may block. Defaults to a small pool of daemon threads
+	 * owned by this template and shut down when it is destroyed.
+	 * @param executor the executor to use.
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "A valid executor is required.");
+		this.executor = executor;
+	}
+
+	@Override
+	public void destroy() {
+		this.defaultExecutor.shutdown();
+	}
+
+	/**
+	 * Get the blocking template this template was created from.
+	 * @return the blocking template.
+	 */
+	public SpannerTemplate getSpannerTemplate() {
+		return this.spannerTemplate;
+	}
+
+	public SpannerMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	public SpannerEntityProcessor getSpannerEntityProcessor() {
+		return this.spannerEntityProcessor;
+	}
+
+	@Override
+	public Mono<Long> executeDmlStatement(Statement statement) {
+		Assert.notNull(statement, "A non-null statement is required.");
+		return Mono.defer(() -> {
+			maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
+			return toMono(() -> this.databaseClientProvider.get().runAsync()
+					.runAsync((transactionContext) -> transactionContext.executeUpdateAsync(statement),
+							this.executor));
+		}).doOnNext((rowsAffected) -> maybeEmitEvent(new AfterExecuteDmlEvent(statement, rowsAffected)));
+	}
+
+	@Override
+	public <T> Mono<T> read(Class<T> entityClass, Key key) {
+		return read(entityClass, KeySet.singleKey(key), null).next();
+	}
+
+	@Override
+	public <T> Flux<T> read(Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
+		SpannerPersistentEntity<T> persistentEntity = getNonInterleavedEntity(entityClass);
+		Set<String> includeProperties = (options != null) ? options.getIncludeProperties() : null;
+		boolean allowPartialRead = options != null && options.isAllowPartialRead();
+		if (persistentEntity.hasWhere()) {
+			SpannerQueryOptions queryOptions = SpannerTemplate.toQueryOption(keys, options);
+			return query(entityClass, SpannerStatementQueryExecutor.buildQuery(keys, persistentEntity,
+					this.spannerEntityProcessor.getWriteConverter(), this.mappingContext,
+					persistentEntity.getWhere(), (options != null) ? options.getIndex() : null), queryOptions);
+		}
+		return toFlux(() -> {
+			ReadContext readContext = getReadContext(options);
+			ReadOption[] readOptions = (options != null) ? options.getOptions() : new ReadOption[0];
+			return (options != null && options.getIndex() != null)
+					? readContext.readUsingIndexAsync(persistentEntity.tableName(), options.getIndex(), keys,
+							persistentEntity.columns(), readOptions)
+					: readContext.readAsync(persistentEntity.tableName(), keys, persistentEntity.columns(),
+							readOptions);
+		}, (struct) -> readEntity(entityClass, struct, includeProperties, allowPartialRead));
+	}
+
+	@Override
+	public <T> Flux<T> readAll(Class<T> entityClass) {
+		return read(entityClass, KeySet.all(), null);
+	}
+
+	@Override
+	public <T> Flux<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options) {
+		SpannerPersistentEntity<?> entity = getNonInterleavedEntity(entityClass);
+		String sql = "SELECT " + SpannerStatementQueryExecutor.getColumnsStringForSelect(
+				entity, this.mappingContext, false)
+				+ " FROM " + entity.tableName() + SpannerStatementQueryExecutor.buildWhere(entity);
+		return query(entityClass, SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
+				SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
+						entityClass, options, sql, this.mappingContext, false),
+				null, null, null, null, null), options);
+	}
+
+	@Override
+	public <T> Flux<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+		getNonInterleavedEntity(entityClass);
+		Set<String> includeProperties = (options != null) ? options.getIncludeProperties() : null;
+		boolean allowPartialRead = options != null && options.isAllowPartialRead();
+		return query((struct) -> readEntity(entityClass, struct, includeProperties, allowPartialRead),
+				statement, options);
+	}
+
+	@Override
+	public <A> Flux<A> query(Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+		Assert.notNull(statement, "A non-null statement is required.");
+		return toFlux(() -> getReadContext(options).executeQueryAsync(statement,
+				(options != null) ? options.getOptions() : new QueryOption[0]), rowFunc);
+	}
+
+	@Override
+	public <T> Mono<Boolean> existsById(Class<T> entityClass, Key key) {
+		Assert.notNull(key, "A non-null key is required.");
+		SpannerPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(entityClass);
+		return toFlux(() -> this.databaseClientProvider.get().singleUse().readAsync(persistentEntity.tableName(),
+				KeySet.singleKey(key), Collections.singleton(persistentEntity.getPrimaryKeyColumnName())),
+				(struct) -> struct).hasElements();
+	}
+
+	@Override
+	public <T> Mono<Long> count(Class<T> entityClass) {
+		SpannerPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(entityClass);
+		Statement statement = Statement.of(
+				String.format("SELECT COUNT(*) FROM %s", persistentEntity.tableName()));
+		return query((struct) -> struct.getLong(0), statement, null).single();
+	}
+
+	@Override
+	public Mono<Void> insert(Object object) {
+		return applySaveMutations(() -> this.mutationFactory.insert(object), Collections.singletonList(object));
+	}
+
+	@Override
+	public Mono<Void> update(Object object) {
+		return applySaveMutations(() -> this.mutationFactory.update(object, null),
+				Collections.singletonList(object));
+	}
+
+	@Override
+	public Mono<Void> upsert(Object object) {
+		return applySaveMutations(() -> this.mutationFactory.upsert(object, null),
+				Collections.singletonList(object));
+	}
+
+	@Override
+	public Mono<Void> upsertAll(Iterable<?> objects) {
+		return applySaveMutations(() -> StreamSupport.stream(objects.spliterator(), false)
+				.flatMap((x) -> this.mutationFactory.upsert(x, null).stream())
+				.collect(Collectors.toList()), objects);
+	}
+
+	@Override
+	public Mono<Void> delete(Object entity) {
+		return applyDeleteMutations(Collections.singletonList(entity),
+				() -> Collections.singletonList(this.mutationFactory.delete(entity)));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<?> entities) {
+		return applyDeleteMutations(entities, () -> StreamSupport.stream(entities.spliterator(), false)
+				.map(this.mutationFactory::delete).collect(Collectors.toList()));
+	}
+
+	@Override
+	public <T> Mono<Void> delete(Class<T> entityClass, Key key) {
+		return delete(entityClass, KeySet.singleKey(key));
+	}
+
+	@Override
+	public <T> Mono<Void> delete(Class<T> entityClass, KeySet keys) {
+		return Mono.defer(() -> {
+			List<Mutation> mutations = Collections.singletonList(this.mutationFactory.delete(entityClass, keys));
+			maybeEmitEvent(new BeforeDeleteEvent(mutations, null, keys, entityClass));
+			return applyMutations(mutations)
+					.doOnSuccess((x) -> maybeEmitEvent(new AfterDeleteEvent(mutations, null, keys, entityClass)));
+		});
+	}
+
+	private Mono<Void> applySaveMutations(Supplier<List<Mutation>> mutationsSupplier, Iterable<?> entities) {
+		return Mono.defer(() -> {
+			maybeEmitEvent(new BeforeSaveEvent(entities, null));
+			List<Mutation> mutations = mutationsSupplier.get();
+			return applyMutations(mutations)
+					.doOnSuccess((x) -> maybeEmitEvent(new AfterSaveEvent(mutations, entities, null)));
+		});
+	}
+
+	private Mono<Void> applyDeleteMutations(Iterable<?> entities, Supplier<List<Mutation>> mutationsSupplier) {
+		return Mono.defer(() -> {
+			List<Mutation> mutations = mutationsSupplier.get();
+			maybeEmitEvent(new BeforeDeleteEvent(mutations, entities, null, null));
+			return applyMutations(mutations)
+					.doOnSuccess((x) -> maybeEmitEvent(new AfterDeleteEvent(mutations, entities, null, null)));
+		});
+	}
+
+	private Mono<Void> applyMutations(Collection<Mutation> mutations) {
+		return toMono(() -> this.databaseClientProvider.get().runAsync()
+				.<Void>runAsync((transactionContext) -> {
+					transactionContext.buffer(mutations);
+					return ApiFutures.immediateFuture(null);
+				}, this.executor));
+	}
+
+	private ReadContext getReadContext(AbstractSpannerRequestOptions<?> options) {
+		return (options != null && options.getTimestampBound() != null)
+				? this.databaseClientProvider.get().singleUse(options.getTimestampBound())
+				: this.databaseClientProvider.get().singleUse();
+	}
+
+	private <T> T readEntity(Class<T> entityClass, Struct struct, Set<String> includeProperties,
+			boolean allowPartialRead) {
+		return this.spannerEntityProcessor.read(entityClass, struct, includeProperties, allowPartialRead);
+	}
+
+	private <T> SpannerPersistentEntity<T> getNonInterleavedEntity(Class<T> entityClass) {
+		SpannerPersistentEntity<T> persistentEntity =
+				(SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntity(entityClass);
+		persistentEntity.doWithInterleavedProperties((spannerPersistentProperty) -> {
+			throw new SpannerDataException("Entities with interleaved properties are not supported by the "
+					+ "reactive template: " + entityClass.getName());
+		});
+		return persistentEntity;
+	}
+
+	/**
+	 * Emits the rows of an asynchronous result set as they are requested. The callback
+	 * pauses the result set when there is no outstanding demand. Resuming a result set has
+	 * no effect unless its callback has already returned, so resumes are submitted to the
+	 * same sequential executor as the callback and always run after a pausing callback.
+	 */
+	private <A> Flux<A> toFlux(Supplier<AsyncResultSet> resultSetSupplier, Function<Struct, A> rowFunc) {
+		return Flux.create((sink) -> {
+			Executor callbackExecutor = new SequentialExecutor(this.executor);
+			AsyncResultSet resultSet = resultSetSupplier.get();
+			resultSet.setCallback(callbackExecutor, (cursor) -> {
+				try {
+					while (true) {
+						if (sink.isCancelled()) {
+							return CallbackResponse.DONE;
+						}
+						if (sink.requestedFromDownstream() == 0) {
+							return CallbackResponse.PAUSE;
+						}
+						CursorState state = cursor.tryNext();
+						if (state == CursorState.DONE) {
+							sink.complete();
+							return CallbackResponse.DONE;
+						}
+						if (state == CursorState.NOT_READY) {
+							return CallbackResponse.CONTINUE;
+						}
+						sink.next(rowFunc.apply(cursor.getCurrentRowAsStruct()));
+					}
+				}
+				catch (Throwable ex) {
+					sink.error(ex);
+					return CallbackResponse.DONE;
+				}
+			});
+			sink.onRequest((n) -> callbackExecutor.execute(resultSet::resume));
+			sink.onCancel(resultSet::cancel);
+		});
+	}
+
+	private static <T> Mono<T> toMono(Supplier<ApiFuture<T>> futureSupplier) {
+		return Mono.create((sink) -> {
+			ApiFuture<T> future = futureSupplier.get();
+			sink.onCancel(() -> future.cancel(true));
+			ApiFutures.addCallback(future, new ApiFutureCallback<T>() {
+				@Override
+				public void onFailure(Throwable throwable) {
+					sink.error(throwable);
+				}
+
+				@Override
+				public void onSuccess(T result) {
+					sink.success(result);
+				}
+			}, Runnable::run);
+		});
+	}
+
+	private void maybeEmitEvent(ApplicationEvent event) {
+		if (this.eventPublisher != null) {
+			this.eventPublisher.publishEvent(event);
+		}
+	}
+
+	/**
+	 * Runs submitted tasks one at a time and in submission order on a delegate executor.
+	 */
+	private static final class SequentialExecutor implements Executor {
+
+		private final Executor delegate;
+
+		private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+		private Runnable active;
+
+		SequentialExecutor(Executor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public synchronized void execute(Runnable task) {
+			this.tasks.add(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					scheduleNext();
+				}
+			});
+			if (this.active == null) {
+				scheduleNext();
+			}
+		}
+
+		private synchronized void scheduleNext() {
+			this.active = this.tasks.poll();
+			if (this.active != null) {
+				this.delegate.execute(this.active);
+			}
+		}
+	}
+}
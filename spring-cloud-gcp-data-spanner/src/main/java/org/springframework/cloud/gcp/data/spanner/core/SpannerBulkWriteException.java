@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.google.cloud.spanner.Mutation;
+
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+
+/**
+ * Thrown when some of the batches of a bulk write could not be committed. Every batch is
+ * committed in its own transaction, so the batches that were committed are not rolled
+ * back and only the failed batches need to be retried.
+ *
+ * @since 1.2.8
+ */
+public class SpannerBulkWriteException extends SpannerDataException {
+
+	private final List<List<Mutation>> committedBatches;
+
+	private final List<List<Mutation>> failedBatches;
+
+	private final List<Throwable> failures;
+
+	/**
+	 * Constructor.
+	 * @param message the exception message.
+	 * @param committedBatches the batches of mutations that were committed.
+	 * @param failedBatches the batches of mutations that were not committed.
+	 * @param failures the cause of the failure of each failed batch, in the same order as
+	 * the failed batches.
+	 */
+	public SpannerBulkWriteException(String message, List<List<Mutation>> committedBatches,
+			List<List<Mutation>> failedBatches, List<Throwable> failures) {
+		super(message, failures.isEmpty() ? null : failures.get(0));
+		this.committedBatches = Collections.unmodifiableList(committedBatches);
+		this.failedBatches = Collections.unmodifiableList(failedBatches);
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	public List<List<Mutation>> getCommittedBatches() {
+		return this.committedBatches;
+	}
+
+	public List<List<Mutation>> getFailedBatches() {
+		return this.failedBatches;
+	}
+
+	public List<Throwable> getFailures() {
+		return this.failures;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A page of rows read with a {@link SpannerKeysetPageRequest}. Its
+ * {@link #nextPageable()} carries the sort-key values of the last row, so following pages
+ * can be read by seeking instead of by an offset.
+ *
+ * <p>Unless the total number of rows was counted, {@link #getTotalElements()} only covers
+ * the rows up to the end of this page, plus one if more rows follow. The total is then
+ * exact only for the last page.
+ *
+ * @param <T> the type of the rows.
+ *
+ * @since 1.2.8
+ */
+public class SpannerKeysetPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final SpannerKeysetPageRequest pageRequest;
+
+	private final boolean hasNext;
+
+	private final boolean totalCounted;
+
+	/**
+	 * Constructor for a page whose total number of rows was not counted.
+	 * @param content the rows of the page.
+	 * @param pageRequest the request this page was read with.
+	 * @param hasNext whether more rows follow this page.
+	 */
+	public SpannerKeysetPage(List<T> content, SpannerKeysetPageRequest pageRequest, boolean hasNext) {
+		super(content, pageRequest, pageRequest.getOffset() + content.size() + (hasNext ? 1 : 0));
+		this.pageRequest = pageRequest;
+		this.hasNext = hasNext;
+		this.totalCounted = false;
+	}
+
+	/**
+	 * Constructor.
+	 * @param content the rows of the page.
+	 * @param pageRequest the request this page was read with.
+	 * @param hasNext whether more rows follow this page.
+	 * @param total the total number of rows.
+	 */
+	public SpannerKeysetPage(List<T> content, SpannerKeysetPageRequest pageRequest, boolean hasNext, long total) {
+		super(content, pageRequest, total);
+		this.pageRequest = pageRequest;
+		this.hasNext = hasNext;
+		this.totalCounted = true;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.hasNext;
+	}
+
+	@Override
+	public boolean isLast() {
+		return !this.hasNext;
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		if (!this.hasNext) {
+			return Pageable.unpaged();
+		}
+		SpannerKeysetPageRequest next = this.pageRequest.after(getContent().get(getContent().size() - 1));
+		return this.totalCounted ? next.withTotal(getTotalElements()) : next;
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Pageable} that selects a page by the sort-key values of the last row of the
+ * previous page instead of by an offset. Queries for such a page seek directly to the
+ * first row after those values, so reading a deep page costs the same as reading the
+ * first one.
+ *
+ * <p>The sort must define a total order over the rows, so it must include all primary
+ * key properties of the queried entity. The first page is requested with
+ * {@link #of(int, Sort)}, and each following page with {@link #after(Object)} using the
+ * last row of the current page.
+ *
+ * <p>The total number of rows is not counted unless requested with
+ * {@link #withTotalCount()}, in which case it is counted once when the first page is read
+ * and carried over to the requests for the following pages.
+ *
+ * @since 1.2.8
+ */
+public final class SpannerKeysetPageRequest implements Pageable, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int page;
+
+	private final int size;
+
+	private final Sort sort;
+
+	private final List<Object> keysetValues;
+
+	private final boolean countTotal;
+
+	private final Long total;
+
+	private SpannerKeysetPageRequest(int page, int size, Sort sort, List<Object> keysetValues,
+			boolean countTotal, Long total) {
+		Assert.isTrue(size > 0, "Page size must be greater than zero.");
+		Assert.notNull(sort, "A valid sort is required.");
+		Assert.isTrue(sort.isSorted(), "Keyset pagination requires a sort.");
+		Assert.isTrue(keysetValues == null || keysetValues.size() == sort.stream().count(),
+				"The number of keyset values must match the number of sort orders.");
+		this.page = page;
+		this.size = size;
+		this.sort = sort;
+		this.keysetValues = keysetValues;
+		this.countTotal = countTotal;
+		this.total = total;
+	}
+
+	/**
+	 * Creates a request for the first page.
+	 * @param size the number of rows in a page.
+	 * @param sort the sort of the rows, which must include all primary key properties.
+	 * @return the page request.
+	 */
+	public static SpannerKeysetPageRequest of(int size, Sort sort) {
+		return new SpannerKeysetPageRequest(0, size, sort, null, false, null);
+	}
+
+	/**
+	 * Creates a copy of this request for which the total number of rows is counted.
+	 * @return the page request.
+	 */
+	public SpannerKeysetPageRequest withTotalCount() {
+		return new SpannerKeysetPageRequest(this.page, this.size, this.sort, this.keysetValues, true, this.total);
+	}
+
+	SpannerKeysetPageRequest withTotal(long total) {
+		return new SpannerKeysetPageRequest(this.page, this.size, this.sort, this.keysetValues, true, total);
+	}
+
+	/**
+	 * Creates a request for the page that follows the given row.
+	 * @param lastRow the last entity of the current page.
+	 * @return the page request for the next page.
+	 */
+	public SpannerKeysetPageRequest after(Object lastRow) {
+		Assert.notNull(lastRow, "A valid row is required.");
+		PropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(lastRow);
+		List<Object> values = new ArrayList<>();
+		this.sort.forEach((order) -> values.add(accessor.getPropertyValue(order.getProperty())));
+		return afterValues(values);
+	}
+
+	/**
+	 * Creates a request for the page that follows the row with the given sort-key values.
+	 * @param values the values of the sort properties of the last row of the current page,
+	 * in the order of the sort.
+	 * @return the page request for the next page.
+	 */
+	public SpannerKeysetPageRequest afterValues(List<Object> values) {
+		Assert.notNull(values, "Valid keyset values are required.");
+		return new SpannerKeysetPageRequest(this.page + 1, this.size, this.sort,
+				Collections.unmodifiableList(new ArrayList<>(values)), this.countTotal, this.total);
+	}
+
+	/**
+	 * Whether the total number of rows is reported by pages read with this request.
+	 * @return {@code true} if the total is counted.
+	 */
+	public boolean isCountTotal() {
+		return this.countTotal;
+	}
+
+	/**
+	 * Gets the total number of rows counted when an earlier page was read.
+	 * @return the total, or {@code null} if it has not been counted yet.
+	 */
+	public Long getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * Gets the sort-key values of the row after which this page starts.
+	 * @return the values in the order of the sort, or {@code null} for the first page.
+	 */
+	public List<Object> getKeysetValues() {
+		return this.keysetValues;
+	}
+
+	@Override
+	public int getPageNumber() {
+		return this.page;
+	}
+
+	@Override
+	public int getPageSize() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the logical offset of this page. It is not used by queries, which seek to the
+	 * keyset values instead.
+	 * @return the number of rows in the preceding pages.
+	 */
+	@Override
+	public long getOffset() {
+		return (long) this.page * this.size;
+	}
+
+	@Override
+	public Sort getSort() {
+		return this.sort;
+	}
+
+	/**
+	 * Not supported, as the next page can only be determined from the rows of this page.
+	 * @return never returns normally.
+	 * @throws UnsupportedOperationException always.
+	 * @see #after(Object)
+	 */
+	@Override
+	public Pageable next() {
+		throw new UnsupportedOperationException(
+				"The next keyset page must be requested with the last row of the current page.");
+	}
+
+	@Override
+	public Pageable previousOrFirst() {
+		return first();
+	}
+
+	@Override
+	public Pageable first() {
+		return new SpannerKeysetPageRequest(0, this.size, this.sort, null, this.countTotal, this.total);
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return this.keysetValues != null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		SpannerKeysetPageRequest that = (SpannerKeysetPageRequest) o;
+		return this.page == that.page
+				&& this.size == that.size
+				&& this.sort.equals(that.sort)
+				&& Objects.equals(this.keysetValues, that.keysetValues)
+				&& this.countTotal == that.countTotal
+				&& Objects.equals(this.total, that.total);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.page, this.size, this.sort, this.keysetValues, this.countTotal, this.total);
+	}
+
+	@Override
+	public String toString() {
+		return "SpannerKeysetPageRequest{page=" + this.page + ", size=" + this.size + ", sort=" + this.sort
+				+ ", keysetValues=" + this.keysetValues + ", countTotal=" + this.countTotal + ", total=" + this.total
+				+ "}";
+	}
+}
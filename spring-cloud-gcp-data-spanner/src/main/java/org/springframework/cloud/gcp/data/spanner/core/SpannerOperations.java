@@ -19,6 +19,7 @@ package org.springframework.cloud.gcp.data.spanner.core;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
@@ -168,6 +169,88 @@ public interface SpannerOperations {
 	 */
 	<T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options);
 
+	/**
+	 * Executes a given query string with tags and parameters and lazily applies a given
+	 * function to each row of the result as the stream is consumed. The underlying
+	 * {@link com.google.cloud.spanner.ResultSet} is closed when the stream is exhausted or
+	 * closed, so the stream should be used within a try-with-resources block if it may not
+	 * be fully consumed. No {@code AfterQueryEvent} is published because the results are
+	 * not retained.
+	 * @param rowFunc the function to apply to each row of the result.
+	 * @param statement the SQL statement used to select the objects.
+	 * @param options the options with which to run this query.
+	 * @param <A> the type to convert each row Struct into.
+	 * @return a stream of the rows each transformed with the given function.
+	 */
+	<A> Stream<A> queryStream(Function<Struct, A> rowFunc, Statement statement,
+			SpannerQueryOptions options);
+
+	/**
+	 * Finds objects by using an SQL statement, converting each row only when the stream is
+	 * consumed. The underlying {@link com.google.cloud.spanner.ResultSet} is closed when the
+	 * stream is exhausted or closed. Interleaved children are resolved for each entity as it
+	 * is read, and no {@code AfterQueryEvent} is published because the results are not
+	 * retained.
+	 * @param entityClass the type of object to retrieve.
+	 * @param statement the SQL statement used to select the objects.
+	 * @param options the Cloud Spanner query options with which to conduct the query operation.
+	 * @param <T> the type of object to retrieve.
+	 * @return a stream of the objects found.
+	 */
+	<T> Stream<T> queryStream(Class<T> entityClass, Statement statement,
+			SpannerQueryOptions options);
+
+	/**
+	 * Finds all objects of the given type, converting each row only when the stream is
+	 * consumed. See {@link #queryStream(Class, Statement, SpannerQueryOptions)} for the
+	 * stream lifecycle.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param options the Cloud Spanner read options with which to conduct the read operation.
+	 * @param <T> the type of the object to retrieve.
+	 * @return a stream of all objects stored of the given type.
+	 */
+	<T> Stream<T> readAllStream(Class<T> entityClass, SpannerReadOptions options);
+
+	/**
+	 * Finds all objects of the given type with a query, converting each row only when the
+	 * stream is consumed. See {@link #queryStream(Class, Statement, SpannerQueryOptions)} for
+	 * the stream lifecycle.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param options the Cloud Spanner query options with which to conduct the query operation.
+	 * @param <T> the type of the object to retrieve.
+	 * @return a stream of all objects stored of the given type.
+	 */
+	<T> Stream<T> queryAllStream(Class<T> entityClass, SpannerPageableQueryOptions options);
+
+	/**
+	 * Finds objects by using an SQL statement that Cloud Spanner splits into partitions,
+	 * which are read in parallel in a single batch read-only transaction. All partitions
+	 * see the data as of the same timestamp. The statement must be root-partitionable,
+	 * and the order of the results is not defined. Interleaved children are resolved
+	 * separately for the entities of each partition and are not read at the timestamp of
+	 * the batch transaction.
+	 * @param entityClass the type of object to retrieve.
+	 * @param statement the SQL statement used to select the objects.
+	 * @param options the Cloud Spanner query options with which to conduct the query
+	 *     operation. The timestamp bound of the options selects the timestamp of the batch
+	 *     transaction.
+	 * @param <T> the type of object to retrieve.
+	 * @return a list of the objects found.
+	 */
+	<T> List<T> queryPartitioned(Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+	/**
+	 * Finds all objects of the given type by reading partitions of the table in parallel
+	 * in a single batch read-only transaction. See
+	 * {@link #queryPartitioned(Class, Statement, SpannerQueryOptions)} for the semantics of
+	 * partitioned reads.
+	 * @param entityClass the type of the object to retrieve.
+	 * @param options the Cloud Spanner read options with which to conduct the read operation.
+	 * @param <T> the type of the object to retrieve.
+	 * @return a list of all objects stored of the given type.
+	 */
+	<T> List<T> readAllPartitioned(Class<T> entityClass, SpannerReadOptions options);
+
 	/**
 	 * Deletes an object based on a key.
 	 * @param entityClass the type of the object to delete.
@@ -20,23 +20,45 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
+import com.google.cloud.spanner.BatchClient;
+import com.google.cloud.spanner.BatchReadOnlyTransaction;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spanner.Mutation;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.Options.ReadOption;
+import com.google.cloud.spanner.Partition;
+import com.google.cloud.spanner.PartitionOptions;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
@@ -48,12 +70,14 @@ import com.google.cloud.spanner.TransactionRunner.TransactionCallable;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.gcp.data.spanner.core.admin.SpannerSchemaUtils;
 import org.springframework.cloud.gcp.data.spanner.core.convert.ConversionUtils;
 import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntity;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentProperty;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterDeleteEvent;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterQueryEvent;
@@ -62,11 +86,13 @@ import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterSaveEv
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeSaveEvent;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerMetricsRecorder;
 import org.springframework.cloud.gcp.data.spanner.repository.query.SpannerStatementQueryExecutor;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -80,10 +106,17 @@ import org.springframework.util.Assert;
  *
  * @since 1.1
  */
-public class SpannerTemplate implements SpannerOperations, ApplicationEventPublisherAware {
+public class SpannerTemplate implements SpannerOperations, ApplicationEventPublisherAware, DisposableBean {
 
 	private static final Log LOGGER = LogFactory.getLog(SpannerTemplate.class);
 
+	/**
+	 * Cloud Spanner limits the number of parameters in a single query statement. Batched
+	 * child queries are split so that each statement stays below this number of bound key
+	 * parts.
+	 */
+	private static final int MAX_CHILD_QUERY_KEY_PARTS = 950;
+
 	private final Supplier<DatabaseClient> databaseClientProvider;
 
 	private final SpannerMappingContext mappingContext;
@@ -96,6 +129,20 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
 	private @Nullable ApplicationEventPublisher eventPublisher;
 
+	private boolean batchInterleavedReads;
+
+	private int bulkWriteMaxMutations;
+
+	private int bulkWriteParallelism = 1;
+
+	private @Nullable Supplier<BatchClient> batchClientProvider;
+
+	private @Nullable Executor partitionedReadExecutor;
+
+	private @Nullable ExecutorService defaultPartitionedReadExecutor;
+
+	private @Nullable SpannerMetricsRecorder metricsRecorder;
+
 	public SpannerTemplate(Supplier<DatabaseClient> databaseClientProvider,
 			SpannerMappingContext mappingContext,
 			SpannerEntityProcessor spannerEntityProcessor,
@@ -122,6 +169,116 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 		this.eventPublisher = applicationEventPublisher;
 	}
 
+	/**
+	 * Controls how interleaved child properties are resolved when a list of entities is
+	 * read. When {@code false} (the default) the children of each parent are retrieved with
+	 * a separate statement per parent. When {@code true} the children of every parent in the
+	 * result are retrieved together with one statement per child table, and then distributed
+	 * to their parents. Lazily-loaded interleaved properties are still loaded on first
+	 * access, but the first access loads the children for all parents of the same result.
+	 * @param batchInterleavedReads whether to resolve interleaved children in batches.
+	 */
+	public void setBatchInterleavedReads(boolean batchInterleavedReads) {
+		this.batchInterleavedReads = batchInterleavedReads;
+	}
+
+	public boolean isBatchInterleavedReads() {
+		return this.batchInterleavedReads;
+	}
+
+	/**
+	 * Enables bulk writes for {@code insertAll}, {@code updateAll}, {@code upsertAll} and
+	 * {@code deleteAll} when they are not called within a transaction. Their mutations are
+	 * split into batches of at most this many mutations, counted like Cloud Spanner counts
+	 * them against its per-commit limit, and each batch is committed in its own
+	 * transaction. The mutations of an entity and its interleaved children are always kept
+	 * in the same batch. If any batch fails, a {@link SpannerBulkWriteException} reports the
+	 * committed and failed batches. A value of {@code 0} (the default) disables bulk writes.
+	 * @param bulkWriteMaxMutations the maximum number of mutations of each commit.
+	 */
+	public void setBulkWriteMaxMutations(int bulkWriteMaxMutations) {
+		Assert.isTrue(bulkWriteMaxMutations >= 0, "The maximum number of mutations must not be negative.");
+		this.bulkWriteMaxMutations = bulkWriteMaxMutations;
+	}
+
+	public int getBulkWriteMaxMutations() {
+		return this.bulkWriteMaxMutations;
+	}
+
+	/**
+	 * Sets how many batches of a bulk write may be committed concurrently. Defaults to
+	 * {@code 1}, which commits the batches one after another.
+	 * @param bulkWriteParallelism the maximum number of concurrent commits.
+	 * @see #setBulkWriteMaxMutations(int)
+	 */
+	public void setBulkWriteParallelism(int bulkWriteParallelism) {
+		Assert.isTrue(bulkWriteParallelism > 0, "The bulk write parallelism must be positive.");
+		this.bulkWriteParallelism = bulkWriteParallelism;
+	}
+
+	public int getBulkWriteParallelism() {
+		return this.bulkWriteParallelism;
+	}
+
+	/**
+	 * Sets the provider of the batch clients used for partitioned reads. It must provide
+	 * clients for the same database as the database client provider of this template.
+	 * Partitioned reads are not available without it.
+	 * @param batchClientProvider the batch client provider.
+	 * @see #queryPartitioned(Class, Statement, SpannerQueryOptions)
+	 */
+	public void setBatchClientProvider(Supplier<BatchClient> batchClientProvider) {
+		this.batchClientProvider = batchClientProvider;
+	}
+
+	/**
+	 * Sets the executor on which the partitions of partitioned reads are read and mapped.
+	 * The number of partitions read concurrently is bounded by the parallelism of the
+	 * executor. Defaults to a pool of daemon threads, one per available processor, that is
+	 * created on the first partitioned read and shut down when this template is destroyed.
+	 * @param partitionedReadExecutor the executor to use.
+	 */
+	public synchronized void setPartitionedReadExecutor(Executor partitionedReadExecutor) {
+		Assert.notNull(partitionedReadExecutor, "A valid executor is required.");
+		this.partitionedReadExecutor = partitionedReadExecutor;
+	}
+
+	private synchronized Executor getPartitionedReadExecutor() {
+		if (this.partitionedReadExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("spanner-partitioned-read-");
+			threadFactory.setDaemon(true);
+			int threads = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+			this.defaultPartitionedReadExecutor = executor;
+			this.partitionedReadExecutor = executor;
+		}
+		return this.partitionedReadExecutor;
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (this.defaultPartitionedReadExecutor != null) {
+			this.defaultPartitionedReadExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Sets the recorder that receives the latency and outcome of the queries, reads,
+	 * writes and transactions performed by this template. Streamed results are not
+	 * recorded. No metrics are recorded by default.
+	 * @param metricsRecorder the metrics recorder, or {@code null} to record nothing.
+	 */
+	public void setMetricsRecorder(@Nullable SpannerMetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	@Nullable
+	public SpannerMetricsRecorder getMetricsRecorder() {
+		return this.metricsRecorder;
+	}
+
 	protected ReadContext getReadContext() {
 		return doWithOrWithoutTransactionContext((x) -> x, this.databaseClientProvider.get()::singleUse);
 	}
@@ -139,6 +296,14 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 		return this.spannerEntityProcessor;
 	}
 
+	Supplier<DatabaseClient> getDatabaseClientProvider() {
+		return this.databaseClientProvider;
+	}
+
+	SpannerMutationFactory getMutationFactory() {
+		return this.mutationFactory;
+	}
+
 	@Override
 	public long executeDmlStatement(Statement statement) {
 		Assert.notNull(statement, "A non-null statement is required.");
@@ -201,10 +366,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 					toQueryOption(keys, options), options != null ? options.getIndex() : null);
 		}
 		else {
-			entities = mapToListAndResolveChildren(executeRead(persistentEntity.tableName(), keys,
-					persistentEntity.columns(), options), entityClass,
-					(options != null) ? options.getIncludeProperties() : null,
-					options != null && options.isAllowPartialRead());
+			entities = recordOperation("read", entityClass,
+					() -> mapToListAndResolveChildren(executeRead(persistentEntity.tableName(), keys,
+							persistentEntity.columns(), options), entityClass,
+							(options != null) ? options.getIncludeProperties() : null,
+							options != null && options.isAllowPartialRead()));
 		}
 		maybeEmitEvent(new AfterReadEvent(entities, keys, options));
 		return entities;
@@ -219,7 +385,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 	 * 	or {@code keys} have "ranges".
 	 * @see SpannerReadOptions#toQueryOptions()
 	 */
-	private static SpannerQueryOptions toQueryOption(KeySet keys, SpannerReadOptions options) throws IllegalArgumentException {
+	static SpannerQueryOptions toQueryOption(KeySet keys, SpannerReadOptions options) throws IllegalArgumentException {
 		if (keys != null && keys.getRanges().iterator().hasNext()) {
 			throw new IllegalArgumentException(String.format("KeySet %s has ranges", keys));
 		}
@@ -232,19 +398,23 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 	@Override
 	public <A> List<A> query(Function<Struct, A> rowFunc, Statement statement,
 			SpannerQueryOptions options) {
-		ArrayList<A> result = new ArrayList<>();
-		try (ResultSet resultSet = executeQuery(statement, options)) {
-			while (resultSet.next()) {
-				result.add(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
+		List<A> result = recordOperation("query", null, () -> {
+			ArrayList<A> rows = new ArrayList<>();
+			try (ResultSet resultSet = executeQuery(statement, options)) {
+				while (resultSet.next()) {
+					rows.add(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
+				}
 			}
-		}
+			return rows;
+		});
 		maybeEmitEvent(new AfterQueryEvent(result, statement, options));
 		return result;
 	}
 
 	@Override
 	public <T> List<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
-		List<T> entities = queryAndResolveChildren(entityClass, statement, options);
+		List<T> entities = recordOperation("query", entityClass,
+				() -> queryAndResolveChildren(entityClass, statement, options));
 		maybeEmitEvent(new AfterQueryEvent(entities, statement, options));
 		return entities;
 	}
@@ -262,16 +432,144 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 	@Override
 	public <T> List<T> queryAll(Class<T> entityClass,
 			SpannerPageableQueryOptions options) {
+		return query(entityClass, buildQueryAllStatement(entityClass, options), options);
+	}
+
+	@Override
+	public <A> Stream<A> queryStream(Function<Struct, A> rowFunc, Statement statement,
+			SpannerQueryOptions options) {
+		return mapToStream(executeQuery(statement, options), rowFunc);
+	}
+
+	@Override
+	public <T> Stream<T> queryStream(Class<T> entityClass, Statement statement,
+			SpannerQueryOptions options) {
+		return mapToStreamAndResolveChildren(executeQuery(statement, options), entityClass,
+				(options != null) ? options.getIncludeProperties() : null,
+				options != null && options.isAllowPartialRead());
+	}
+
+	@Override
+	public <T> Stream<T> readAllStream(Class<T> entityClass, SpannerReadOptions options) {
+		SpannerPersistentEntity<T> persistentEntity =
+				(SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntity(entityClass);
+		if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+			return queryStream(entityClass, SpannerStatementQueryExecutor.buildQuery(KeySet.all(), persistentEntity,
+					this.spannerEntityProcessor.getWriteConverter(), this.mappingContext,
+					persistentEntity.getWhere(), options != null ? options.getIndex() : null),
+					toQueryOption(KeySet.all(), options));
+		}
+		return mapToStreamAndResolveChildren(executeRead(persistentEntity.tableName(), KeySet.all(),
+				persistentEntity.columns(), options), entityClass,
+				(options != null) ? options.getIncludeProperties() : null,
+				options != null && options.isAllowPartialRead());
+	}
+
+	@Override
+	public <T> Stream<T> queryAllStream(Class<T> entityClass, SpannerPageableQueryOptions options) {
+		return queryStream(entityClass, buildQueryAllStatement(entityClass, options), options);
+	}
+
+	@Override
+	public <T> List<T> queryPartitioned(Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+		List<T> entities = executePartitioned(entityClass,
+				(transaction) -> transaction.partitionQuery(PartitionOptions.getDefaultInstance(), statement,
+						(options != null) ? options.getOptions() : new QueryOption[0]),
+				(options != null) ? options.getTimestampBound() : null,
+				(options != null) ? options.getIncludeProperties() : null,
+				options != null && options.isAllowPartialRead());
+		maybeEmitEvent(new AfterQueryEvent(entities, statement, options));
+		return entities;
+	}
+
+	@Override
+	public <T> List<T> readAllPartitioned(Class<T> entityClass, SpannerReadOptions options) {
+		SpannerPersistentEntity<T> persistentEntity =
+				(SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntity(entityClass);
+		String index = (options != null) ? options.getIndex() : null;
+		List<T> entities;
+		if (persistentEntity.hasWhere()) {
+			// eagerly-loaded children are resolved afterwards instead of with subqueries, which
+			// would prevent the statement from being partitioned.
+			String sql = "SELECT " + SpannerStatementQueryExecutor.getColumnsStringForSelect(
+					persistentEntity, this.mappingContext, false)
+					+ " FROM " + persistentEntity.tableName()
+					+ ((index != null) ? "@{FORCE_INDEX=" + index + "}" : "")
+					+ SpannerStatementQueryExecutor.buildWhere(persistentEntity);
+			SpannerQueryOptions queryOptions = toQueryOption(KeySet.all(), options);
+			entities = executePartitioned(entityClass,
+					(transaction) -> transaction.partitionQuery(PartitionOptions.getDefaultInstance(),
+							Statement.of(sql), queryOptions.getOptions()),
+					queryOptions.getTimestampBound(), queryOptions.getIncludeProperties(),
+					queryOptions.isAllowPartialRead());
+		}
+		else {
+			ReadOption[] readOptions = (options != null) ? options.getOptions() : new ReadOption[0];
+			entities = executePartitioned(entityClass,
+					(transaction) -> (index != null)
+							? transaction.partitionReadUsingIndex(PartitionOptions.getDefaultInstance(),
+									persistentEntity.tableName(), index, KeySet.all(), persistentEntity.columns(),
+									readOptions)
+							: transaction.partitionRead(PartitionOptions.getDefaultInstance(),
+									persistentEntity.tableName(), KeySet.all(), persistentEntity.columns(),
+									readOptions),
+					(options != null) ? options.getTimestampBound() : null,
+					(options != null) ? options.getIncludeProperties() : null,
+					options != null && options.isAllowPartialRead());
+		}
+		maybeEmitEvent(new AfterReadEvent(entities, KeySet.all(), options));
+		return entities;
+	}
+
+	private <T> List<T> executePartitioned(Class<T> entityClass,
+			Function<BatchReadOnlyTransaction, List<Partition>> partitioner, TimestampBound timestampBound,
+			Set<String> includeProperties, boolean allowMissingColumns) {
+		return recordOperation("partitioned-read", entityClass, () -> readPartitions(entityClass, partitioner,
+				timestampBound, includeProperties, allowMissingColumns));
+	}
+
+	private <T> List<T> readPartitions(Class<T> entityClass,
+			Function<BatchReadOnlyTransaction, List<Partition>> partitioner, TimestampBound timestampBound,
+			Set<String> includeProperties, boolean allowMissingColumns) {
+		Assert.state(this.batchClientProvider != null, "Partitioned reads require a batch client provider.");
+		BatchReadOnlyTransaction transaction = this.batchClientProvider.get()
+				.batchReadOnlyTransaction((timestampBound != null) ? timestampBound : TimestampBound.strong());
+		try {
+			List<Partition> partitions = partitioner.apply(transaction);
+			LOGGER.debug("Reading " + partitions.size() + " partitions of " + entityClass.getName());
+			List<CompletableFuture<List<T>>> results = new ArrayList<>();
+			for (Partition partition : partitions) {
+				results.add(CompletableFuture.supplyAsync(() -> mapToListAndResolveChildren(
+						transaction.execute(partition), entityClass, includeProperties, allowMissingColumns),
+						getPartitionedReadExecutor()));
+			}
+			try {
+				CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				throw ex;
+			}
+			List<T> entities = new ArrayList<>();
+			results.forEach((result) -> entities.addAll(result.join()));
+			return entities;
+		}
+		finally {
+			transaction.close();
+		}
+	}
+
+	private <T> Statement buildQueryAllStatement(Class<T> entityClass, SpannerPageableQueryOptions options) {
 		SpannerPersistentEntity<?> entity = this.mappingContext.getPersistentEntity(entityClass);
 		String sql = "SELECT " + SpannerStatementQueryExecutor.getColumnsStringForSelect(
 				entity, this.mappingContext, true)
 				+ " FROM " + entity.tableName() + SpannerStatementQueryExecutor.buildWhere(entity);
-		return query(entityClass,
-				SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
-						SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
-								entityClass, options, sql, this.mappingContext, false),
-						null, null, null, null, null),
-				options);
+		return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
+				SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
+						entityClass, options, sql, this.mappingContext, false),
+				null, null, null, null, null);
 	}
 
 	@Override
@@ -282,7 +580,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
 	@Override
 	public void insertAll(Iterable<?> objects) {
-		applySaveMutations(() -> getMutationsForMultipleObjects(objects, this.mutationFactory::insert), objects, null);
+		applyBulkSaveMutations(objects, this.mutationFactory::insert);
 	}
 
 	@Override
@@ -292,8 +590,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
 	@Override
 	public void updateAll(Iterable<?> objects) {
-		applySaveMutations(() -> getMutationsForMultipleObjects(objects,
-				(x) -> this.mutationFactory.update(x, null)), objects, null);
+		applyBulkSaveMutations(objects, (x) -> this.mutationFactory.update(x, null));
 	}
 
 	@Override
@@ -317,8 +614,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
 	@Override
 	public void upsertAll(Iterable<?> objects) {
-		applySaveMutations(() -> getMutationsForMultipleObjects(objects,
-				(x) -> this.mutationFactory.upsert(x, null)), objects, null);
+		applyBulkSaveMutations(objects, (x) -> this.mutationFactory.upsert(x, null));
 	}
 
 	@Override
@@ -338,10 +634,29 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 			Set<String> includeProperties) {
 		maybeEmitEvent(new BeforeSaveEvent(entities, includeProperties));
 		List<Mutation> mutations = mutationsSupplier.get();
-		applyMutations(mutations);
+		recordOperation("write", getEntityClass(entities), () -> {
+			applyMutations(mutations);
+			return null;
+		});
 		maybeEmitEvent(new AfterSaveEvent(mutations, entities, includeProperties));
 	}
 
+	private void applyBulkSaveMutations(Iterable<?> entities,
+			Function<Object, Collection<Mutation>> individualEntityMutationFunc) {
+		maybeEmitEvent(new BeforeSaveEvent(entities, null));
+		List<Collection<Mutation>> mutationGroups = StreamSupport.stream(entities.spliterator(), false)
+				.map(individualEntityMutationFunc)
+				.collect(Collectors.toList());
+		List<Mutation> mutations = mutationGroups.stream()
+				.flatMap(Collection::stream)
+				.collect(Collectors.toList());
+		recordOperation("write", getEntityClass(entities), () -> {
+			applyMutationsInBatches(mutationGroups, mutations);
+			return null;
+		});
+		maybeEmitEvent(new AfterSaveEvent(mutations, entities, null));
+	}
+
 	@Override
 	public void delete(Object entity) {
 		applyDeleteMutations(Collections.singletonList(entity),
@@ -356,7 +671,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
 	private void applyDeleteMutations(Iterable<?> objects, List<Mutation> mutations) {
 		maybeEmitEvent(new BeforeDeleteEvent(mutations, objects, null, null));
-		applyMutations(mutations);
+		recordOperation("delete", getEntityClass(objects), () -> {
+			applyMutationsInBatches(mutations.stream().map(Collections::singletonList).collect(Collectors.toList()),
+					mutations);
+			return null;
+		});
 		maybeEmitEvent(new AfterDeleteEvent(mutations, objects, null, null));
 	}
 
@@ -374,7 +693,10 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
 	private void applyDeleteMutations(Class<?> entityClass, KeySet keys, List<Mutation> mutations) {
 		maybeEmitEvent(new BeforeDeleteEvent(mutations, null, keys, entityClass));
-		applyMutations(mutations);
+		recordOperation("delete", entityClass, () -> {
+			applyMutations(mutations);
+			return null;
+		});
 		maybeEmitEvent(new AfterDeleteEvent(mutations, null, keys, entityClass));
 	}
 
@@ -384,18 +706,21 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 				.getPersistentEntity(entityClass);
 		Statement statement = Statement.of(
 				String.format("SELECT COUNT(*) FROM %s", persistentEntity.tableName()));
-		try (ResultSet resultSet = executeQuery(statement, null)) {
-			resultSet.next();
-			return resultSet.getLong(0);
-		}
+		return recordOperation("count", entityClass, () -> {
+			try (ResultSet resultSet = executeQuery(statement, null)) {
+				resultSet.next();
+				return resultSet.getLong(0);
+			}
+		});
 	}
 
 	@Override
 	public <T> T performReadWriteTransaction(Function<SpannerTemplate, T> operations) {
+		AtomicInteger attempts = new AtomicInteger();
 		return doWithOrWithoutTransactionContext((x) -> {
 			throw new IllegalStateException("There is already declarative transaction open. " +
 					"Spanner does not support nested transactions");
-		}, () -> this.databaseClientProvider.get().readWriteTransaction()
+		}, () -> recordTransaction(false, attempts, () -> this.databaseClientProvider.get().readWriteTransaction()
 				.run(new TransactionCallable<T>() {
 					@Nullable
 					@Override
@@ -409,9 +734,13 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 										SpannerTemplate.this.mutationFactory,
 										SpannerTemplate.this.spannerSchemaUtils,
 										transaction);
+						transactionSpannerTemplate.setBatchInterleavedReads(
+								SpannerTemplate.this.batchInterleavedReads);
+						transactionSpannerTemplate.setMetricsRecorder(SpannerTemplate.this.metricsRecorder);
+						attempts.incrementAndGet();
 						return operations.apply(transactionSpannerTemplate);
 					}
-				}));
+				})));
 	}
 
 	@Override
@@ -420,20 +749,24 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 		return doWithOrWithoutTransactionContext((x) -> {
 			throw new IllegalStateException("There is already declarative transaction open. " +
 					"Spanner does not support nested transactions");
-		}, () -> {
+		}, () -> recordTransaction(true, new AtomicInteger(1), () -> {
 
 			SpannerReadOptions options = (readOptions != null) ? readOptions : new SpannerReadOptions();
 			try (ReadOnlyTransaction readOnlyTransaction = (options.getTimestampBound() != null)
 					? this.databaseClientProvider.get().readOnlyTransaction(options.getTimestampBound())
 					: this.databaseClientProvider.get().readOnlyTransaction()) {
-				return operations.apply(new ReadOnlyTransactionSpannerTemplate(
-						SpannerTemplate.this.databaseClientProvider,
-						SpannerTemplate.this.mappingContext,
-						SpannerTemplate.this.spannerEntityProcessor,
-						SpannerTemplate.this.mutationFactory,
-						SpannerTemplate.this.spannerSchemaUtils, readOnlyTransaction));
+				ReadOnlyTransactionSpannerTemplate readOnlyTransactionSpannerTemplate =
+						new ReadOnlyTransactionSpannerTemplate(
+								SpannerTemplate.this.databaseClientProvider,
+								SpannerTemplate.this.mappingContext,
+								SpannerTemplate.this.spannerEntityProcessor,
+								SpannerTemplate.this.mutationFactory,
+								SpannerTemplate.this.spannerSchemaUtils, readOnlyTransaction);
+				readOnlyTransactionSpannerTemplate.setBatchInterleavedReads(this.batchInterleavedReads);
+				readOnlyTransactionSpannerTemplate.setMetricsRecorder(this.metricsRecorder);
+				return operations.apply(readOnlyTransactionSpannerTemplate);
 			}
-		});
+		}));
 	}
 
 	public ResultSet executeQuery(Statement statement, SpannerQueryOptions options) {
@@ -551,6 +884,25 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 		});
 	}
 
+	/**
+	 * Applies mutations that may be split into several commits when bulk writes are
+	 * enabled and no transaction is active.
+	 * @param mutationGroups the mutations grouped so that each group is committed atomically.
+	 * @param mutations all of the mutations, in order.
+	 */
+	private void applyMutationsInBatches(List<? extends Collection<Mutation>> mutationGroups,
+			List<Mutation> mutations) {
+		if (this.bulkWriteMaxMutations > 0 && getTransactionContext() == null) {
+			List<List<Mutation>> batches = BulkMutationWriter.partition(mutationGroups, this.bulkWriteMaxMutations);
+			if (batches.size() > 1) {
+				LOGGER.debug("Applying " + mutations.size() + " mutations in " + batches.size() + " batches.");
+				BulkMutationWriter.write(this.databaseClientProvider.get(), batches, this.bulkWriteParallelism);
+				return;
+			}
+		}
+		applyMutations(mutations);
+	}
+
 	private <T> List<T> queryAndResolveChildren(Class<T> entityClass, Statement statement,
 			SpannerQueryOptions options) {
 		return mapToListAndResolveChildren(executeQuery(statement, options), entityClass,
@@ -565,14 +917,156 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 				entityClass, includeProperties, allowMissingColumns), includeProperties);
 	}
 
+	private <T> Stream<T> mapToStreamAndResolveChildren(ResultSet resultSet,
+			Class<T> entityClass, Set<String> includeProperties,
+			boolean allowMissingColumns) {
+		// rows are not retained, so children are resolved one entity at a time.
+		return mapToStream(resultSet, (struct) -> {
+			T entity = this.spannerEntityProcessor.read(entityClass, struct, includeProperties,
+					allowMissingColumns);
+			resolveChildEntity(entity, includeProperties);
+			return entity;
+		});
+	}
+
+	private static <A> Stream<A> mapToStream(ResultSet resultSet, Function<Struct, A> rowFunc) {
+		AtomicBoolean closed = new AtomicBoolean();
+		Runnable closeResultSet = () -> {
+			if (closed.compareAndSet(false, true)) {
+				resultSet.close();
+			}
+		};
+		Spliterator<A> spliterator = new Spliterators.AbstractSpliterator<A>(Long.MAX_VALUE,
+				Spliterator.ORDERED) {
+			@Override
+			public boolean tryAdvance(Consumer<? super A> action) {
+				if (closed.get() || !resultSet.next()) {
+					closeResultSet.run();
+					return false;
+				}
+				action.accept(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(closeResultSet);
+	}
+
 	private <T> List<T> resolveChildEntities(List<T> entities,
 			Set<String> includeProperties) {
+		if (this.batchInterleavedReads) {
+			resolveChildEntitiesInBatch(entities, includeProperties);
+			return entities;
+		}
 		for (Object entity : entities) {
 			resolveChildEntity(entity, includeProperties);
 		}
 		return entities;
 	}
 
+	private void resolveChildEntitiesInBatch(List<?> entities, Set<String> includeProperties) {
+		Map<Class<?>, List<Object>> entitiesByType = new LinkedHashMap<>();
+		for (Object entity : entities) {
+			entitiesByType.computeIfAbsent(entity.getClass(), (k) -> new ArrayList<>()).add(entity);
+		}
+		entitiesByType.forEach((type, parents) -> {
+			SpannerPersistentEntity<?> spannerPersistentEntity = this.mappingContext.getPersistentEntity(type);
+			spannerPersistentEntity.doWithInterleavedProperties(
+					(spannerPersistentProperty) -> {
+						if (includeProperties != null && !includeProperties
+								.contains(spannerPersistentEntity.getName())) {
+							return;
+						}
+						List<Object> loadedChildren = new ArrayList<>();
+						List<Object> unresolvedParents = new ArrayList<>();
+						for (Object parent : parents) {
+							//an interleaved property can only be List
+							List propertyValue = (List) spannerPersistentEntity.getPropertyAccessor(parent)
+									.getProperty(spannerPersistentProperty);
+							if (propertyValue != null) {
+								// lazy lists resolve their own children when they are first loaded, so
+								// they are left untouched here.
+								if (!spannerPersistentProperty.isLazyInterleaved()) {
+									loadedChildren.addAll(propertyValue);
+								}
+							}
+							else {
+								unresolvedParents.add(parent);
+							}
+						}
+						if (!loadedChildren.isEmpty()) {
+							resolveChildEntitiesInBatch(loadedChildren, null);
+						}
+						if (!unresolvedParents.isEmpty()) {
+							setChildrenForParents(unresolvedParents, spannerPersistentEntity, spannerPersistentProperty);
+						}
+					});
+		});
+	}
+
+	private void setChildrenForParents(List<Object> parents, SpannerPersistentEntity<?> spannerPersistentEntity,
+			SpannerPersistentProperty spannerPersistentProperty) {
+		List<Key> parentKeys = parents.stream().map(this.spannerSchemaUtils::getKey)
+				.collect(Collectors.toList());
+		Supplier<Map<Key, List<Object>>> childrenByParentKey;
+		if (spannerPersistentProperty.isLazyInterleaved()) {
+			// all the lazy proxies of this result share a single load of the children.
+			AtomicReference<Map<Key, List<Object>>> loaded = new AtomicReference<>();
+			childrenByParentKey = () -> {
+				synchronized (loaded) {
+					if (loaded.get() == null) {
+						loaded.set(getChildrenByParentKey(parentKeys, spannerPersistentProperty));
+					}
+					return loaded.get();
+				}
+			};
+		}
+		else {
+			Map<Key, List<Object>> children = getChildrenByParentKey(parentKeys, spannerPersistentProperty);
+			childrenByParentKey = () -> children;
+		}
+		for (int i = 0; i < parents.size(); i++) {
+			Key parentKey = parentKeys.get(i);
+			Supplier<List> getChildrenEntitiesFunc = () -> new ArrayList<>(
+					childrenByParentKey.get().getOrDefault(parentKey, Collections.emptyList()));
+			spannerPersistentEntity.getPropertyAccessor(parents.get(i)).setProperty(spannerPersistentProperty,
+					spannerPersistentProperty.isLazyInterleaved()
+							? ConversionUtils.wrapSimpleLazyProxy(getChildrenEntitiesFunc, List.class)
+							: getChildrenEntitiesFunc.get());
+		}
+	}
+
+	private Map<Key, List<Object>> getChildrenByParentKey(List<Key> parentKeys,
+			SpannerPersistentProperty spannerPersistentProperty) {
+		List<Key> distinctParentKeys = parentKeys.stream().distinct().collect(Collectors.toList());
+		int parentKeySize = distinctParentKeys.get(0).size();
+		int keysPerStatement = Math.max(1, MAX_CHILD_QUERY_KEY_PARTS / parentKeySize);
+		Class<?> childType = spannerPersistentProperty.getColumnInnerType();
+		Map<Key, List<Object>> childrenByParentKey = new HashMap<>();
+		for (int start = 0; start < distinctParentKeys.size(); start += keysPerStatement) {
+			List<?> children = queryAndResolveChildren(childType,
+					SpannerStatementQueryExecutor.getChildrenRowsQuery(
+							distinctParentKeys.subList(start,
+									Math.min(start + keysPerStatement, distinctParentKeys.size())),
+							spannerPersistentProperty, this.spannerEntityProcessor.getWriteConverter(),
+							this.mappingContext),
+					null);
+			for (Object child : children) {
+				childrenByParentKey.computeIfAbsent(getKeyPrefix(this.spannerSchemaUtils.getKey(child), parentKeySize),
+						(k) -> new ArrayList<>()).add(child);
+			}
+		}
+		return childrenByParentKey;
+	}
+
+	private static Key getKeyPrefix(Key key, int size) {
+		Key.Builder builder = Key.newBuilder();
+		Iterator<Object> parts = key.getParts().iterator();
+		for (int i = 0; i < size && parts.hasNext(); i++) {
+			builder.appendObject(parts.next());
+		}
+		return builder.build();
+	}
+
 	private void resolveChildEntity(Object entity, Set<String> includeProperties) {
 		SpannerPersistentEntity<?> spannerPersistentEntity = this.mappingContext
 				.getPersistentEntity(entity.getClass());
@@ -606,13 +1100,6 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 				});
 	}
 
-	private List<Mutation> getMutationsForMultipleObjects(Iterable<?> it,
-			Function<Object, Collection<Mutation>> individualEntityMutationFunc) {
-		return StreamSupport.stream(it.spliterator(), false)
-				.flatMap((x) -> individualEntityMutationFunc.apply(x).stream())
-				.collect(Collectors.toList());
-	}
-
 	private TransactionContext getTransactionContext() {
 		if (TransactionSynchronizationManager.isActualTransactionActive()) {
 			SpannerTransactionManager.Tx tx = (SpannerTransactionManager.Tx) TransactionSynchronizationManager
@@ -630,6 +1117,51 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 		return (txContext != null) ? funcWithTransactionContext.apply(txContext) : funcWithoutTransactionContext.get();
 	}
 
+	private <A> A recordOperation(String operation, @Nullable Class<?> entityClass, Supplier<A> call) {
+		if (this.metricsRecorder == null) {
+			return call.get();
+		}
+		long startTime = System.nanoTime();
+		A result = null;
+		Throwable error = null;
+		try {
+			result = call.get();
+			return result;
+		}
+		catch (RuntimeException | Error ex) {
+			error = ex;
+			throw ex;
+		}
+		finally {
+			this.metricsRecorder.recordOperation(operation, entityClass, System.nanoTime() - startTime,
+					(result instanceof Collection) ? ((Collection<?>) result).size() : 0, error);
+		}
+	}
+
+	private <A> A recordTransaction(boolean readOnly, AtomicInteger attempts, Supplier<A> transaction) {
+		if (this.metricsRecorder == null) {
+			return transaction.get();
+		}
+		long startTime = System.nanoTime();
+		Throwable error = null;
+		try {
+			return transaction.get();
+		}
+		catch (RuntimeException | Error ex) {
+			error = ex;
+			throw ex;
+		}
+		finally {
+			this.metricsRecorder.recordTransaction(readOnly, System.nanoTime() - startTime, attempts.get(), error);
+		}
+	}
+
+	@Nullable
+	private static Class<?> getEntityClass(Iterable<?> entities) {
+		Iterator<?> iterator = entities.iterator();
+		return iterator.hasNext() ? iterator.next().getClass() : null;
+	}
+
 	private void maybeEmitEvent(ApplicationEvent event) {
 		if (this.eventPublisher != null) {
 			this.eventPublisher.publishEvent(event);
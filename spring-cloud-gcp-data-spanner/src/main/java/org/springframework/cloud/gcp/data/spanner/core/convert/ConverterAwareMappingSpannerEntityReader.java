@@ -16,25 +16,27 @@
 
 package org.springframework.cloud.gcp.data.spanner.core.convert;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
 
-import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntity;
-import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentProperty;
-import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.convert.EntityInstantiators;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.ParameterValueProvider;
-import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 
 /**
  * A reading converter for Spanner that uses custom converters.
  *
+ * <p>Rows are mapped by a {@link StructRowMapper} compiled once for each combination of
+ * entity type, row type and read options, so that consecutive rows of the same result set
+ * do not repeat the column and converter lookups.
+ *
  * @author Balint Pato
  * @author Chengyuan Zhao
  *
@@ -48,6 +50,10 @@ class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
 
 	private SpannerReadConverter converter;
 
+	private final Map<RowMapperKey, StructRowMapper<?>> rowMappers = new ConcurrentHashMap<>();
+
+	private volatile StructRowMapper<?> lastRowMapper;
+
 	ConverterAwareMappingSpannerEntityReader(SpannerMappingContext spannerMappingContext,
 			SpannerReadConverter spannerReadConverter) {
 		this.spannerMappingContext = spannerMappingContext;
@@ -67,80 +73,85 @@ class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
 	 * @param <R> the type of the POJO.
 	 * @return the POJO
 	 */
-	@SuppressWarnings("unchecked")
 	public <R> R read(Class<R> type, Struct source, Set<String> includeColumns,
 			boolean allowMissingColumns) {
-		boolean readAllColumns = includeColumns == null;
-		SpannerPersistentEntity<R> persistentEntity =
-				(SpannerPersistentEntity<R>) this.spannerMappingContext.getPersistentEntity(type);
-
-		StructAccessor structAccessor = new StructAccessor(source);
-
-		StructPropertyValueProvider propertyValueProvider = new StructPropertyValueProvider(
-				structAccessor,
-				this.converter,
-				this, allowMissingColumns);
-
-		PreferredConstructor<?, SpannerPersistentProperty> persistenceConstructor = persistentEntity
-				.getPersistenceConstructor();
-
-		// @formatter:off
-		ParameterValueProvider<SpannerPersistentProperty> parameterValueProvider =
-						new PersistentEntityParameterValueProvider<>(persistentEntity, propertyValueProvider, null);
-		// @formatter:on
-
-		EntityInstantiator instantiator = this.instantiators.getInstantiatorFor(persistentEntity);
-		R instance = instantiator.createInstance(persistentEntity, parameterValueProvider);
-		PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(instance);
-
-		persistentEntity.doWithProperties(
-				(PropertyHandler<SpannerPersistentProperty>) (spannerPersistentProperty) -> {
-					if (spannerPersistentProperty.isEmbedded()) {
-						accessor.setProperty(spannerPersistentProperty,
-								read(spannerPersistentProperty.getType(), source,
-										includeColumns, allowMissingColumns));
-					}
-					else {
-						if (!shouldSkipProperty(structAccessor, spannerPersistentProperty,
-								includeColumns, readAllColumns, allowMissingColumns,
-								persistenceConstructor)) {
-
-							Object value = propertyValueProvider
-									.getPropertyValue(spannerPersistentProperty);
-							accessor.setProperty(spannerPersistentProperty, value);
-						}
-					}
-				});
-
-		return instance;
+		return getRowMapper(type, source.getType(), includeColumns, allowMissingColumns).map(source);
 	}
 
-	private boolean shouldSkipProperty(StructAccessor struct,
-			SpannerPersistentProperty spannerPersistentProperty,
-			Set<String> includeColumns,
-			boolean readAllColumns,
-			boolean allowMissingColumns,
-			PreferredConstructor<?, SpannerPersistentProperty> persistenceConstructor) {
-		String columnName = spannerPersistentProperty.getColumnName();
-		boolean notRequiredByPartialRead = !readAllColumns && !includeColumns.contains(columnName);
-
-
-		return spannerPersistentProperty.isLazyInterleaved() ||
-				notRequiredByPartialRead
-				|| isMissingColumn(struct, allowMissingColumns, columnName)
-				|| struct.isNull(columnName)
-				|| persistenceConstructor.isConstructorParameter(spannerPersistentProperty);
+	/**
+	 * Gets the row mapper for an entity type and row type, compiling it on first use. Rows
+	 * of a result set share their type, so the mapper used last is checked first.
+	 * @param type the type of POJO
+	 * @param rowType the type of the Cloud Spanner rows
+	 * @param includeColumns the columns to read. If null then all columns will be read.
+	 * @param allowMissingColumns if true, then properties with no corresponding column are
+	 * not mapped. If false, then an exception is thrown.
+	 * @param <R> the type of the POJO.
+	 * @return the row mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	<R> StructRowMapper<R> getRowMapper(Class<R> type, Type rowType, Set<String> includeColumns,
+			boolean allowMissingColumns) {
+		StructRowMapper<?> rowMapper = this.lastRowMapper;
+		if (rowMapper == null || !rowMapper.isCompiledFor(type, rowType, includeColumns, allowMissingColumns)) {
+			RowMapperKey key = new RowMapperKey(type, rowType, includeColumns, allowMissingColumns);
+			rowMapper = this.rowMappers.get(key);
+			if (rowMapper == null) {
+				// Not computeIfAbsent: compiling an entity with embedded properties
+				// recursively gets the row mappers of the embedded types.
+				SpannerPersistentEntity<R> persistentEntity =
+						(SpannerPersistentEntity<R>) this.spannerMappingContext.getPersistentEntity(type);
+				rowMapper = new StructRowMapper<>(persistentEntity,
+						this.instantiators.getInstantiatorFor(persistentEntity), rowType,
+						key.includeColumns, allowMissingColumns, this.converter, this);
+				StructRowMapper<?> existing = this.rowMappers.putIfAbsent(key, rowMapper);
+				rowMapper = (existing != null) ? existing : rowMapper;
+			}
+			this.lastRowMapper = rowMapper;
+		}
+		return (StructRowMapper<R>) rowMapper;
 	}
 
-	private boolean isMissingColumn(StructAccessor struct, boolean allowMissingColumns,
-			String columnName) {
-		boolean missingColumn = !struct.hasColumn(columnName);
-		if (missingColumn && !allowMissingColumns) {
-			throw new SpannerDataException(
-					"Unable to read column from Cloud Spanner results: "
-							+ columnName);
+	/**
+	 * The identity of a compiled row mapper.
+	 */
+	private static final class RowMapperKey {
+
+		private final Class<?> type;
+
+		private final Type rowType;
+
+		private final Set<String> includeColumns;
+
+		private final boolean allowMissingColumns;
+
+		RowMapperKey(Class<?> type, Type rowType, Set<String> includeColumns, boolean allowMissingColumns) {
+			this.type = type;
+			this.rowType = rowType;
+			this.includeColumns = (includeColumns != null)
+					? Collections.unmodifiableSet(new HashSet<>(includeColumns))
+					: null;
+			this.allowMissingColumns = allowMissingColumns;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			RowMapperKey that = (RowMapperKey) o;
+			return this.allowMissingColumns == that.allowMissingColumns
+					&& this.type.equals(that.type)
+					&& this.rowType.equals(that.rowType)
+					&& Objects.equals(this.includeColumns, that.includeColumns);
 		}
-		return missingColumn;
-	}
 
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.type, this.rowType, this.includeColumns, this.allowMissingColumns);
+		}
+	}
 }
@@ -59,6 +59,19 @@ public class StructAccessor {
 				.put(Struct.class, AbstractStructReader::getStructList)
 				.build();
 
+	static final Map<Class, BiFunction<Struct, Integer, List>> readIterableMappingIntCol =
+			new MapBuilder<Class, BiFunction<Struct, Integer, List>>()
+				.put(Boolean.class, AbstractStructReader::getBooleanList)
+				.put(Long.class, AbstractStructReader::getLongList)
+				.put(String.class, AbstractStructReader::getStringList)
+				.put(Double.class, AbstractStructReader::getDoubleList)
+				.put(Timestamp.class, AbstractStructReader::getTimestampList)
+				.put(Date.class, AbstractStructReader::getDateList)
+				.put(ByteArray.class, AbstractStructReader::getBytesList)
+				.put(BigDecimal.class, AbstractStructReader::getBigDecimalList)
+				.put(Struct.class, AbstractStructReader::getStructList)
+				.build();
+
 	static final Map<Class, BiFunction<Struct, String, ?>> singleItemReadMethodMapping =
 			new MapBuilder<Class, BiFunction<Struct, String, ?>>()
 				.put(Boolean.class, AbstractStructReader::getBoolean)
@@ -110,7 +123,6 @@ public class StructAccessor {
 
 	public StructAccessor(Struct struct) {
 		this.struct = struct;
-		this.columnNamesIndex = indexColumnNames();
 	}
 
 	Object getSingleValue(String colName) {
@@ -150,6 +162,9 @@ public class StructAccessor {
 	}
 
 	boolean hasColumn(String columnName) {
+		if (this.columnNamesIndex == null) {
+			this.columnNamesIndex = indexColumnNames();
+		}
 		return this.columnNamesIndex.contains(columnName);
 	}
 
@@ -165,7 +180,7 @@ public class StructAccessor {
 		return cols;
 	}
 
-	private Class getSingleItemTypeCode(Type colType) {
+	static Class getSingleItemTypeCode(Type colType) {
 		Code code = colType.getCode();
 		return code.equals(Code.ARRAY)
 				? SpannerTypeMapper.getArrayJavaClassFor(colType.getArrayElementType().getCode())
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.Code;
+
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntity;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentProperty;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+
+/**
+ * Maps rows of a single {@link Type} to instances of an entity. Column indexes, read
+ * methods and conversions of every property are resolved once when the mapper is
+ * created, so mapping a row only reads its values by index.
+ *
+ * @param <R> the type of the entity.
+ *
+ * @since 1.2.8
+ */
+class StructRowMapper<R> {
+
+	private final Type rowType;
+
+	private final Set<String> includeColumns;
+
+	private final boolean allowMissingColumns;
+
+	private final SpannerPersistentEntity<R> persistentEntity;
+
+	private final EntityInstantiator instantiator;
+
+	private final Map<Parameter<?, SpannerPersistentProperty>, Function<Struct, Object>> constructorReaders =
+			new IdentityHashMap<>();
+
+	private final List<PropertySetter> propertySetters = new ArrayList<>();
+
+	private final SpannerCustomConverter readConverter;
+
+	private final ConverterAwareMappingSpannerEntityReader entityReader;
+
+	private final Set<String> columnNames = new HashSet<>();
+
+	StructRowMapper(SpannerPersistentEntity<R> persistentEntity, EntityInstantiator instantiator,
+			Type rowType, Set<String> includeColumns, boolean allowMissingColumns,
+			SpannerCustomConverter readConverter, ConverterAwareMappingSpannerEntityReader entityReader) {
+		this.rowType = rowType;
+		this.includeColumns = includeColumns;
+		this.allowMissingColumns = allowMissingColumns;
+		this.persistentEntity = persistentEntity;
+		this.instantiator = instantiator;
+		this.readConverter = readConverter;
+		this.entityReader = entityReader;
+		for (Type.StructField field : rowType.getStructFields()) {
+			this.columnNames.add(field.getName());
+		}
+		compileConstructorReaders();
+		compilePropertySetters();
+	}
+
+	/**
+	 * Whether this mapper was compiled for the given row type and read options.
+	 * @param type the type of the entity.
+	 * @param rowType the type of the rows to map.
+	 * @param includeColumns the columns to read, or {@code null} for all columns.
+	 * @param allowMissingColumns whether properties without a column are allowed.
+	 * @return {@code true} if this mapper can map the rows.
+	 */
+	boolean isCompiledFor(Class<?> type, Type rowType, Set<String> includeColumns,
+			boolean allowMissingColumns) {
+		return this.persistentEntity.getType() == type
+				&& this.rowType == rowType
+				&& this.allowMissingColumns == allowMissingColumns
+				&& (this.includeColumns == includeColumns
+						|| (this.includeColumns != null && this.includeColumns.equals(includeColumns)));
+	}
+
+	/**
+	 * Maps a single row to a new entity instance.
+	 * @param source the row. Its type must be the one this mapper was compiled for.
+	 * @return the entity.
+	 */
+	R map(Struct source) {
+		R instance = this.instantiator.createInstance(this.persistentEntity, new ParameterValueProvider<SpannerPersistentProperty>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T getParameterValue(Parameter<T, SpannerPersistentProperty> parameter) {
+				return (T) StructRowMapper.this.constructorReaders.get(parameter).apply(source);
+			}
+		});
+		PersistentPropertyAccessor accessor = this.persistentEntity.getPropertyAccessor(instance);
+		for (PropertySetter propertySetter : this.propertySetters) {
+			propertySetter.set(source, accessor);
+		}
+		return instance;
+	}
+
+	private void compileConstructorReaders() {
+		PreferredConstructor<R, SpannerPersistentProperty> persistenceConstructor = this.persistentEntity
+				.getPersistenceConstructor();
+		if (persistenceConstructor == null) {
+			return;
+		}
+		for (Parameter<Object, SpannerPersistentProperty> parameter : persistenceConstructor.getParameters()) {
+			SpannerPersistentProperty property = (parameter.getName() != null)
+					? this.persistentEntity.getPersistentProperty(parameter.getName())
+					: null;
+			if (property == null) {
+				this.constructorReaders.put(parameter, (struct) -> {
+					throw new MappingException(String.format(
+							"No property %s found on entity %s to bind constructor parameter to!",
+							parameter.getName(), this.persistentEntity.getType()));
+				});
+			}
+			else if (!this.columnNames.contains(property.getColumnName())) {
+				this.constructorReaders.put(parameter, (struct) -> {
+					throw new SpannerDataException("Column not found: " + property.getColumnName());
+				});
+			}
+			else {
+				int index = this.rowType.getFieldIndex(property.getColumnName());
+				Function<Struct, Object> columnReader = compileColumnReader(property, index);
+				this.constructorReaders.put(parameter,
+						(struct) -> struct.isNull(index) ? null : columnReader.apply(struct));
+			}
+		}
+	}
+
+	private void compilePropertySetters() {
+		PreferredConstructor<R, SpannerPersistentProperty> persistenceConstructor = this.persistentEntity
+				.getPersistenceConstructor();
+		this.persistentEntity.doWithProperties(
+				(PropertyHandler<SpannerPersistentProperty>) (spannerPersistentProperty) -> {
+					if (spannerPersistentProperty.isEmbedded()) {
+						StructRowMapper<?> embeddedMapper = this.entityReader.getRowMapper(
+								spannerPersistentProperty.getType(), this.rowType, this.includeColumns,
+								this.allowMissingColumns);
+						this.propertySetters.add((struct, accessor) -> accessor
+								.setProperty(spannerPersistentProperty, embeddedMapper.map(struct)));
+					}
+					else if (!shouldSkipProperty(spannerPersistentProperty, persistenceConstructor)) {
+						String columnName = spannerPersistentProperty.getColumnName();
+						if (!this.columnNames.contains(columnName)) {
+							// Properties are read in order, so the error is raised only when
+							// the preceding properties have been read.
+							this.propertySetters.add((struct, accessor) -> {
+								throw new SpannerDataException(
+										"Unable to read column from Cloud Spanner results: " + columnName);
+							});
+							return;
+						}
+						int index = this.rowType.getFieldIndex(columnName);
+						Function<Struct, Object> columnReader = compileColumnReader(spannerPersistentProperty,
+								index);
+						this.propertySetters.add((struct, accessor) -> {
+							if (!struct.isNull(index)) {
+								accessor.setProperty(spannerPersistentProperty, columnReader.apply(struct));
+							}
+						});
+					}
+				});
+	}
+
+	private boolean shouldSkipProperty(SpannerPersistentProperty spannerPersistentProperty,
+			PreferredConstructor<?, SpannerPersistentProperty> persistenceConstructor) {
+		String columnName = spannerPersistentProperty.getColumnName();
+		boolean notRequiredByPartialRead = this.includeColumns != null
+				&& !this.includeColumns.contains(columnName);
+		boolean allowedMissingColumn = this.allowMissingColumns && !this.columnNames.contains(columnName);
+
+		return spannerPersistentProperty.isLazyInterleaved()
+				|| notRequiredByPartialRead
+				|| allowedMissingColumn
+				|| (persistenceConstructor != null
+						&& persistenceConstructor.isConstructorParameter(spannerPersistentProperty));
+	}
+
+	/**
+	 * Resolves the read method and conversion of a non-null column value once. Columns that
+	 * cannot be read into the property produce readers that fail when they are used.
+	 */
+	@SuppressWarnings("unchecked")
+	private Function<Struct, Object> compileColumnReader(SpannerPersistentProperty property, int index) {
+		String columnName = property.getColumnName();
+		Type columnType = this.rowType.getStructFields().get(index).getType();
+		Class<?> propertyType = property.getType();
+
+		if (ConversionUtils.isIterableNonByteArrayType(propertyType)) {
+			if (columnType.getCode() != Code.ARRAY) {
+				return (struct) -> {
+					throw new SpannerDataException("Column is not an ARRAY type: " + columnName);
+				};
+			}
+			Class<?> itemType = SpannerTypeMapper.getSimpleJavaClassFor(columnType.getArrayElementType().getCode());
+			BiFunction<Struct, Integer, List> listReader = StructAccessor.readIterableMappingIntCol.get(itemType);
+			Function<Object, Object> itemConverter = compileConverter(itemType, property.getColumnInnerType());
+			return (struct) -> {
+				List<?> items = listReader.apply(struct, index);
+				List<Object> result = new ArrayList<>(items.size());
+				for (Object item : items) {
+					result.add((item != null) ? itemConverter.apply(item) : null);
+				}
+				return result;
+			};
+		}
+
+		Class<?> sourceType = StructAccessor.getSingleItemTypeCode(columnType);
+		BiFunction<Struct, Integer, ?> readFunction = StructAccessor.singleItemReadMethodMappingIntCol
+				.get(sourceType);
+		Function<Object, Object> converter = (readFunction != null)
+				? compileConverter(sourceType, propertyType)
+				: null;
+		return (struct) -> {
+			Object value = (converter != null) ? converter.apply(readFunction.apply(struct, index)) : null;
+			if (value == null) {
+				throw new SpannerDataException(String.format(
+						"The value in column with name %s"
+								+ " could not be converted to the corresponding property in the entity."
+								+ " The property's type is %s.",
+						columnName, propertyType));
+			}
+			return value;
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object> compileConverter(Class<?> sourceType, Class<?> targetType) {
+		if (Struct.class.isAssignableFrom(sourceType) && !this.readConverter.canConvert(sourceType, targetType)) {
+			return (value) -> this.entityReader.read((Class<Object>) targetType, (Struct) value, null,
+					this.allowMissingColumns);
+		}
+		if (ConversionUtils.boxIfNeeded(targetType).isAssignableFrom(ConversionUtils.boxIfNeeded(sourceType))) {
+			return Function.identity();
+		}
+		return (value) -> this.readConverter.convert(value, targetType);
+	}
+
+	/**
+	 * Sets a single property of a new entity instance from a row.
+	 */
+	@FunctionalInterface
+	private interface PropertySetter {
+		void set(Struct source, PersistentPropertyAccessor accessor);
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SpannerMetricsRecorder} that publishes Micrometer meters.
+ *
+ * <p>Calls are timed by {@code spanner.operations} and transactions by
+ * {@code spanner.transactions}. Rows mapped into objects are counted by
+ * {@code spanner.rows.mapped} and retried read-write transaction attempts by
+ * {@code spanner.transaction.retries}. All meters are tagged with the repository method
+ * that made the call, if any.
+ *
+ * @since 1.2.8
+ */
+public class MicrometerSpannerMetricsRecorder implements SpannerMetricsRecorder {
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry meterRegistry;
+
+	public MicrometerSpannerMetricsRecorder(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "A valid MeterRegistry is required.");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void recordOperation(String operation, @Nullable Class<?> entityClass, long durationNanos,
+			int rows, @Nullable Throwable error) {
+		Tags tags = Tags.of("entity", (entityClass != null) ? entityClass.getSimpleName() : NONE,
+				"method", currentMethod());
+		Timer.builder("spanner.operations")
+				.description("Calls made to Cloud Spanner")
+				.tags(tags)
+				.tags("operation", operation, "outcome", outcome(error))
+				.register(this.meterRegistry)
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+		if (rows > 0) {
+			Counter.builder("spanner.rows.mapped")
+					.description("Rows read from Cloud Spanner and mapped into objects")
+					.tags(tags)
+					.register(this.meterRegistry)
+					.increment(rows);
+		}
+	}
+
+	@Override
+	public void recordTransaction(boolean readOnly, long durationNanos, int attempts,
+			@Nullable Throwable error) {
+		String method = currentMethod();
+		Timer.builder("spanner.transactions")
+				.description("Cloud Spanner transactions")
+				.tags("type", readOnly ? "read-only" : "read-write", "method", method,
+						"outcome", outcome(error))
+				.register(this.meterRegistry)
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+		if (attempts > 1) {
+			Counter.builder("spanner.transaction.retries")
+					.description("Aborted Cloud Spanner read-write transactions that were retried")
+					.tags("method", method)
+					.register(this.meterRegistry)
+					.increment(attempts - 1);
+		}
+	}
+
+	private static String currentMethod() {
+		String method = SpannerRepositoryMethodContext.getCurrentMethod();
+		return (method != null) ? method : NONE;
+	}
+
+	private static String outcome(@Nullable Throwable error) {
+		return (error != null) ? "error" : "success";
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives the latency and outcome of the calls a
+ * {@link org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate} makes to Cloud
+ * Spanner.
+ *
+ * @since 1.2.8
+ */
+public interface SpannerMetricsRecorder {
+
+	/**
+	 * Records a completed query, read or write.
+	 * @param operation the kind of call, such as {@code query}, {@code read} or
+	 * {@code write}.
+	 * @param entityClass the entity type the call was made for, or {@code null} if there
+	 * is none.
+	 * @param durationNanos the time taken by the call, including reading and mapping the
+	 * results.
+	 * @param rows the number of rows mapped from the results.
+	 * @param error the exception the call failed with, or {@code null} if it succeeded.
+	 */
+	void recordOperation(String operation, @Nullable Class<?> entityClass, long durationNanos,
+			int rows, @Nullable Throwable error);
+
+	/**
+	 * Records a completed read-only or read-write transaction.
+	 * @param readOnly whether the transaction was read-only.
+	 * @param durationNanos the time taken by the transaction, including all attempts.
+	 * @param attempts the number of times the transaction function was run. Cloud Spanner
+	 * retries aborted read-write transactions, so anything above one is a retry.
+	 * @param error the exception the transaction failed with, or {@code null} if it
+	 * succeeded.
+	 */
+	void recordTransaction(boolean readOnly, long durationNanos, int attempts,
+			@Nullable Throwable error);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Holds the repository method being executed by the current thread, so that the calls
+ * it makes to Cloud Spanner can be attributed to it.
+ *
+ * @since 1.2.8
+ */
+public final class SpannerRepositoryMethodContext {
+
+	private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+	private SpannerRepositoryMethodContext() {
+	}
+
+	/**
+	 * Get the repository method being executed by the current thread.
+	 * @return the method as {@code RepositoryName.methodName}, or {@code null} if the
+	 * current call did not come from a repository.
+	 */
+	@Nullable
+	public static String getCurrentMethod() {
+		return CURRENT_METHOD.get();
+	}
+
+	/**
+	 * Set the repository method being executed by the current thread.
+	 * @param method the method as {@code RepositoryName.methodName}, or {@code null} to
+	 * clear it.
+	 * @return the previously set method, to be restored once this one completes.
+	 */
+	@Nullable
+	public static String setCurrentMethod(@Nullable String method) {
+		String previous = CURRENT_METHOD.get();
+		if (method == null) {
+			CURRENT_METHOD.remove();
+		}
+		else {
+			CURRENT_METHOD.set(method);
+		}
+		return previous;
+	}
+}
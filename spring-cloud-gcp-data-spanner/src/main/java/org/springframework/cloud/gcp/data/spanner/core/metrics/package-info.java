@@ -0,0 +1,4 @@
+/**
+ * Metrics recorded for the calls Cloud Spanner templates make.
+ */
+package org.springframework.cloud.gcp.data.spanner.core.metrics;
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.repository;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerOperations;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * A reactive Spring Data repository for Cloud Spanner.
+ *
+ * @param <T> the entity type of the repository
+ * @param <ID> the id type of the entity
+ *
+ * @since 1.2.8
+ */
+public interface ReactiveSpannerRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+
+	/**
+	 * Gets a {@link ReactiveSpannerOperations}, which allows more-direct access to Google
+	 * Cloud Spanner functions.
+	 * @return the operations object providing Cloud Spanner functions.
+	 */
+	ReactiveSpannerOperations getReactiveSpannerTemplate();
+}
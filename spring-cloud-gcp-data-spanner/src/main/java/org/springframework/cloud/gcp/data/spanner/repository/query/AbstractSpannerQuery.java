@@ -19,6 +19,7 @@ package org.springframework.cloud.gcp.data.spanner.repository.query;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
@@ -61,6 +62,9 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 
 	@Override
 	public Object execute(Object[] parameters) {
+		if (this.queryMethod.isStreamQuery()) {
+			return executeStreamResult(parameters);
+		}
 		List results = executeRawResult(parameters);
 		Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
 		if (simpleConvertedType != null) {
@@ -73,6 +77,16 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 				: this.queryMethod.getResultProcessor().processResult(results.get(0));
 	}
 
+	private Stream<?> executeStreamResult(Object[] parameters) {
+		Stream<?> results = executeRawStreamResult(parameters);
+		Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
+		if (simpleConvertedType != null) {
+			return results.map((x) -> this.spannerTemplate.getSpannerEntityProcessor()
+					.getReadConverter().convert(x, simpleConvertedType));
+		}
+		return results.map(this::processRawObjectForProjection);
+	}
+
 	Object convertToSimpleReturnType(List<?> results, Class<?> simpleConvertedType) {
 		return this.queryMethod.isCollectionQuery()
 				? results.stream()
@@ -88,7 +102,7 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 	}
 
 	Class<?> getReturnedType() {
-		return this.queryMethod.isCollectionQuery()
+		return this.queryMethod.isCollectionQuery() || this.queryMethod.isStreamQuery()
 				? this.queryMethod.getResultProcessor().getReturnedType().getReturnedType()
 				: this.queryMethod.getReturnedObjectType();
 	}
@@ -122,4 +136,16 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 	}
 
 	protected abstract List executeRawResult(Object[] parameters);
+
+	/**
+	 * Executes the query for a method that returns a {@link Stream}. Implementations that
+	 * can read results lazily should override this; by default the full result is read
+	 * first.
+	 * @param parameters the parameters of the query method invocation.
+	 * @return the stream of raw results.
+	 */
+	protected Stream<?> executeRawStreamResult(Object[] parameters) {
+		List results = executeRawResult(parameters);
+		return (results != null) ? results.stream() : Stream.empty();
+	}
 }
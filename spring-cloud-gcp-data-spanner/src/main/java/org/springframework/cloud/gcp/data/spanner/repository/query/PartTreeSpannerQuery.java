@@ -18,10 +18,17 @@ package org.springframework.cloud.gcp.data.spanner.repository.query;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.google.cloud.spanner.Statement;
 
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.repository.query.SpannerStatementQueryExecutor.PartTreeSql;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -36,8 +43,18 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
+	/**
+	 * The maximum number of sorts whose generated SQL is kept for a query method. Sorts
+	 * beyond this bound are still served, but their SQL is generated on every invocation.
+	 */
+	private static final int PART_TREE_SQL_CACHE_SIZE = 64;
+
 	private final PartTree tree;
 
+	// The generated SQL of this query method for each sort it was invoked with. Only the
+	// paging suffix and parameter values differ between invocations with the same sort.
+	private final Map<Sort, PartTreeSql> partTreeSqlCache = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 * @param type the underlying entity type
@@ -54,31 +71,54 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
 	@Override
 	protected List executeRawResult(Object[] parameters) {
-		ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(),
-				parameters);
 		if (isCountOrExistsQuery()) {
-			return SpannerStatementQueryExecutor.executeQuery(
+			return this.spannerTemplate.query(
 					(struct) -> isCountQuery() ? struct.getLong(0) : struct.getBoolean(0),
-					this.entityType, this.tree, paramAccessor, getQueryMethod().getMethod().getParameters(),
-					this.spannerTemplate,
-					this.spannerMappingContext);
+					buildStatement(parameters), null);
 		}
 		if (this.tree.isDelete()) {
 			return this.spannerTemplate
 					.performReadWriteTransaction(getDeleteFunction(parameters));
 		}
-		return SpannerStatementQueryExecutor.executeQuery(this.entityType, this.tree,
-				paramAccessor, getQueryMethod().getMethod().getParameters(), this.spannerTemplate,
-				this.spannerMappingContext);
+		return this.spannerTemplate.query(this.entityType, buildStatement(parameters), null);
+	}
+
+	@Override
+	protected Stream<?> executeRawStreamResult(Object[] parameters) {
+		if (isCountOrExistsQuery() || this.tree.isDelete()) {
+			return super.executeRawStreamResult(parameters);
+		}
+		return this.spannerTemplate.queryStream(this.entityType, buildStatement(parameters), null);
+	}
+
+	/**
+	 * Builds the statement of a read, count or exists invocation of this query method.
+	 * @param parameters the parameters of the query method invocation.
+	 * @return the statement to run.
+	 */
+	Statement buildStatement(Object[] parameters) {
+		ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(),
+				parameters);
+		return SpannerStatementQueryExecutor.buildPartTreeStatement(this.entityType, this.tree, paramAccessor,
+				getQueryMethod().getMethod().getParameters(), this.spannerTemplate, this.spannerMappingContext,
+				this::getPartTreeSql);
+	}
+
+	private PartTreeSql getPartTreeSql(Sort sort) {
+		PartTreeSql partTreeSql = this.partTreeSqlCache.get(sort);
+		if (partTreeSql == null) {
+			partTreeSql = SpannerStatementQueryExecutor.buildPartTreeSql(this.tree, this.spannerMappingContext,
+					this.entityType, sort);
+			if (this.partTreeSqlCache.size() < PART_TREE_SQL_CACHE_SIZE) {
+				this.partTreeSqlCache.putIfAbsent(sort, partTreeSql);
+			}
+		}
+		return partTreeSql;
 	}
 
 	private Function<SpannerTemplate, List> getDeleteFunction(Object[] parameters) {
 		return (transactionTemplate) -> {
-			ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(),
-					parameters);
-			List<T> entitiesToDelete = SpannerStatementQueryExecutor
-					.executeQuery(this.entityType, this.tree, paramAccessor, getQueryMethod().getMethod().getParameters(),
-							transactionTemplate, this.spannerMappingContext);
+			List<T> entitiesToDelete = transactionTemplate.query(this.entityType, buildStatement(parameters), null);
 			transactionTemplate.deleteAll(entitiesToDelete);
 
 			List result = null;
@@ -96,11 +136,15 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
 		return isCountQuery() || isExistsQuery();
 	}
 
-	private boolean isCountQuery() {
+	boolean isDeleteQuery() {
+		return this.tree.isDelete();
+	}
+
+	boolean isCountQuery() {
 		return this.tree.isCountProjection();
 	}
 
-	private boolean isExistsQuery() {
+	boolean isExistsQuery() {
 		return this.tree.isExistsProjection();
 	}
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.gcp.data.spanner.repository.query;
+
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.util.ReactiveWrappers;
+
+/**
+ * A query method of a reactive Spanner repository. The statement of each invocation is
+ * built by the corresponding blocking query method and run through the reactive template
+ * when the returned publisher is subscribed to.
+ *
+ * @since 1.2.8
+ */
+class ReactiveSpannerQuery implements RepositoryQuery {
+
+	private final AbstractSpannerQuery<?> query;
+
+	private final Function<Object[], Flux<?>> rawResultFunction;
+
+	/**
+	 * Constructor.
+	 * @param query the blocking query method used to build statements and process results.
+	 * @param rawResultFunction runs an invocation and returns its unprocessed results.
+	 */
+	ReactiveSpannerQuery(AbstractSpannerQuery<?> query, Function<Object[], Flux<?>> rawResultFunction) {
+		this.query = query;
+		this.rawResultFunction = rawResultFunction;
+	}
+
+	@Override
+	public Object execute(Object[] parameters) {
+		Flux<?> results = Flux.defer(() -> this.rawResultFunction.apply(parameters));
+		SpannerQueryMethod queryMethod = this.query.getQueryMethod();
+		if (queryMethod.getReturnedObjectType() == Void.class) {
+			return results.then();
+		}
+		Class<?> simpleConvertedType = this.query.getReturnedSimpleConvertableItemType();
+		Flux<?> processed = (simpleConvertedType != null)
+				? results.map((x) -> this.query.spannerTemplate.getSpannerEntityProcessor().getReadConverter()
+						.convert(x, simpleConvertedType))
+				: results.map(this.query::processRawObjectForProjection);
+		return ReactiveWrappers.isMultiValueType(queryMethod.getMethod().getReturnType())
+				? processed
+				: processed.next();
+	}
+
+	@Override
+	public SpannerQueryMethod getQueryMethod() {
+		return this.query.getQueryMethod();
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.gcp.data.spanner.repository.query;
+
+import java.lang.reflect.Method;
+
+import com.google.cloud.spanner.Statement;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.SpannerPageableQueryOptions;
+import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.convert.StructAccessor;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the query methods of reactive Spanner repositories. Statements are built the
+ * same way as for blocking repositories and run through a {@link ReactiveSpannerTemplate}.
+ * Derived delete methods are not supported.
+ *
+ * @since 1.2.8
+ */
+public class ReactiveSpannerQueryLookupStrategy extends SpannerQueryLookupStrategy {
+
+	private final ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+	public ReactiveSpannerQueryLookupStrategy(SpannerMappingContext spannerMappingContext,
+			ReactiveSpannerTemplate reactiveSpannerTemplate,
+			QueryMethodEvaluationContextProvider evaluationContextProvider,
+			SpelExpressionParser expressionParser) {
+		super(spannerMappingContext, getSpannerTemplate(reactiveSpannerTemplate), evaluationContextProvider,
+				expressionParser);
+		this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+	}
+
+	private static SpannerTemplate getSpannerTemplate(ReactiveSpannerTemplate reactiveSpannerTemplate) {
+		Assert.notNull(reactiveSpannerTemplate, "A valid ReactiveSpannerTemplate is required.");
+		return reactiveSpannerTemplate.getSpannerTemplate();
+	}
+
+	@Override
+	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata,
+			ProjectionFactory factory, NamedQueries namedQueries) {
+		RepositoryQuery query = super.resolveQuery(method, metadata, factory, namedQueries);
+		return (query instanceof PartTreeSpannerQuery)
+				? createReactivePartTreeQuery((PartTreeSpannerQuery<?>) query)
+				: createReactiveSqlQuery((SqlSpannerQuery<?>) query);
+	}
+
+	private RepositoryQuery createReactivePartTreeQuery(PartTreeSpannerQuery<?> query) {
+		if (query.isDeleteQuery()) {
+			throw new SpannerDataException(
+					"Delete query methods are not supported by reactive Cloud Spanner repositories: "
+							+ query.getQueryMethod().getName());
+		}
+		return new ReactiveSpannerQuery(query, (parameters) -> {
+			Statement statement = query.buildStatement(parameters);
+			if (query.isCountQuery()) {
+				return this.reactiveSpannerTemplate.query((struct) -> struct.getLong(0), statement, null);
+			}
+			if (query.isExistsQuery()) {
+				return this.reactiveSpannerTemplate.query((struct) -> struct.getBoolean(0), statement, null);
+			}
+			return this.reactiveSpannerTemplate.query(query.entityType, statement, null);
+		});
+	}
+
+	private RepositoryQuery createReactiveSqlQuery(SqlSpannerQuery<?> query) {
+		return new ReactiveSpannerQuery(query, (parameters) -> {
+			if (query.isDml()) {
+				return this.reactiveSpannerTemplate.executeDmlStatement(query.buildStatement(parameters, null))
+						.flux();
+			}
+			SpannerPageableQueryOptions queryOptions = query.getReadQueryOptions(parameters);
+			Statement statement = query.buildStatement(parameters, queryOptions);
+			return (query.getReturnedSimpleConvertableItemType() != null)
+					? this.reactiveSpannerTemplate.query(
+							(struct) -> new StructAccessor(struct).getSingleValue(0), statement, queryOptions)
+					: this.reactiveSpannerTemplate.query(query.entityType, statement, queryOptions);
+		});
+	}
+}
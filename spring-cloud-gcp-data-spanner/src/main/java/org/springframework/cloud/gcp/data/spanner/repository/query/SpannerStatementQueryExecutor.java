@@ -19,14 +19,18 @@ package org.springframework.cloud.gcp.data.spanner.repository.query;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.google.cloud.spanner.Key;
@@ -35,6 +39,7 @@ import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.ValueBinder;
 
+import org.springframework.cloud.gcp.data.spanner.core.SpannerKeysetPageRequest;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerPageableQueryOptions;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.convert.ConversionUtils;
@@ -85,13 +90,63 @@ public final class SpannerStatementQueryExecutor {
 			Parameter[] queryMethodParamsMetadata,
 			SpannerTemplate spannerTemplate,
 			SpannerMappingContext spannerMappingContext) {
-		SqlStringAndPlaceholders sqlStringAndPlaceholders = buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
+		return spannerTemplate.query(type, buildPartTreeStatement(type, tree, parameterAccessor,
+				queryMethodParamsMetadata, spannerTemplate, spannerMappingContext), null);
+	}
+
+	/**
+	 * Executes a PartTree-based query and lazily converts the rows of the result as the
+	 * returned stream is consumed.
+	 * @param type the type of the underlying entity
+	 * @param tree the parsed metadata of the query
+	 * @param parameterAccessor the parameters of this specific query
+	 * @param queryMethodParamsMetadata parameter metadata from Query Method
+	 * @param spannerTemplate used to execute the query
+	 * @param spannerMappingContext used to get metadata about the entity type
+	 * @param <T> the type of the underlying entity
+	 * @return stream of entities that must be closed if it is not fully consumed.
+	 */
+	public static <T> Stream<T> executeQueryStream(Class<T> type, PartTree tree,
+			ParameterAccessor parameterAccessor, Parameter[] queryMethodParamsMetadata,
+			SpannerTemplate spannerTemplate, SpannerMappingContext spannerMappingContext) {
+		return spannerTemplate.queryStream(type, buildPartTreeStatement(type, tree, parameterAccessor,
+				queryMethodParamsMetadata, spannerTemplate, spannerMappingContext), null);
+	}
+
+	private static <T> Statement buildPartTreeStatement(Class<T> type, PartTree tree,
+			ParameterAccessor parameterAccessor, Parameter[] queryMethodParamsMetadata,
+			SpannerTemplate spannerTemplate, SpannerMappingContext spannerMappingContext) {
+		return buildPartTreeStatement(type, tree, parameterAccessor, queryMethodParamsMetadata, spannerTemplate,
+				spannerMappingContext, (sort) -> buildPartTreeSql(tree, spannerMappingContext, type, sort));
+	}
+
+	/**
+	 * Builds the statement of a PartTree-based query.
+	 * @param type the type of the underlying entity
+	 * @param tree the parsed metadata of the query
+	 * @param parameterAccessor the parameters of this specific query
+	 * @param queryMethodParamsMetadata parameter metadata from Query Method
+	 * @param spannerTemplate used to convert parameter values
+	 * @param spannerMappingContext used to get metadata about the entity type
+	 * @param partTreeSqlFunction provides the generated SQL of the query for a sort, which
+	 *     callers may cache.
+	 * @param <T> the type of the underlying entity
+	 * @return the statement to run.
+	 */
+	static <T> Statement buildPartTreeStatement(Class<T> type, PartTree tree,
+			ParameterAccessor parameterAccessor, Parameter[] queryMethodParamsMetadata,
+			SpannerTemplate spannerTemplate, SpannerMappingContext spannerMappingContext,
+			Function<Sort, PartTreeSql> partTreeSqlFunction) {
+		List<Object> keysetParams = new ArrayList<>();
+		SqlStringAndPlaceholders sqlStringAndPlaceholders = buildPartTreeSqlString(tree, spannerMappingContext, type,
+				parameterAccessor, keysetParams, partTreeSqlFunction);
 		Map<String, Parameter> paramMetadataMap = preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata,
 				sqlStringAndPlaceholders);
-		Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
-		return spannerTemplate.query(type, buildStatementFromSqlWithArgs(
+		Object[] params = Stream.concat(StreamSupport.stream(parameterAccessor.spliterator(), false),
+				keysetParams.stream()).toArray();
+		return buildStatementFromSqlWithArgs(
 				sqlStringAndPlaceholders.getSql(), sqlStringAndPlaceholders.getPlaceholders(), null,
-				spannerTemplate.getSpannerEntityProcessor().getWriteConverter(), params, paramMetadataMap), null);
+				spannerTemplate.getSpannerEntityProcessor().getWriteConverter(), params, paramMetadataMap);
 	}
 
 	private static Map<String, Parameter> preparePartTreeSqlTagParameterMap(Parameter[] paramsMetadata,
@@ -100,7 +155,7 @@ public final class SpannerStatementQueryExecutor {
 		for (int i = 0; i < paramsMetadata.length; i++) {
 			Parameter param = paramsMetadata[i];
 			//Skip Pageable and Sort parameters because they don't need to be bound to the tags in the query.
-			//They are processed separately in applySort and buildLimit methods.
+			//They are processed separately in applySort and buildPartTreeSqlString methods.
 			if (param.getType() != Pageable.class && param.getType() != Sort.class) {
 				paramMetadataMap.put(sqlStringAndPlaceholders.getPlaceholders().get(i), param);
 			}
@@ -125,14 +180,8 @@ public final class SpannerStatementQueryExecutor {
 	public static <A, T> List<A> executeQuery(Function<Struct, A> rowFunc, Class<T> type,
 			PartTree tree, ParameterAccessor parameterAccessor, Parameter[] queryMethodParamsMetadata, SpannerTemplate spannerTemplate,
 			SpannerMappingContext spannerMappingContext) {
-		SqlStringAndPlaceholders sqlStringAndPlaceholders = buildPartTreeSqlString(tree,
-				spannerMappingContext, type, parameterAccessor);
-		Map<String, Parameter> paramMetadataMap = preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata,
-				sqlStringAndPlaceholders);
-		Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
-		return spannerTemplate.query(rowFunc, buildStatementFromSqlWithArgs(
-				sqlStringAndPlaceholders.getSql(), sqlStringAndPlaceholders.getPlaceholders(), null,
-				spannerTemplate.getSpannerEntityProcessor().getWriteConverter(), params, paramMetadataMap), null);
+		return spannerTemplate.query(rowFunc, buildPartTreeStatement(type, tree, parameterAccessor,
+				queryMethodParamsMetadata, spannerTemplate, spannerMappingContext), null);
 	}
 
 	/**
@@ -189,6 +238,107 @@ public final class SpannerStatementQueryExecutor {
 		return entity.hasWhere() ? " WHERE " + entity.getWhere() : "";
 	}
 
+	/**
+	 * Builds a query that reads a page of all entities of a type with keyset pagination.
+	 * @param entityClass the domain type whose table is being queried.
+	 * @param pageRequest the page to read.
+	 * @param limit the maximum number of rows to read.
+	 * @param mappingContext mapping context
+	 * @param writeConverter a converter to convert keyset values as needed to bind to the
+	 *     query statement.
+	 * @return the Spanner statement to perform the read.
+	 */
+	public static Statement buildKeysetQuery(Class<?> entityClass, SpannerKeysetPageRequest pageRequest,
+			int limit, SpannerMappingContext mappingContext, SpannerCustomConverter writeConverter) {
+		SpannerPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityClass);
+		List<String> tags = new ArrayList<>();
+		List<Object> params = new ArrayList<>();
+		String condition = combineWithAnd(persistentEntity.getWhere(),
+				buildKeysetCondition(pageRequest, persistentEntity, tags, params));
+		StringBuilder sb = new StringBuilder("SELECT ")
+				.append(getColumnsStringForSelect(persistentEntity, mappingContext, true))
+				.append(" FROM ").append(persistentEntity.tableName())
+				.append(condition.isEmpty() ? "" : " WHERE " + condition);
+		applySort(pageRequest.getSort(), sb, persistentEntity).append(" LIMIT ").append(limit);
+		return buildStatementFromSqlWithArgs(sb.toString(), tags, null, writeConverter, params.toArray(), null);
+	}
+
+	/**
+	 * Builds the condition selecting the rows that follow the keyset values of a page
+	 * request in its sort order. Cloud Spanner does not compare rows of values, so the
+	 * condition is expanded into {@code k1 > @a OR (k1 = @a AND k2 > @b) ...}, which also
+	 * allows the sort directions of the keys to differ. {@code NULL} values sort first in
+	 * ascending order.
+	 * @param pageRequest the page request.
+	 * @param persistentEntity the persistent entity of the table.
+	 * @param tags the list to which the tags used in the condition are added.
+	 * @param params the list to which the values of the added tags are added.
+	 * @return the condition, or an empty string for the first page.
+	 */
+	static String buildKeysetCondition(SpannerKeysetPageRequest pageRequest,
+			SpannerPersistentEntity<?> persistentEntity, List<String> tags, List<Object> params) {
+		List<String> columns = new ArrayList<>();
+		Set<String> sortedProperties = new HashSet<>();
+		for (Sort.Order order : pageRequest.getSort()) {
+			SpannerPersistentProperty property = persistentEntity.getPersistentProperty(order.getProperty());
+			if (property == null || order.isIgnoreCase()) {
+				throw new SpannerDataException("Keyset pagination requires case-sensitive sort orders on "
+						+ "properties of " + persistentEntity.getType().getName() + ": " + order);
+			}
+			columns.add(property.getColumnName());
+			sortedProperties.add(property.getName());
+		}
+		for (SpannerPersistentProperty keyProperty : persistentEntity.getFlattenedPrimaryKeyProperties()) {
+			if (!sortedProperties.contains(keyProperty.getName())) {
+				throw new SpannerDataException("Keyset pagination requires the sort to include all primary "
+						+ "key properties, but it does not include: " + keyProperty.getName());
+			}
+		}
+		List<Object> values = pageRequest.getKeysetValues();
+		if (values == null) {
+			return "";
+		}
+
+		List<String> valueRefs = new ArrayList<>();
+		for (Object value : values) {
+			if (value == null) {
+				valueRefs.add(null);
+			}
+			else {
+				String tag = "keyset" + tags.size();
+				tags.add(tag);
+				params.add(value);
+				valueRefs.add("@" + tag);
+			}
+		}
+
+		StringJoiner orJoiner = new StringJoiner(" OR ").setEmptyValue("FALSE");
+		int i = 0;
+		for (Sort.Order order : pageRequest.getSort()) {
+			String column = columns.get(i);
+			String valueRef = valueRefs.get(i);
+			String after;
+			if (order.isAscending()) {
+				after = (valueRef != null) ? column + " > " + valueRef : column + " IS NOT NULL";
+			}
+			else {
+				after = (valueRef != null) ? "(" + column + " < " + valueRef + " OR " + column + " IS NULL)" : null;
+			}
+			if (after != null && i == 0 && after.startsWith("(")) {
+				orJoiner.add(after);
+			}
+			else if (after != null) {
+				StringJoiner andJoiner = new StringJoiner(" AND ", "(", ")");
+				for (int j = 0; j < i; j++) {
+					andJoiner.add(columns.get(j) + (valueRefs.get(j) != null ? " = " + valueRefs.get(j) : " IS NULL"));
+				}
+				orJoiner.add(andJoiner.add(after).toString());
+			}
+			i++;
+		}
+		return orJoiner.toString();
+	}
+
 	/**
 	 * Gets a {@link Statement} that returns the rows associated with a parent entity. This function is
 	 * intended to be used with parent-child interleaved tables, so that the retrieval of all
@@ -209,6 +359,44 @@ public final class SpannerStatementQueryExecutor {
 		return buildQuery(KeySet.singleKey(parentKey), persistentEntity, writeConverter, mappingContext, whereClause);
 	}
 
+	/**
+	 * Gets a {@link Statement} that returns the child rows of several parent entities at
+	 * once. This is used to resolve an interleaved property for a whole result set with a
+	 * single statement instead of one statement per parent.
+	 * @param parentKeys the parent keys whose children to get.
+	 * @param spannerPersistentProperty the property with interleaved list of child entries in the parent entity.
+	 * @param writeConverter a converter to convert key values as needed to bind to the query
+	 *     statement.
+	 * @param mappingContext mapping context
+	 * @return the Spanner statement to perform the retrieval.
+	 */
+	public static Statement getChildrenRowsQuery(Iterable<Key> parentKeys,
+			SpannerPersistentProperty spannerPersistentProperty, SpannerCustomConverter writeConverter,
+			SpannerMappingContext mappingContext) {
+		Class<?> childType = spannerPersistentProperty.getColumnInnerType();
+		SpannerPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(childType);
+		List<SpannerPersistentProperty> keyProperties = persistentEntity.getFlattenedPrimaryKeyProperties();
+		List<String> orParts = new ArrayList<>();
+		List<String> tags = new ArrayList<>();
+		List<Object> keyParts = new ArrayList<>();
+		for (Key parentKey : parentKeys) {
+			StringJoiner andJoiner = new StringJoiner(" AND ", "(", ")");
+			int keyPartNum = 0;
+			for (Object keyPart : parentKey.getParts()) {
+				String tagName = "tag" + tags.size();
+				andJoiner.add(keyProperties.get(keyPartNum++).getColumnName() + " = @" + tagName);
+				tags.add(tagName);
+				keyParts.add(keyPart);
+			}
+			orParts.add(andJoiner.toString());
+		}
+		String condition = combineWithAnd(String.join(" OR ", orParts),
+				getWhere(spannerPersistentProperty, persistentEntity));
+		String sql = "SELECT " + getColumnsStringForSelect(persistentEntity, mappingContext, true) + " FROM "
+				+ persistentEntity.tableName() + (condition.isEmpty() ? "" : " WHERE " + condition);
+		return buildStatementFromSqlWithArgs(sql, tags, null, writeConverter, keyParts.toArray(), null);
+	}
+
 	/**
 	 * Builds a query that returns the rows associated with a key set.
 	 * If the entity class has {@link org.springframework.cloud.gcp.data.spanner.core.mapping.Where}
@@ -426,8 +614,31 @@ public final class SpannerStatementQueryExecutor {
 	}
 
 	private static SqlStringAndPlaceholders buildPartTreeSqlString(PartTree tree,
-			SpannerMappingContext spannerMappingContext, Class type, ParameterAccessor params) {
+			SpannerMappingContext spannerMappingContext, Class type, ParameterAccessor params,
+			List<Object> keysetParams, Function<Sort, PartTreeSql> partTreeSqlFunction) {
+		Sort sort = params.getSort().isSorted() ? params.getSort() : tree.getSort();
+		PartTreeSql partTreeSql = partTreeSqlFunction.apply(sort);
+		Pageable pageable = params.getPageable();
+		if (tree.isExistsProjection() || pageable.isUnpaged()) {
+			return new SqlStringAndPlaceholders(partTreeSql.unpagedSql, partTreeSql.tags);
+		}
+		if (pageable instanceof SpannerKeysetPageRequest) {
+			SpannerKeysetPageRequest pageRequest = (SpannerKeysetPageRequest) pageable;
+			List<String> tags = new ArrayList<>(partTreeSql.tags);
+			String condition = combineWithAnd(partTreeSql.condition, buildKeysetCondition(pageRequest,
+					spannerMappingContext.getPersistentEntity(type), tags, keysetParams));
+			String selectSql = partTreeSql.selectFromSql + (condition.isEmpty() ? "" : "WHERE " + condition)
+					+ partTreeSql.orderBySql + " LIMIT " + pageable.getPageSize();
+			return new SqlStringAndPlaceholders(wrapProjection(tree, selectSql), tags);
+		}
+		// Only the paging suffix differs between invocations with the same sort.
+		String selectSql = partTreeSql.selectSql + " LIMIT " + pageable.getPageSize()
+				+ " OFFSET " + pageable.getOffset();
+		return new SqlStringAndPlaceholders(wrapProjection(tree, selectSql), partTreeSql.tags);
+	}
 
+	static PartTreeSql buildPartTreeSql(PartTree tree, SpannerMappingContext spannerMappingContext,
+			Class type, Sort sort) {
 		SpannerPersistentEntity<?> persistentEntity = spannerMappingContext
 				.getPersistentEntity(type);
 		List<String> tags = new ArrayList<>();
@@ -435,21 +646,28 @@ public final class SpannerStatementQueryExecutor {
 
 		buildSelect(persistentEntity, tree, stringBuilder, spannerMappingContext);
 		buildFrom(persistentEntity, stringBuilder);
-		buildWhere(tree, persistentEntity, tags, stringBuilder);
-		applySort(params.getSort().isSorted() ? params.getSort() : tree.getSort(), stringBuilder, persistentEntity);
-		buildLimit(tree, stringBuilder, params.getPageable());
-
+		String selectFromSql = stringBuilder.toString();
+		String condition = tree.hasPredicate() ? buildWhere(tree, persistentEntity, tags) : "";
+		if (!condition.isEmpty()) {
+			stringBuilder.append("WHERE ").append(condition);
+		}
+		String orderBySql = applySort(sort, new StringBuilder(), persistentEntity).toString();
+		stringBuilder.append(orderBySql);
 		String selectSql = stringBuilder.toString();
+		buildLimit(tree, stringBuilder);
 
-		String finalSql = selectSql;
+		return new PartTreeSql(selectFromSql, condition, orderBySql, selectSql,
+				wrapProjection(tree, stringBuilder.toString()), Collections.unmodifiableList(tags));
+	}
 
+	private static String wrapProjection(PartTree tree, String selectSql) {
 		if (tree.isCountProjection()) {
-			finalSql = "SELECT COUNT(1) FROM (" + selectSql + ")";
+			return "SELECT COUNT(1) FROM (" + selectSql + ")";
 		}
 		else if (tree.isExistsProjection()) {
-			finalSql = "SELECT EXISTS(" + selectSql + ")";
+			return "SELECT EXISTS(" + selectSql + ")";
 		}
-		return new SqlStringAndPlaceholders(finalSql, tags);
+		return selectSql;
 	}
 
 	private static void buildSelect(
@@ -482,122 +700,140 @@ public final class SpannerStatementQueryExecutor {
 		return sql.append(sj);
 	}
 
-	private static void buildWhere(PartTree tree,
-			SpannerPersistentEntity<?> persistentEntity, List<String> tags,
-			StringBuilder stringBuilder) {
-		if (tree.hasPredicate()) {
-			stringBuilder.append("WHERE ");
-
-			StringJoiner orStrings = new StringJoiner(" OR ");
-
-			tree.iterator().forEachRemaining((orPart) -> {
-				String orString = "( ";
-
-				StringJoiner andStrings = new StringJoiner(" AND ");
-
-				orPart.forEach((part) -> {
-					String segment = part.getProperty().getSegment();
-					String tag = "tag" + tags.size();
-					tags.add(tag);
-
-					SpannerPersistentProperty spannerPersistentProperty = persistentEntity
-							.getPersistentProperty(segment);
-
-					if (spannerPersistentProperty.isEmbedded()) {
-						throw new SpannerDataException(
-								"Embedded class properties are not currently supported in query method names: "
-										+ segment);
-					}
-
-					String andString = spannerPersistentProperty.getColumnName();
-					String insertedTag = "@" + tag;
-					if (part.shouldIgnoreCase() == IgnoreCaseType.ALWAYS) {
-						andString = "LOWER(" + andString + ")";
-						insertedTag = "LOWER(" + insertedTag + ")";
-					}
-					else if (part.shouldIgnoreCase() != IgnoreCaseType.NEVER) {
-						throw new SpannerDataException(
-								"Only ignore-case types ALWAYS and NEVER are supported, "
-										+ "because the underlying table schema is not retrieved at query time to"
-										+ " check that the column is the STRING or BYTES Cloud Spanner "
-										+ " type supported for ignoring case.");
-					}
-
-					switch (part.getType()) {
-					case LIKE:
-						andString += " LIKE " + insertedTag;
-						break;
-					case NOT_LIKE:
-						andString += " NOT LIKE " + insertedTag;
-						break;
-					case CONTAINING:
-						andString = " REGEXP_CONTAINS(" + andString + "," + insertedTag
-								+ ") =TRUE";
-						break;
-					case NOT_CONTAINING:
-						andString = " REGEXP_CONTAINS(" + andString + "," + insertedTag
-								+ ") =FALSE";
-						break;
-					case SIMPLE_PROPERTY:
-						andString += "=" + insertedTag;
-						break;
-					case TRUE:
-						andString += "=TRUE";
-						break;
-					case FALSE:
-						andString += "=FALSE";
-						break;
-					case IS_NULL:
-						andString += "=NULL";
-						break;
-					case LESS_THAN:
-						andString += "<" + insertedTag;
-						break;
-					case IS_NOT_NULL:
-						andString += "<>NULL";
-						break;
-					case LESS_THAN_EQUAL:
-						andString += "<=" + insertedTag;
-						break;
-					case GREATER_THAN:
-						andString += ">" + insertedTag;
-						break;
-					case GREATER_THAN_EQUAL:
-						andString += ">=" + insertedTag;
-						break;
-					case IN:
-						andString += " IN UNNEST(" + insertedTag + ")";
-						break;
-					case NOT_IN:
-						andString += " NOT IN UNNEST(" + insertedTag + ")";
-						break;
-					default:
-						throw new UnsupportedOperationException("The statement type: "
-								+ part.getType() + " is not supported.");
-					}
-
-					andStrings.add(andString);
-				});
-
-				orString += andStrings.toString();
-				orString += " )";
-				orStrings.add(orString);
+	private static String buildWhere(PartTree tree,
+			SpannerPersistentEntity<?> persistentEntity, List<String> tags) {
+		StringJoiner orStrings = new StringJoiner(" OR ");
+
+		tree.iterator().forEachRemaining((orPart) -> {
+			String orString = "( ";
+
+			StringJoiner andStrings = new StringJoiner(" AND ");
+
+			orPart.forEach((part) -> {
+				String segment = part.getProperty().getSegment();
+				String tag = "tag" + tags.size();
+				tags.add(tag);
+
+				SpannerPersistentProperty spannerPersistentProperty = persistentEntity
+						.getPersistentProperty(segment);
+
+				if (spannerPersistentProperty.isEmbedded()) {
+					throw new SpannerDataException(
+							"Embedded class properties are not currently supported in query method names: "
+									+ segment);
+				}
+
+				String andString = spannerPersistentProperty.getColumnName();
+				String insertedTag = "@" + tag;
+				if (part.shouldIgnoreCase() == IgnoreCaseType.ALWAYS) {
+					andString = "LOWER(" + andString + ")";
+					insertedTag = "LOWER(" + insertedTag + ")";
+				}
+				else if (part.shouldIgnoreCase() != IgnoreCaseType.NEVER) {
+					throw new SpannerDataException(
+							"Only ignore-case types ALWAYS and NEVER are supported, "
+									+ "because the underlying table schema is not retrieved at query time to"
+									+ " check that the column is the STRING or BYTES Cloud Spanner "
+									+ " type supported for ignoring case.");
+				}
+
+				switch (part.getType()) {
+				case LIKE:
+					andString += " LIKE " + insertedTag;
+					break;
+				case NOT_LIKE:
+					andString += " NOT LIKE " + insertedTag;
+					break;
+				case CONTAINING:
+					andString = " REGEXP_CONTAINS(" + andString + "," + insertedTag
+							+ ") =TRUE";
+					break;
+				case NOT_CONTAINING:
+					andString = " REGEXP_CONTAINS(" + andString + "," + insertedTag
+							+ ") =FALSE";
+					break;
+				case SIMPLE_PROPERTY:
+					andString += "=" + insertedTag;
+					break;
+				case TRUE:
+					andString += "=TRUE";
+					break;
+				case FALSE:
+					andString += "=FALSE";
+					break;
+				case IS_NULL:
+					andString += "=NULL";
+					break;
+				case LESS_THAN:
+					andString += "<" + insertedTag;
+					break;
+				case IS_NOT_NULL:
+					andString += "<>NULL";
+					break;
+				case LESS_THAN_EQUAL:
+					andString += "<=" + insertedTag;
+					break;
+				case GREATER_THAN:
+					andString += ">" + insertedTag;
+					break;
+				case GREATER_THAN_EQUAL:
+					andString += ">=" + insertedTag;
+					break;
+				case IN:
+					andString += " IN UNNEST(" + insertedTag + ")";
+					break;
+				case NOT_IN:
+					andString += " NOT IN UNNEST(" + insertedTag + ")";
+					break;
+				default:
+					throw new UnsupportedOperationException("The statement type: "
+							+ part.getType() + " is not supported.");
+				}
+
+				andStrings.add(andString);
 			});
-			stringBuilder.append(
-					combineWithAnd(orStrings.toString(), persistentEntity.getWhere()));
-		}
+
+			orString += andStrings.toString();
+			orString += " )";
+			orStrings.add(orString);
+		});
+		return combineWithAnd(orStrings.toString(), persistentEntity.getWhere());
 	}
 
-	private static void buildLimit(PartTree tree, StringBuilder stringBuilder, Pageable pageable) {
+	private static void buildLimit(PartTree tree, StringBuilder stringBuilder) {
 		if (tree.isExistsProjection()) {
 			stringBuilder.append(" LIMIT 1");
 		}
-		else if (pageable.isPaged()) {
-			stringBuilder.append(" LIMIT ").append(pageable.getPageSize())
-					.append(" OFFSET ").append(pageable.getOffset());
-		}
 		else if (tree.isLimiting()) {
 			stringBuilder.append(" LIMIT ").append(tree.getMaxResults());
 		}
 	}
+
+	/**
+	 * The SQL generated for a part tree and sort, without the per-invocation paging suffix.
+	 */
+	static final class PartTreeSql {
+
+		private final String selectFromSql;
+
+		private final String condition;
+
+		private final String orderBySql;
+
+		private final String selectSql;
+
+		private final String unpagedSql;
+
+		private final List<String> tags;
+
+		PartTreeSql(String selectFromSql, String condition, String orderBySql, String selectSql,
+				String unpagedSql, List<String> tags) {
+			this.selectFromSql = selectFromSql;
+			this.condition = condition;
+			this.orderBySql = orderBySql;
+			this.selectSql = selectSql;
+			this.unpagedSql = unpagedSql;
+			this.tags = tags;
+		}
+	}
 }
@@ -28,12 +28,14 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.Struct.Builder;
 
+import org.springframework.cloud.gcp.data.spanner.core.SpannerKeysetPageRequest;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerPageableQueryOptions;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.convert.StructAccessor;
@@ -87,6 +89,9 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
 	private SpelExpressionParser expressionParser;
 
+	// The parts of the query that do not depend on the parameter values of an invocation.
+	private volatile ParsedQuery parsedQuery;
+
 	SqlSpannerQuery(Class<T> type, SpannerQueryMethod queryMethod,
 			SpannerTemplate spannerTemplate, String sql,
 			QueryMethodEvaluationContextProvider evaluationContextProvider,
@@ -155,8 +160,26 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 		return result;
 	}
 
-	private void resolveSpELTags(QueryTagValue queryTagValue) {
-		Expression[] expressions = detectExpressions(queryTagValue.sql);
+	private ParsedQuery getParsedQuery() {
+		ParsedQuery result = this.parsedQuery;
+		if (result == null) {
+			List<String> paramTags = getParamTags();
+			Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
+			for (java.lang.reflect.Parameter param : getQueryMethod().getMethod().getParameters()) {
+				Param annotation = param.getAnnotation(Param.class);
+				paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
+			}
+			String resolvedSql = resolveEntityClassNames(this.sql, this.spannerMappingContext);
+			result = new ParsedQuery(paramTags, paramMetadataMap, resolvedSql, detectExpressions(resolvedSql));
+			this.parsedQuery = result;
+		}
+		return result;
+	}
+
+	private void resolveSpELTags(QueryTagValue queryTagValue, Expression[] expressions) {
+		if (expressions == null) {
+			return;
+		}
 		StringBuilder sb = new StringBuilder();
 		Map<Object, String> valueToTag = new HashMap<>();
 		int tagNum = 0;
@@ -198,12 +221,7 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 	public List executeRawResult(Object[] parameters) {
 
 		ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-		Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
-
-		QueryTagValue queryTagValue = new QueryTagValue(getParamTags(), parameters,
-						params, resolveEntityClassNames(this.sql, this.spannerMappingContext));
-
-		resolveSpELTags(queryTagValue);
+		QueryTagValue queryTagValue = getQueryTagValue(parameters, paramAccessor);
 
 		return this.isDml
 				? Collections.singletonList(
@@ -211,7 +229,76 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 				: executeReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
 	}
 
+	@Override
+	protected Stream<?> executeRawStreamResult(Object[] parameters) {
+		if (this.isDml) {
+			return super.executeRawStreamResult(parameters);
+		}
+		ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+		QueryTagValue queryTagValue = getQueryTagValue(parameters, paramAccessor);
+		SpannerPageableQueryOptions spannerQueryOptions = getReadQueryOptions(paramAccessor.getPageable(),
+				paramAccessor.getSort());
+		Statement statement = buildReadStatement(spannerQueryOptions, queryTagValue);
+
+		return (getReturnedSimpleConvertableItemType() != null)
+				? this.spannerTemplate.queryStream(
+						(struct) -> new StructAccessor(struct).getSingleValue(0), statement,
+						spannerQueryOptions)
+				: this.spannerTemplate.queryStream(this.entityType, statement, spannerQueryOptions);
+	}
+
+	boolean isDml() {
+		return this.isDml;
+	}
+
+	/**
+	 * Gets the sorting and paging options of a read invocation of this query method.
+	 * @param parameters the parameters of the query method invocation.
+	 * @return the query options of the read.
+	 */
+	SpannerPageableQueryOptions getReadQueryOptions(Object[] parameters) {
+		ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+		return getReadQueryOptions(paramAccessor.getPageable(), paramAccessor.getSort());
+	}
+
+	/**
+	 * Builds the statement of an invocation of this query method.
+	 * @param parameters the parameters of the query method invocation.
+	 * @param readQueryOptions the options applied to the SQL of reads; ignored for DML.
+	 * @return the statement to run.
+	 */
+	Statement buildStatement(Object[] parameters, SpannerPageableQueryOptions readQueryOptions) {
+		ParameterAccessor paramAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+		QueryTagValue queryTagValue = getQueryTagValue(parameters, paramAccessor);
+		return this.isDml ? buildStatementFromQueryAndTags(queryTagValue)
+				: buildReadStatement(readQueryOptions, queryTagValue);
+	}
+
+	private QueryTagValue getQueryTagValue(Object[] parameters, ParameterAccessor paramAccessor) {
+		Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
+		ParsedQuery parsed = getParsedQuery();
+
+		QueryTagValue queryTagValue = new QueryTagValue(parsed.paramTags, parsed.initialTags, parameters,
+						params, parsed.sql);
+
+		resolveSpELTags(queryTagValue, parsed.expressions);
+		return queryTagValue;
+	}
+
 	private List executeReadSql(Pageable pageable, Sort sort, QueryTagValue queryTagValue) {
+		SpannerPageableQueryOptions spannerQueryOptions = getReadQueryOptions(pageable, sort);
+		Statement statement = buildReadStatement(spannerQueryOptions, queryTagValue);
+
+		return (getReturnedSimpleConvertableItemType() != null)
+				? this.spannerTemplate.query(
+						(struct) -> new StructAccessor(struct).getSingleValue(0), statement,
+						spannerQueryOptions)
+				: this.spannerTemplate.query(this.entityType,
+						statement,
+				spannerQueryOptions);
+	}
+
+	private SpannerPageableQueryOptions getReadQueryOptions(Pageable pageable, Sort sort) {
 		SpannerPageableQueryOptions spannerQueryOptions = new SpannerPageableQueryOptions()
 				.setAllowPartialRead(true);
 
@@ -219,10 +306,19 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 			spannerQueryOptions.setSort(sort);
 		}
 
+		if (pageable instanceof SpannerKeysetPageRequest) {
+			throw new SpannerDataException(
+					"Keyset pagination is only supported for query methods derived from their names: "
+							+ getQueryMethod().getName());
+		}
 		if (pageable != null && pageable.isPaged()) {
 			spannerQueryOptions.setOffset(pageable.getOffset()).setLimit(pageable.getPageSize());
 		}
+		return spannerQueryOptions;
+	}
 
+	private Statement buildReadStatement(SpannerPageableQueryOptions spannerQueryOptions,
+			QueryTagValue queryTagValue) {
 		final Class<?> returnedType = getReturnedType();
 		final SpannerPersistentEntity<?> entity = returnedType == null ? null : this.spannerMappingContext.getPersistentEntity(returnedType);
 
@@ -230,34 +326,27 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 				.applySortingPagingQueryOptions(this.entityType, spannerQueryOptions,
 						queryTagValue.sql, this.spannerMappingContext, entity != null && entity.hasEagerlyLoadedProperties());
 
-		Statement statement = buildStatementFromQueryAndTags(queryTagValue);
-
-		return (getReturnedSimpleConvertableItemType() != null)
-				? this.spannerTemplate.query(
-						(struct) -> new StructAccessor(struct).getSingleValue(0), statement,
-						spannerQueryOptions)
-				: this.spannerTemplate.query(this.entityType,
-						statement,
-				spannerQueryOptions);
+		return buildStatementFromQueryAndTags(queryTagValue);
 	}
 
 	private Statement buildStatementFromQueryAndTags(QueryTagValue queryTagValue) {
-		Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
-		for (java.lang.reflect.Parameter param : getQueryMethod().getMethod().getParameters()) {
-			Param annotation = param.getAnnotation(Param.class);
-			paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
-		}
 		return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
 				queryTagValue.sql, queryTagValue.tags,
 				this.paramStructConvertFunc, this.spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-				queryTagValue.params.toArray(), paramMetadataMap);
+				queryTagValue.params.toArray(), getParsedQuery().paramMetadataMap);
 	}
 
+	/**
+	 * Splits the SQL into its literal and SpEL parts.
+	 * @param sql the SQL of the query method.
+	 * @return the parts of the SQL, or {@code null} if it does not contain SpEL expressions
+	 * and can be used as it is.
+	 */
 	private Expression[] detectExpressions(String sql) {
 		Expression expression = this.expressionParser.parseExpression(sql,
 				ParserContext.TEMPLATE_EXPRESSION);
 		if (expression instanceof LiteralExpression) {
-			return new Expression[] { expression };
+			return null;
 		}
 		else if (expression instanceof CompositeStringExpression) {
 			return ((CompositeStringExpression) expression).getExpressions();
@@ -283,13 +372,36 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
 		String sql;
 
-		QueryTagValue(List<String> tags, Object[] rawParams, Object[] params, String sql) {
-			this.tags = tags;
+		QueryTagValue(List<String> tags, Set<String> initialTags, Object[] rawParams, Object[] params, String sql) {
+			this.tags = new ArrayList<>(tags);
 			this.intialParams = params;
 			this.sql = sql;
-			this.initialTags = new HashSet<>(tags);
+			this.initialTags = initialTags;
 			this.params = new ArrayList<>(Arrays.asList(params));
 			this.rawParams = rawParams;
 		}
 	}
+
+	// The invocation-independent parts of the query, computed on its first execution.
+	private static final class ParsedQuery {
+
+		final List<String> paramTags;
+
+		final Set<String> initialTags;
+
+		final Map<String, java.lang.reflect.Parameter> paramMetadataMap;
+
+		final String sql;
+
+		final Expression[] expressions;
+
+		ParsedQuery(List<String> paramTags, Map<String, java.lang.reflect.Parameter> paramMetadataMap,
+				String sql, Expression[] expressions) {
+			this.paramTags = Collections.unmodifiableList(paramTags);
+			this.initialTags = Collections.unmodifiableSet(new HashSet<>(paramTags));
+			this.paramMetadataMap = Collections.unmodifiableMap(paramMetadataMap);
+			this.sql = sql;
+			this.expressions = expressions;
+		}
+	}
 }
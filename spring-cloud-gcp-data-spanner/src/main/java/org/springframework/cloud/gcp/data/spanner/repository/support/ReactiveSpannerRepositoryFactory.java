@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.repository.support;
+
+import java.util.Optional;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntity;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntityInformation;
+import org.springframework.cloud.gcp.data.spanner.repository.query.ReactiveSpannerQueryLookupStrategy;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A factory for instantiating reactive Spanner repositories. Derived and {@code @Query}
+ * query methods are supported, except for derived delete methods.
+ *
+ * @since 1.2.8
+ */
+public class ReactiveSpannerRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+	private final SpannerMappingContext spannerMappingContext;
+
+	private final ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+	/**
+	 * Constructor.
+	 * @param spannerMappingContext the mapping context used to get mapping metadata for
+	 * entity types.
+	 * @param reactiveSpannerTemplate the reactive Cloud Spanner operations object used by
+	 * the created repositories.
+	 */
+	ReactiveSpannerRepositoryFactory(SpannerMappingContext spannerMappingContext,
+			ReactiveSpannerTemplate reactiveSpannerTemplate) {
+		Assert.notNull(spannerMappingContext,
+				"A valid SpannerMappingContext is required.");
+		Assert.notNull(reactiveSpannerTemplate, "A valid ReactiveSpannerTemplate object is required.");
+		this.spannerMappingContext = spannerMappingContext;
+		this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		SpannerPersistentEntity<T> entity = (SpannerPersistentEntity<T>) this.spannerMappingContext
+				.getPersistentEntity(domainClass);
+
+		if (entity == null) {
+			throw new MappingException(String.format(
+					"Could not lookup mapping metadata for domain class %s!",
+					domainClass.getName()));
+		}
+
+		return (EntityInformation<T, ID>) new SpannerPersistentEntityInformation<>(
+				entity);
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return getTargetRepositoryViaReflection(metadata, this.reactiveSpannerTemplate,
+				metadata.getDomainType());
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveSpannerRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+		return Optional.of(new ReactiveSpannerQueryLookupStrategy(this.spannerMappingContext,
+				this.reactiveSpannerTemplate, evaluationContextProvider, EXPRESSION_PARSER));
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.repository.support;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * Factory bean used to create factories that ultimately create reactive Spanner
+ * repository implementations.
+ *
+ * @param <S> the entity type of the repository
+ * @param <ID> the id type of the entity
+ * @param <T> the repository type
+ *
+ * @since 1.2.8
+ */
+public class ReactiveSpannerRepositoryFactoryBean<T extends Repository<S, ID>, S, ID> extends
+		RepositoryFactoryBeanSupport<T, S, ID> {
+
+	private SpannerMappingContext spannerMappingContext;
+
+	private ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+	/**
+	 * Creates a new {@link ReactiveSpannerRepositoryFactoryBean} for the given repository
+	 * interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 */
+	ReactiveSpannerRepositoryFactoryBean(Class<T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	public void setReactiveSpannerTemplate(ReactiveSpannerTemplate reactiveSpannerTemplate) {
+		this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+	}
+
+	public void setSpannerMappingContext(SpannerMappingContext mappingContext) {
+		super.setMappingContext(mappingContext);
+		this.spannerMappingContext = mappingContext;
+	}
+
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		return new ReactiveSpannerRepositoryFactory(this.spannerMappingContext,
+				this.reactiveSpannerTemplate);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.repository.support;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerOperations;
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.repository.ReactiveSpannerRepository;
+import org.springframework.util.Assert;
+
+/**
+ * The default implementation of a ReactiveSpannerRepository.
+ *
+ * @param <T> the entity type of the repository
+ * @param <ID> the id type of the entity
+ *
+ * @since 1.2.8
+ */
+public class SimpleReactiveSpannerRepository<T, ID> implements ReactiveSpannerRepository<T, ID> {
+
+	private final ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+	private final Class<T> entityType;
+
+	public SimpleReactiveSpannerRepository(ReactiveSpannerTemplate reactiveSpannerTemplate, Class<T> entityType) {
+		Assert.notNull(reactiveSpannerTemplate, "A valid ReactiveSpannerTemplate object is required.");
+		Assert.notNull(entityType, "A valid entity type is required.");
+		this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+		this.entityType = entityType;
+	}
+
+	@Override
+	public ReactiveSpannerOperations getReactiveSpannerTemplate() {
+		return this.reactiveSpannerTemplate;
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		Assert.notNull(entity, "A non-null entity is required for saving.");
+		return this.reactiveSpannerTemplate.upsert(entity).thenReturn(entity);
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		Assert.notNull(entities, "A non-null list of entities is required for saving.");
+		return this.reactiveSpannerTemplate.upsertAll(entities).thenMany(Flux.fromIterable(entities));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		Assert.notNull(entityStream, "A non-null stream of entities is required for saving.");
+		return Flux.from(entityStream).collectList().flatMapMany((entities) -> saveAll(entities));
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		Assert.notNull(id, "A non-null ID is required.");
+		return this.reactiveSpannerTemplate.read(this.entityType, toKey(id));
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		Assert.notNull(id, "A non-null ID is required.");
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		Assert.notNull(id, "A non-null ID is required.");
+		return this.reactiveSpannerTemplate.existsById(this.entityType, toKey(id));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		Assert.notNull(id, "A non-null ID is required.");
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return this.reactiveSpannerTemplate.readAll(this.entityType);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		Assert.notNull(ids, "A non-null list of IDs is required.");
+		KeySet.Builder builder = KeySet.newBuilder();
+		for (Object id : ids) {
+			builder.addKey(toKey(id));
+		}
+		return this.reactiveSpannerTemplate.read(this.entityType, builder.build(), null);
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		Assert.notNull(idStream, "A non-null stream of IDs is required.");
+		return Flux.from(idStream).collectList().flatMapMany((ids) -> findAllById(ids));
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return this.reactiveSpannerTemplate.count(this.entityType);
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, "A non-null ID is required.");
+		return this.reactiveSpannerTemplate.delete(this.entityType, toKey(id));
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		Assert.notNull(id, "A non-null ID is required.");
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		Assert.notNull(entity, "A non-null entity is required.");
+		return this.reactiveSpannerTemplate.delete(entity);
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "A non-null list of entities is required.");
+		return this.reactiveSpannerTemplate.deleteAll(entities);
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		Assert.notNull(entityStream, "A non-null stream of entities is required.");
+		return Flux.from(entityStream).collectList().flatMap((entities) -> deleteAll(entities));
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return this.reactiveSpannerTemplate.delete(this.entityType, KeySet.all());
+	}
+
+	private Key toKey(Object id) {
+		return this.reactiveSpannerTemplate.getSpannerEntityProcessor().convertToKey(id);
+	}
+}
@@ -16,16 +16,20 @@
 
 package org.springframework.cloud.gcp.data.spanner.repository.support;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
 
+import org.springframework.cloud.gcp.data.spanner.core.SpannerKeysetPage;
+import org.springframework.cloud.gcp.data.spanner.core.SpannerKeysetPageRequest;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerOperations;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerPageableQueryOptions;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.repository.SpannerRepository;
+import org.springframework.cloud.gcp.data.spanner.repository.query.SpannerStatementQueryExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -156,12 +160,33 @@ public class SimpleSpannerRepository<T, ID> implements SpannerRepository<T, ID>
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
+		if (pageable instanceof SpannerKeysetPageRequest) {
+			return findKeysetPage((SpannerKeysetPageRequest) pageable);
+		}
 		return new PageImpl<>(this.spannerTemplate.queryAll(this.entityType,
 				new SpannerPageableQueryOptions().setLimit(pageable.getPageSize())
 						.setOffset(pageable.getOffset()).setSort(pageable.getSort())),
 				pageable, this.spannerTemplate.count(this.entityType));
 	}
 
+	private Page<T> findKeysetPage(SpannerKeysetPageRequest pageRequest) {
+		// One more row than the page size is read to find out whether another page follows.
+		List<T> rows = this.spannerTemplate.query(this.entityType,
+				SpannerStatementQueryExecutor.buildKeysetQuery(this.entityType, pageRequest,
+						pageRequest.getPageSize() + 1, this.spannerTemplate.getMappingContext(),
+						this.spannerTemplate.getSpannerEntityProcessor().getWriteConverter()),
+				null);
+		boolean hasNext = rows.size() > pageRequest.getPageSize();
+		List<T> content = hasNext ? rows.subList(0, pageRequest.getPageSize()) : rows;
+		if (!pageRequest.isCountTotal()) {
+			return new SpannerKeysetPage<>(content, pageRequest, hasNext);
+		}
+		// The total is only counted for the first page read and then carried by the requests.
+		long total = (pageRequest.getTotal() != null) ? pageRequest.getTotal()
+				: this.spannerTemplate.count(this.entityType);
+		return new SpannerKeysetPage<>(content, pageRequest, hasNext, total);
+	}
+
 	private Key toKey(Object id) {
 		return this.spannerTemplate.getSpannerEntityProcessor().convertToKey(id);
 	}
@@ -18,11 +18,15 @@ package org.springframework.cloud.gcp.data.spanner.repository.support;
 
 import java.util.Optional;
 
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
 import org.springframework.beans.BeansException;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntity;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerPersistentEntityInformation;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerRepositoryMethodContext;
 import org.springframework.cloud.gcp.data.spanner.repository.query.SpannerQueryLookupStrategy;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -38,6 +42,8 @@ import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
@@ -54,7 +60,8 @@ import org.springframework.util.Assert;
 public class SpannerRepositoryFactory extends RepositoryFactorySupport
 		implements ApplicationContextAware {
 
-	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, SpannerRepositoryFactory.class.getClassLoader()));
 
 	private final SpannerMappingContext spannerMappingContext;
 
@@ -75,6 +82,10 @@ public class SpannerRepositoryFactory extends RepositoryFactorySupport
 		Assert.notNull(spannerTemplate, "A valid SpannerTemplate object is required.");
 		this.spannerMappingContext = spannerMappingContext;
 		this.spannerTemplate = spannerTemplate;
+		if (spannerTemplate.getMetricsRecorder() != null) {
+			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> factory.addAdvice(
+					new RepositoryMethodMetricsInterceptor(repositoryInformation.getRepositoryInterface())));
+		}
 	}
 
 	@Override
@@ -136,4 +147,29 @@ public class SpannerRepositoryFactory extends RepositoryFactorySupport
 			throws BeansException {
 		this.applicationContext = applicationContext;
 	}
+
+	/**
+	 * Makes the repository method being executed available to the metrics recorder of the
+	 * template while it runs.
+	 */
+	private static final class RepositoryMethodMetricsInterceptor implements MethodInterceptor {
+
+		private final String repositoryName;
+
+		RepositoryMethodMetricsInterceptor(Class<?> repositoryInterface) {
+			this.repositoryName = repositoryInterface.getSimpleName();
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			String previous = SpannerRepositoryMethodContext
+					.setCurrentMethod(this.repositoryName + "." + invocation.getMethod().getName());
+			try {
+				return invocation.proceed();
+			}
+			finally {
+				SpannerRepositoryMethodContext.setCurrentMethod(previous);
+			}
+		}
+	}
 }
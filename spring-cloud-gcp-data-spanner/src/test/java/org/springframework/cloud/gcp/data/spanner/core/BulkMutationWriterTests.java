@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.Mutation;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for splitting mutations into batches.
+ */
+public class BulkMutationWriterTests {
+
+	@Test
+	public void countMutationsTest() {
+		assertThat(BulkMutationWriter.countMutations(Mutation.newInsertBuilder("parent")
+				.set("id").to("1").set("value").to("a").build())).isEqualTo(2);
+		assertThat(BulkMutationWriter.countMutations(Mutation.delete("parent", Key.of("1")))).isEqualTo(1);
+	}
+
+	@Test
+	public void partitionKeepsGroupsTogetherTest() {
+		Mutation parent1 = Mutation.newInsertBuilder("parent").set("id").to("1").build();
+		Mutation child1 = Mutation.newInsertBuilder("child").set("id").to("1").set("child_id").to("a").build();
+		Mutation parent2 = Mutation.newInsertBuilder("parent").set("id").to("2").build();
+		Mutation child2 = Mutation.newInsertBuilder("child").set("id").to("2").set("child_id").to("b").build();
+		Mutation parent3 = Mutation.newInsertBuilder("parent").set("id").to("3").build();
+
+		List<List<Mutation>> batches = BulkMutationWriter.partition(Arrays.asList(
+				Arrays.asList(parent1, child1), Arrays.asList(parent2, child2),
+				Collections.singletonList(parent3)), 4);
+
+		assertThat(batches).containsExactly(Arrays.asList(parent1, child1),
+				Arrays.asList(parent2, child2, parent3));
+	}
+
+	@Test
+	public void partitionOversizedGroupTest() {
+		Mutation small = Mutation.newInsertBuilder("parent").set("id").to("1").build();
+		Mutation large = Mutation.newInsertBuilder("parent").set("id").to("2").set("a").to("a")
+				.set("b").to("b").build();
+
+		List<List<Mutation>> batches = BulkMutationWriter.partition(Arrays.asList(
+				Collections.singletonList(small), Collections.singletonList(large),
+				Collections.singletonList(small)), 2);
+
+		assertThat(batches).containsExactly(Collections.singletonList(small),
+				Collections.singletonList(large), Collections.singletonList(small));
+	}
+}
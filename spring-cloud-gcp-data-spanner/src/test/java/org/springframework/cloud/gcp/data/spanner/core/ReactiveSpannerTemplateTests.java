@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.AsyncResultSet.ReadyCallback;
+import com.google.cloud.spanner.AsyncRunner;
+import com.google.cloud.spanner.AsyncRunner.AsyncWork;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TransactionContext;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.gcp.data.spanner.core.admin.SpannerSchemaUtils;
+import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
+import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerWriteConverter;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.Interleaved;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.PrimaryKey;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.Table;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterSaveEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeSaveEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the reactive Spanner template.
+ */
+public class ReactiveSpannerTemplateTests {
+
+	private DatabaseClient databaseClient;
+
+	private ReadContext readContext;
+
+	private SpannerEntityProcessor entityProcessor;
+
+	private SpannerMutationFactory mutationFactory;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	private ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+	@Before
+	public void setUp() {
+		this.databaseClient = mock(DatabaseClient.class);
+		this.readContext = mock(ReadContext.class);
+		this.entityProcessor = mock(SpannerEntityProcessor.class);
+		this.mutationFactory = mock(SpannerMutationFactory.class);
+		this.eventPublisher = mock(ApplicationEventPublisher.class);
+		when(this.databaseClient.singleUse()).thenReturn(this.readContext);
+		when(this.entityProcessor.getWriteConverter()).thenReturn(new SpannerWriteConverter());
+		SpannerMappingContext mappingContext = new SpannerMappingContext();
+		SpannerTemplate spannerTemplate = new SpannerTemplate(() -> this.databaseClient, mappingContext,
+				this.entityProcessor, this.mutationFactory,
+				new SpannerSchemaUtils(mappingContext, this.entityProcessor, true));
+		this.reactiveSpannerTemplate = new ReactiveSpannerTemplate(spannerTemplate);
+		this.reactiveSpannerTemplate.setExecutor(Runnable::run);
+		this.reactiveSpannerTemplate.setApplicationEventPublisher(this.eventPublisher);
+	}
+
+	@Test
+	public void queryFollowsDemandTest() {
+		Statement statement = Statement.of("SELECT id FROM test_table");
+		AsyncResultSet resultSet = mockAsyncResultSet(Struct.newBuilder().set("id").to("a").build(),
+				Struct.newBuilder().set("id").to("b").build());
+		when(this.readContext.executeQueryAsync(eq(statement))).thenReturn(resultSet);
+
+		StepVerifier.create(this.reactiveSpannerTemplate.query((struct) -> struct.getString("id"), statement, null), 1)
+				.expectNext("a")
+				.then(() -> verify(resultSet, times(1)).tryNext())
+				.thenRequest(1)
+				.expectNext("b")
+				.thenRequest(1)
+				.verifyComplete();
+		verify(resultSet, times(3)).tryNext();
+	}
+
+	@Test
+	public void queryCancelTest() {
+		Statement statement = Statement.of("SELECT id FROM test_table");
+		AsyncResultSet resultSet = mockAsyncResultSet(Struct.newBuilder().set("id").to("a").build(),
+				Struct.newBuilder().set("id").to("b").build());
+		when(this.readContext.executeQueryAsync(eq(statement))).thenReturn(resultSet);
+
+		StepVerifier.create(this.reactiveSpannerTemplate.query((struct) -> struct.getString("id"), statement, null), 1)
+				.expectNext("a")
+				.thenCancel()
+				.verify();
+		verify(resultSet, times(1)).cancel();
+		verify(resultSet, times(1)).tryNext();
+	}
+
+	@Test
+	public void queryEntityTest() {
+		Statement statement = Statement.of("SELECT id FROM test_table");
+		Struct row = Struct.newBuilder().set("id").to("a").build();
+		AsyncResultSet resultSet = mockAsyncResultSet(row);
+		when(this.readContext.executeQueryAsync(eq(statement))).thenReturn(resultSet);
+		TestEntity entity = new TestEntity();
+		when(this.entityProcessor.read(eq(TestEntity.class), same(row), isNull(), eq(false))).thenReturn(entity);
+
+		StepVerifier.create(this.reactiveSpannerTemplate.query(TestEntity.class, statement, null))
+				.expectNext(entity)
+				.verifyComplete();
+	}
+
+	@Test
+	public void interleavedEntityRejectedTest() {
+		assertThatThrownBy(() -> this.reactiveSpannerTemplate.query(ParentEntity.class,
+				Statement.of("SELECT id FROM parent_table"), null))
+				.isInstanceOf(SpannerDataException.class)
+				.hasMessageContaining("interleaved");
+		verify(this.readContext, times(0)).executeQueryAsync(any());
+	}
+
+	@Test
+	public void countTest() {
+		AsyncResultSet resultSet = mockAsyncResultSet(Struct.newBuilder().set("count").to(3L).build());
+		when(this.readContext.executeQueryAsync(eq(Statement.of("SELECT COUNT(*) FROM test_table"))))
+				.thenReturn(resultSet);
+
+		StepVerifier.create(this.reactiveSpannerTemplate.count(TestEntity.class))
+				.expectNext(3L)
+				.verifyComplete();
+	}
+
+	@Test
+	public void upsertTest() {
+		TransactionContext transactionContext = mockAsyncRunner();
+		TestEntity entity = new TestEntity();
+		Mutation mutation = Mutation.newInsertOrUpdateBuilder("test_table").set("id").to("a").build();
+		when(this.mutationFactory.upsert(same(entity), isNull())).thenReturn(Collections.singletonList(mutation));
+
+		StepVerifier.create(this.reactiveSpannerTemplate.upsert(entity)).verifyComplete();
+
+		verify(transactionContext, times(1)).buffer(eq(Collections.singletonList(mutation)));
+		verify(this.eventPublisher, times(1)).publishEvent(eq(
+				new BeforeSaveEvent(Collections.singletonList(entity), null)));
+		verify(this.eventPublisher, times(1)).publishEvent(eq(new AfterSaveEvent(
+				Collections.singletonList(mutation), Collections.singletonList(entity), null)));
+	}
+
+	@Test
+	public void writeIsLazyTest() {
+		mockAsyncRunner();
+		this.reactiveSpannerTemplate.upsert(new TestEntity());
+		verify(this.databaseClient, times(0)).runAsync();
+	}
+
+	@Test
+	public void executeDmlTest() {
+		TransactionContext transactionContext = mockAsyncRunner();
+		Statement statement = Statement.of("DELETE FROM test_table WHERE true");
+		when(transactionContext.executeUpdateAsync(eq(statement))).thenReturn(ApiFutures.immediateFuture(5L));
+
+		StepVerifier.create(this.reactiveSpannerTemplate.executeDmlStatement(statement))
+				.expectNext(5L)
+				.verifyComplete();
+
+		verify(this.eventPublisher, times(1)).publishEvent(eq(new BeforeExecuteDmlEvent(statement)));
+		verify(this.eventPublisher, times(1)).publishEvent(eq(new AfterExecuteDmlEvent(statement, 5L)));
+	}
+
+	private TransactionContext mockAsyncRunner() {
+		AsyncRunner asyncRunner = mock(AsyncRunner.class);
+		TransactionContext transactionContext = mock(TransactionContext.class);
+		when(this.databaseClient.runAsync()).thenReturn(asyncRunner);
+		when(asyncRunner.runAsync(any(), any())).thenAnswer((invocation) -> {
+			AsyncWork<?> work = invocation.getArgument(0);
+			return work.doWorkAsync(transactionContext);
+		});
+		return transactionContext;
+	}
+
+	/**
+	 * Creates an async result set that mimics the callback contract of the client: the
+	 * callback is invoked until it returns {@code DONE} or {@code PAUSE}, and a paused
+	 * callback is invoked again once the result set is resumed.
+	 */
+	private static AsyncResultSet mockAsyncResultSet(Struct... rows) {
+		AsyncResultSet resultSet = mock(AsyncResultSet.class);
+		AtomicReference<ReadyCallback> callback = new AtomicReference<>();
+		AtomicBoolean paused = new AtomicBoolean();
+		List<Struct> rowList = Arrays.asList(rows);
+		int[] position = { -1 };
+		Runnable runCallback = () -> {
+			CallbackResponse response;
+			do {
+				response = callback.get().cursorReady(resultSet);
+			} while (response == CallbackResponse.CONTINUE);
+			paused.set(response == CallbackResponse.PAUSE);
+		};
+		when(resultSet.tryNext()).thenAnswer((invocation) -> {
+			position[0]++;
+			return (position[0] < rowList.size()) ? CursorState.OK : CursorState.DONE;
+		});
+		when(resultSet.getCurrentRowAsStruct()).thenAnswer((invocation) -> rowList.get(position[0]));
+		when(resultSet.setCallback(any(), any())).thenAnswer((invocation) -> {
+			callback.set(invocation.getArgument(1));
+			runCallback.run();
+			return ApiFutures.immediateFuture(null);
+		});
+		doAnswer((invocation) -> {
+			if (paused.getAndSet(false)) {
+				runCallback.run();
+			}
+			return null;
+		}).when(resultSet).resume();
+		return resultSet;
+	}
+
+	@Table(name = "test_table")
+	private static class TestEntity {
+		@PrimaryKey
+		String id;
+	}
+
+	@Table(name = "parent_table")
+	private static class ParentEntity {
+		@PrimaryKey
+		String id;
+
+		@Interleaved
+		List<ChildEntity> children;
+	}
+
+	@Table(name = "child_table")
+	private static class ChildEntity {
+		@PrimaryKey
+		String id;
+
+		@PrimaryKey(keyOrder = 2)
+		String childId;
+	}
+}
@@ -22,21 +22,30 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import com.google.api.core.ApiFutures;
 import com.google.cloud.ByteArray;
 import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.AsyncRunner;
+import com.google.cloud.spanner.AsyncRunner.AsyncWork;
+import com.google.cloud.spanner.BatchClient;
+import com.google.cloud.spanner.BatchReadOnlyTransaction;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spanner.Mutation;
 import com.google.cloud.spanner.Options.ReadOption;
+import com.google.cloud.spanner.Partition;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionRunner;
@@ -67,19 +76,23 @@ import org.springframework.cloud.gcp.data.spanner.core.mapping.event.AfterSaveEv
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.event.BeforeSaveEvent;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerMetricsRecorder;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -195,6 +208,42 @@ public class SpannerTemplateTests {
 				x -> x.verify(this.databaseClient, times(1)).executePartitionedUpdate(eq(DML)));
 	}
 
+	@Test
+	public void metricsRecordedForRetriedTransactionTest() {
+		SpannerMetricsRecorder metricsRecorder = mock(SpannerMetricsRecorder.class);
+		this.spannerTemplate.setMetricsRecorder(metricsRecorder);
+		TransactionRunner transactionRunner = mock(TransactionRunner.class);
+		when(this.databaseClient.readWriteTransaction()).thenReturn(transactionRunner);
+		TransactionContext transactionContext = mock(TransactionContext.class);
+
+		// the transaction is aborted once and retried.
+		when(transactionRunner.run(any())).thenAnswer((invocation) -> {
+			TransactionCallable transactionCallable = invocation.getArgument(0);
+			transactionCallable.run(transactionContext);
+			return transactionCallable.run(transactionContext);
+		});
+
+		this.spannerTemplate.performReadWriteTransaction((spannerTemplate) -> spannerTemplate.readAll(TestEntity.class));
+
+		verify(metricsRecorder, times(2)).recordOperation(eq("read"), eq(TestEntity.class), anyLong(),
+				eq(0), isNull());
+		verify(metricsRecorder, times(1)).recordTransaction(eq(false), anyLong(), eq(2), isNull());
+	}
+
+	@Test
+	public void metricsRecordedForFailedQueryTest() {
+		SpannerMetricsRecorder metricsRecorder = mock(SpannerMetricsRecorder.class);
+		this.spannerTemplate.setMetricsRecorder(metricsRecorder);
+		RuntimeException error = new RuntimeException("query failed");
+		Statement query = Statement.of("test");
+		when(this.readContext.executeQuery(eq(query))).thenThrow(error);
+
+		assertThat(catchThrowableOfType(() -> this.spannerTemplate.query(TestEntity.class, query, null),
+				RuntimeException.class)).isSameAs(error);
+		verify(metricsRecorder, times(1)).recordOperation(eq("query"), eq(TestEntity.class), anyLong(),
+				eq(0), same(error));
+	}
+
 	@Test
 	public void readWriteTransactionTest() {
 
@@ -417,6 +466,47 @@ public class SpannerTemplateTests {
 				});
 	}
 
+	@Test
+	public void queryStreamTest() {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.next()).thenReturn(true, true, false);
+		when(resultSet.getCurrentRowAsStruct()).thenReturn(Struct.newBuilder().set("id").to("a").build(),
+				Struct.newBuilder().set("id").to("b").build());
+		Statement query = Statement.of("test");
+		when(this.readContext.executeQuery(eq(query))).thenReturn(resultSet);
+		ApplicationEventPublisher mockPublisher = mock(ApplicationEventPublisher.class);
+		this.spannerTemplate.setApplicationEventPublisher(mockPublisher);
+
+		AtomicInteger converted = new AtomicInteger();
+		Stream<String> results = this.spannerTemplate.queryStream((struct) -> {
+			converted.incrementAndGet();
+			return struct.getString("id");
+		}, query, null);
+
+		// rows are only converted as the stream is consumed.
+		assertThat(converted.get()).isZero();
+		assertThat(results).containsExactly("a", "b");
+		assertThat(converted.get()).isEqualTo(2);
+		verify(resultSet, times(1)).close();
+		verify(mockPublisher, times(0)).publishEvent(any());
+	}
+
+	@Test
+	public void queryStreamCloseTest() {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getCurrentRowAsStruct()).thenReturn(Struct.newBuilder().set("id").to("a").build());
+		Statement query = Statement.of("test");
+		when(this.readContext.executeQuery(eq(query))).thenReturn(resultSet);
+
+		try (Stream<String> results = this.spannerTemplate.queryStream((struct) -> struct.getString("id"),
+				query, null)) {
+			assertThat(results.limit(1)).containsExactly("a");
+		}
+		verify(resultSet, times(1)).next();
+		verify(resultSet, times(1)).close();
+	}
+
 	@Test
 	public void findSingleKeyTest() {
 		SpannerTemplate spyTemplate = spy(this.spannerTemplate);
@@ -477,6 +567,93 @@ public class SpannerTemplateTests {
 		verify(this.databaseClient, times(1)).singleUse();
 	}
 
+	@Test
+	public void queryPartitionedTest() {
+		BatchClient batchClient = mock(BatchClient.class);
+		BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+		Partition partition1 = mock(Partition.class);
+		Partition partition2 = mock(Partition.class);
+		ResultSet results1 = mock(ResultSet.class);
+		ResultSet results2 = mock(ResultSet.class);
+		TestEntity entity1 = new TestEntity();
+		TestEntity entity2 = new TestEntity();
+		TestEntity entity3 = new TestEntity();
+		Statement query = Statement.of("SELECT * FROM custom_test_table");
+
+		when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+		when(transaction.partitionQuery(any(), eq(query))).thenReturn(Arrays.asList(partition1, partition2));
+		when(transaction.execute(partition1)).thenReturn(results1);
+		when(transaction.execute(partition2)).thenReturn(results2);
+		when(this.objectMapper.mapToList(same(results1), eq(TestEntity.class), any(), eq(false)))
+				.thenReturn(Arrays.asList(entity1, entity2));
+		when(this.objectMapper.mapToList(same(results2), eq(TestEntity.class), any(), eq(false)))
+				.thenReturn(Collections.singletonList(entity3));
+
+		this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+		this.spannerTemplate.setPartitionedReadExecutor(Runnable::run);
+
+		assertThat(this.spannerTemplate.queryPartitioned(TestEntity.class, query, null))
+				.containsExactly(entity1, entity2, entity3);
+		verify(transaction, times(1)).close();
+		verify(this.databaseClient, never()).singleUse();
+	}
+
+	@Test
+	public void readAllPartitionedTest() {
+		BatchClient batchClient = mock(BatchClient.class);
+		BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+		Partition partition = mock(Partition.class);
+		ResultSet results = mock(ResultSet.class);
+		TimestampBound timestampBound = TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS);
+
+		when(batchClient.batchReadOnlyTransaction(timestampBound)).thenReturn(transaction);
+		when(transaction.partitionRead(any(), eq("custom_test_table"), eq(KeySet.all()), any()))
+				.thenReturn(Collections.singletonList(partition));
+		when(transaction.execute(partition)).thenReturn(results);
+		when(this.objectMapper.mapToList(same(results), eq(TestEntity.class), any(), eq(false)))
+				.thenReturn(Collections.emptyList());
+
+		this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+		this.spannerTemplate.setPartitionedReadExecutor(Runnable::run);
+
+		assertThat(this.spannerTemplate.readAllPartitioned(TestEntity.class,
+				new SpannerReadOptions().setTimestampBound(timestampBound))).isEmpty();
+		verify(transaction, times(1)).close();
+	}
+
+	@Test
+	public void readAllPartitionedDefaultExecutorTest() {
+		BatchClient batchClient = mock(BatchClient.class);
+		BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+		Partition partition = mock(Partition.class);
+		ResultSet results = mock(ResultSet.class);
+		List<String> threadNames = new ArrayList<>();
+
+		when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+		when(transaction.partitionRead(any(), eq("custom_test_table"), eq(KeySet.all()), any()))
+				.thenReturn(Collections.singletonList(partition));
+		when(transaction.execute(partition)).thenReturn(results);
+		when(this.objectMapper.mapToList(same(results), eq(TestEntity.class), any(), eq(false)))
+				.thenAnswer((invocation) -> {
+					threadNames.add(Thread.currentThread().getName());
+					return Collections.emptyList();
+				});
+
+		this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+
+		assertThat(this.spannerTemplate.readAllPartitioned(TestEntity.class, null)).isEmpty();
+		assertThat(threadNames).hasSize(1);
+		assertThat(threadNames.get(0)).startsWith("spanner-partitioned-read-");
+		this.spannerTemplate.destroy();
+	}
+
+	@Test
+	public void queryPartitionedWithoutBatchClientTest() {
+		this.expectedException.expect(IllegalStateException.class);
+		this.expectedException.expectMessage("Partitioned reads require a batch client provider.");
+		this.spannerTemplate.queryPartitioned(TestEntity.class, Statement.of("test"), null);
+	}
+
 	@Test
 	public void findMultipleKeysTest() {
 		ResultSet results = mock(ResultSet.class);
@@ -650,6 +827,89 @@ public class SpannerTemplateTests {
 						.write(eq(mutations)));
 	}
 
+	@Test
+	public void bulkUpsertAllTest() {
+		TransactionContext transactionContext = mockAsyncRunner();
+		TestEntity entity1 = new TestEntity();
+		TestEntity entity2 = new TestEntity();
+		TestEntity entity3 = new TestEntity();
+		Mutation mutation1 = Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("1").build();
+		Mutation mutation2 = Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("2").build();
+		Mutation mutation3 = Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("3").build();
+		when(this.mutationFactory.upsert(same(entity1), isNull())).thenReturn(Collections.singletonList(mutation1));
+		when(this.mutationFactory.upsert(same(entity2), isNull())).thenReturn(Collections.singletonList(mutation2));
+		when(this.mutationFactory.upsert(same(entity3), isNull())).thenReturn(Collections.singletonList(mutation3));
+		this.spannerTemplate.setBulkWriteMaxMutations(2);
+		this.spannerTemplate.setBulkWriteParallelism(2);
+
+		List entities = Arrays.asList(entity1, entity2, entity3);
+		verifyBeforeAndAfterEvents(new BeforeSaveEvent(entities, null),
+				new AfterSaveEvent(Arrays.asList(mutation1, mutation2, mutation3), entities, null),
+				() -> this.spannerTemplate.upsertAll(entities), x -> {
+				});
+
+		verify(transactionContext, times(1)).buffer(eq(Arrays.asList(mutation1, mutation2)));
+		verify(transactionContext, times(1)).buffer(eq(Collections.singletonList(mutation3)));
+		verify(this.databaseClient, times(0)).write(any());
+	}
+
+	@Test
+	public void bulkWriteSingleBatchTest() {
+		Mutation mutation = Mutation.delete("custom_test_table", Key.of("key"));
+		TestEntity entity = new TestEntity();
+		when(this.mutationFactory.delete(entity)).thenReturn(mutation);
+		this.spannerTemplate.setBulkWriteMaxMutations(2);
+
+		this.spannerTemplate.deleteAll(Arrays.asList(entity, entity));
+
+		verify(this.databaseClient, times(1)).write(eq(Arrays.asList(mutation, mutation)));
+		verify(this.databaseClient, times(0)).runAsync();
+	}
+
+	@Test
+	public void bulkWriteFailedBatchTest() {
+		TransactionContext transactionContext = mockAsyncRunner();
+		Mutation mutation1 = Mutation.delete("custom_test_table", Key.of("key1"));
+		Mutation mutation2 = Mutation.delete("custom_test_table", Key.of("key2"));
+		TestEntity entity1 = new TestEntity();
+		TestEntity entity2 = new TestEntity();
+		when(this.mutationFactory.delete(entity1)).thenReturn(mutation1);
+		when(this.mutationFactory.delete(entity2)).thenReturn(mutation2);
+		RuntimeException failure = new RuntimeException("commit failed");
+		doAnswer((invocation) -> {
+			if (((List<?>) invocation.getArgument(0)).contains(mutation2)) {
+				throw failure;
+			}
+			return null;
+		}).when(transactionContext).buffer(any(Iterable.class));
+		this.spannerTemplate.setBulkWriteMaxMutations(1);
+
+		SpannerBulkWriteException ex = catchThrowableOfType(
+				() -> this.spannerTemplate.deleteAll(Arrays.asList(entity1, entity2)),
+				SpannerBulkWriteException.class);
+
+		assertThat(ex).hasMessageStartingWith("1 of 2 mutation batches could not be committed.");
+		assertThat(ex.getCommittedBatches()).containsExactly(Collections.singletonList(mutation1));
+		assertThat(ex.getFailedBatches()).containsExactly(Collections.singletonList(mutation2));
+		assertThat(ex.getFailures()).containsExactly(failure);
+	}
+
+	private TransactionContext mockAsyncRunner() {
+		AsyncRunner asyncRunner = mock(AsyncRunner.class);
+		TransactionContext transactionContext = mock(TransactionContext.class);
+		when(this.databaseClient.runAsync()).thenReturn(asyncRunner);
+		when(asyncRunner.runAsync(any(), any())).thenAnswer((invocation) -> {
+			AsyncWork<?> work = invocation.getArgument(0);
+			try {
+				return work.doWorkAsync(transactionContext);
+			}
+			catch (RuntimeException ex) {
+				return ApiFutures.immediateFailedFuture(ex);
+			}
+		});
+		return transactionContext;
+	}
+
 	@Test
 	public void upsertColumnsArrayTest() {
 		Mutation mutation = Mutation.newInsertOrUpdateBuilder("custom_test_table")
@@ -865,6 +1125,58 @@ public class SpannerTemplateTests {
 		verify(this.objectMapper, times(2)).mapToList(any(), any(), any(), eq(false));
 	}
 
+	@Test
+	public void batchResolveChildEntitiesTest() {
+		ParentEntity p1 = new ParentEntity();
+		p1.id = "key";
+		p1.id2 = "key2";
+		ParentEntity p2 = new ParentEntity();
+		p2.id = "other";
+		p2.id2 = "key2";
+		ChildEntity c1 = new ChildEntity();
+		c1.id = "key";
+		c1.id_2 = "key2";
+		c1.id3 = "c1";
+		ChildEntity c2 = new ChildEntity();
+		c2.id = "other";
+		c2.id_2 = "key2";
+		c2.id3 = "c2";
+		ChildEntity c3 = new ChildEntity();
+		c3.id = "key";
+		c3.id_2 = "key2";
+		c3.id3 = "c3";
+		GrandChildEntity gc = new GrandChildEntity();
+		gc.id = "other";
+		gc.id_2 = "key2";
+		gc.id3 = "c2";
+		gc.id4 = "gc";
+		when(this.objectMapper.mapToList(any(), eq(ParentEntity.class), any(), eq(false)))
+				.thenReturn(Arrays.asList(p1, p2));
+		when(this.objectMapper.mapToList(any(), eq(ChildEntity.class), any(), eq(false)))
+				.thenReturn(Arrays.asList(c1, c2, c3));
+		when(this.objectMapper.mapToList(any(), eq(GrandChildEntity.class), any(),
+				eq(false))).thenReturn(Collections.singletonList(gc));
+
+		this.spannerTemplate.setBatchInterleavedReads(true);
+		List<ParentEntity> results = this.spannerTemplate.readAll(ParentEntity.class);
+
+		// one statement for the parents and one for the children of all parents.
+		verify(this.readContext, times(2)).executeQuery(any());
+		verify(this.readContext, times(1)).executeQuery(eq(Statement.newBuilder(
+				"SELECT deleted, id3, id, id_2 FROM child_test_table WHERE "
+						+ "((id = @tag0 AND id_2 = @tag1) OR (id = @tag2 AND id_2 = @tag3)) AND (deleted = false)")
+				.bind("tag0").to("key").bind("tag1").to("key2")
+				.bind("tag2").to("other").bind("tag3").to("key2").build()));
+		assertThat(results.get(0).childEntities).containsExactly(c1, c3);
+		assertThat(results.get(1).childEntities).containsExactly(c2);
+
+		// touching one lazy grandchild list loads the grandchildren of every child at once.
+		assertThat(results.get(1).childEntities.get(0).childEntities).containsExactly(gc);
+		assertThat(results.get(0).childEntities.get(0).childEntities).isEmpty();
+		assertThat(results.get(0).childEntities.get(1).childEntities).isEmpty();
+		verify(this.readContext, times(3)).executeQuery(any());
+	}
+
 	private void verifyEvents(ApplicationEvent expectedBefore,
 			ApplicationEvent expectedAfter, Runnable operation, Consumer<InOrder> verifyOperation) {
 		ApplicationEventPublisher mockPublisher = mock(ApplicationEventPublisher.class);
@@ -17,6 +17,7 @@
 package org.springframework.cloud.gcp.data.spanner.core.convert;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import com.google.cloud.ByteArray;
 import com.google.cloud.Date;
@@ -254,6 +255,28 @@ public class ConverterAwareMappingSpannerEntityReaderTests {
 		assertThat(result.innerTestEntities.get(0).value).isEqualTo("value");
 	}
 
+	@Test
+	public void rowMapperReusedForSameRowTypeTest() {
+		ConverterAwareMappingSpannerEntityReader entityReader = (ConverterAwareMappingSpannerEntityReader) this.spannerEntityReader;
+		Struct row1 = Struct.newBuilder().set("id").to(Value.string("key1"))
+				.set("innerLengths").to(Value.int64Array(new long[] { 1L, 2L })).build();
+		Struct row2 = Struct.newBuilder().set("id").to(Value.string("key2"))
+				.set("innerLengths").to(Value.int64Array((long[]) null)).build();
+
+		OuterTestEntityFlat result1 = entityReader.read(OuterTestEntityFlat.class, row1);
+		OuterTestEntityFlat result2 = entityReader.read(OuterTestEntityFlat.class, row2);
+
+		assertThat(result1.id).isEqualTo("key1");
+		assertThat(result1.innerLengths).containsExactly(1, 2);
+		assertThat(result2.id).isEqualTo("key2");
+		assertThat(result2.innerLengths).isNull();
+		assertThat(entityReader.getRowMapper(OuterTestEntityFlat.class, row2.getType(), null, false))
+				.isSameAs(entityReader.getRowMapper(OuterTestEntityFlat.class, row1.getType(), null, false));
+		assertThat(entityReader.getRowMapper(OuterTestEntityFlat.class, row1.getType(),
+				Collections.singleton("id"), false))
+				.isNotSameAs(entityReader.getRowMapper(OuterTestEntityFlat.class, row1.getType(), null, false));
+	}
+
 	@Test
 	public void testPartialConstructor() {
 		Struct struct = Struct.newBuilder().set("id").to(Value.string("key1"))
@@ -267,16 +290,15 @@ public class ConverterAwareMappingSpannerEntityReaderTests {
 	@Test
 	public void ensureConstructorArgsAreReadOnce() {
 		Struct row = mock(Struct.class);
-		when(row.getString("id")).thenReturn("1234");
+		when(row.getString(0)).thenReturn("1234");
 		when(row.getType()).thenReturn(
 				Type.struct(Arrays.asList(Type.StructField.of("id", Type.string()))));
-		when(row.getColumnType("id")).thenReturn(Type.string());
 
 		TestEntities.SimpleConstructorTester result = this.spannerEntityReader
 				.read(TestEntities.SimpleConstructorTester.class, row);
 
 		assertThat(result.id).isEqualTo("1234");
-		verify(row, times(1)).getString("id");
+		verify(row, times(1)).getString(0);
 	}
 
 	@Test
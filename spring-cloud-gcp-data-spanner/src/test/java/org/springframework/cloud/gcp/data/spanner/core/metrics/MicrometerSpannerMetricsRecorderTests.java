@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the Micrometer metrics recorder.
+ *
+ * @since 1.2.8
+ */
+public class MicrometerSpannerMetricsRecorderTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MicrometerSpannerMetricsRecorder recorder = new MicrometerSpannerMetricsRecorder(
+			this.meterRegistry);
+
+	@After
+	public void clearRepositoryMethod() {
+		SpannerRepositoryMethodContext.setCurrentMethod(null);
+	}
+
+	@Test
+	public void recordOperationTest() {
+		SpannerRepositoryMethodContext.setCurrentMethod("TradeRepository.findByAction");
+		this.recorder.recordOperation("query", String.class, TimeUnit.MILLISECONDS.toNanos(5), 3, null);
+		this.recorder.recordOperation("query", String.class, TimeUnit.MILLISECONDS.toNanos(7), 2, null);
+
+		Timer timer = this.meterRegistry.get("spanner.operations")
+				.tags("operation", "query", "entity", "String", "method", "TradeRepository.findByAction",
+						"outcome", "success")
+				.timer();
+		assertThat(timer.count()).isEqualTo(2);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12);
+		assertThat(this.meterRegistry.get("spanner.rows.mapped")
+				.tags("entity", "String", "method", "TradeRepository.findByAction").counter().count())
+						.isEqualTo(5);
+	}
+
+	@Test
+	public void recordFailedWriteWithoutRepositoryMethodTest() {
+		this.recorder.recordOperation("write", null, 100, 0, new RuntimeException());
+
+		assertThat(this.meterRegistry.get("spanner.operations")
+				.tags("operation", "write", "entity", "none", "method", "none", "outcome", "error")
+				.timer().count()).isEqualTo(1);
+		assertThat(this.meterRegistry.find("spanner.rows.mapped").counter()).isNull();
+	}
+
+	@Test
+	public void recordTransactionTest() {
+		this.recorder.recordTransaction(false, 100, 3, null);
+		this.recorder.recordTransaction(true, 100, 1, null);
+
+		assertThat(this.meterRegistry.get("spanner.transactions").tags("type", "read-write").timer().count())
+				.isEqualTo(1);
+		assertThat(this.meterRegistry.get("spanner.transactions").tags("type", "read-only").timer().count())
+				.isEqualTo(1);
+		assertThat(this.meterRegistry.get("spanner.transaction.retries").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	public void repositoryMethodRestoredTest() {
+		String previous = SpannerRepositoryMethodContext.setCurrentMethod("TradeRepository.findAll");
+		assertThat(previous).isNull();
+		assertThat(SpannerRepositoryMethodContext.setCurrentMethod(previous))
+				.isEqualTo("TradeRepository.findAll");
+		assertThat(SpannerRepositoryMethodContext.getCurrentMethod()).isNull();
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.cloud.gcp.data.spanner.repository.query;
 
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import org.springframework.cloud.gcp.data.spanner.core.SpannerKeysetPageRequest;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
 import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerWriteConverter;
@@ -253,6 +255,70 @@ public class SpannerStatementQueryTests {
 		runPageableOrSortTest(params, method, expectedSql);
 	}
 
+	@Test
+	public void repeatedPageableAndSortTest() throws NoSuchMethodException {
+		Method method = QueryHolder.class.getMethod("repositoryMethod5",
+				Double.class, Pageable.class);
+		when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
+		this.partTreeSpannerQuery = spy(createQuery());
+		doReturn(new DefaultParameters(method)).when(this.queryMethod).getParameters();
+		doReturn(Object.class).when(this.partTreeSpannerQuery)
+				.getReturnedSimpleConvertableItemType();
+		doReturn(null).when(this.partTreeSpannerQuery).convertToSimpleReturnType(any(),
+				any());
+		List<String> executedSql = new ArrayList<>();
+		when(this.spannerTemplate.query((Class) any(), any(), any()))
+				.thenAnswer((invocation) -> {
+					executedSql.add(((Statement) invocation.getArgument(1)).getSql());
+					return null;
+				});
+
+		this.partTreeSpannerQuery.execute(new Object[] { 8.88, PageRequest.of(0, 10, Sort.by("traderId")) });
+		this.partTreeSpannerQuery.execute(new Object[] { 8.88, PageRequest.of(2, 10, Sort.by("traderId")) });
+		this.partTreeSpannerQuery.execute(new Object[] { 8.88, PageRequest.of(0, 5, Sort.by("action")) });
+		this.partTreeSpannerQuery.execute(new Object[] { 8.88, Pageable.unpaged() });
+
+		String select = "SELECT shares, trader_id, ticker, price, action, id, value "
+				+ "FROM trades WHERE ( price<@tag0 )";
+		assertThat(executedSql).containsExactly(
+				select + " ORDER BY trader_id ASC LIMIT 10 OFFSET 0",
+				select + " ORDER BY trader_id ASC LIMIT 10 OFFSET 20",
+				select + " ORDER BY action ASC LIMIT 5 OFFSET 0",
+				select);
+	}
+
+	@Test
+	public void keysetPageableTest() throws NoSuchMethodException {
+		Method method = QueryHolder.class.getMethod("repositoryMethod5",
+				Double.class, Pageable.class);
+		when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
+		this.partTreeSpannerQuery = spy(createQuery());
+		doReturn(new DefaultParameters(method)).when(this.queryMethod).getParameters();
+		doReturn(Object.class).when(this.partTreeSpannerQuery)
+				.getReturnedSimpleConvertableItemType();
+		doReturn(null).when(this.partTreeSpannerQuery).convertToSimpleReturnType(any(),
+				any());
+		when(this.spannerTemplate.query((Class) any(), any(), any()))
+				.thenAnswer((invocation) -> {
+					Statement statement = invocation.getArgument(1);
+					assertThat(statement.getSql()).isEqualTo(
+							"SELECT shares, trader_id, ticker, price, action, id, value FROM trades "
+									+ "WHERE (( price<@tag0 )) AND ((trader_id > @keyset1) "
+									+ "OR (trader_id = @keyset1 AND id > @keyset2)) "
+									+ "ORDER BY trader_id ASC , id ASC LIMIT 10");
+					Map<String, Value> paramMap = statement.getParameters();
+					assertThat(paramMap.get("tag0").getFloat64()).isEqualTo(8.88);
+					assertThat(paramMap.get("keyset1").getString()).isEqualTo("trader");
+					assertThat(paramMap.get("keyset2").getString()).isEqualTo("id");
+					return null;
+				});
+
+		this.partTreeSpannerQuery.execute(new Object[] { 8.88,
+				SpannerKeysetPageRequest.of(10, Sort.by("traderId", "id")).afterValues(Arrays.asList("trader", "id")) });
+
+		verify(this.spannerTemplate, times(1)).query((Class) any(), any(), any());
+	}
+
 	private void runPageableOrSortTest(Object[] params, Method method, String expectedSql) {
 		when(this.queryMethod.getName()).thenReturn(
 				"findByPriceLessThan");
@@ -20,6 +20,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Statement;
@@ -54,6 +55,8 @@ import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -431,6 +434,40 @@ public class SqlSpannerQueryTests {
 		verify(this.spannerTemplate, times(1)).executeQuery(any(), any());
 	}
 
+	@Test
+	public void streamQueryTest() throws NoSuchMethodException {
+		String sql = "SELECT * FROM "
+				+ ":org.springframework.cloud.gcp.data.spanner.repository.query.SqlSpannerQueryTests$Trade:";
+
+		ResultProcessor resultProcessor = mock(ResultProcessor.class);
+		ReturnedType returnedType = mock(ReturnedType.class);
+		when(resultProcessor.getReturnedType()).thenReturn(returnedType);
+		when(resultProcessor.processResult(any())).thenAnswer((invocation) -> invocation.getArgument(0));
+		when(returnedType.getReturnedType()).thenReturn((Class) Trade.class);
+		when(this.queryMethod.isStreamQuery()).thenReturn(true);
+		when(this.queryMethod.getResultProcessor()).thenReturn(resultProcessor);
+
+		when(this.evaluationContextProvider.getEvaluationContext(any(), any()))
+				.thenReturn(new StandardEvaluationContext());
+
+		SqlSpannerQuery sqlSpannerQuery = createQuery(sql, Trade.class, false);
+
+		Trade trade1 = new Trade();
+		Trade trade2 = new Trade();
+		doReturn(Stream.of(trade1, trade2)).when(this.spannerTemplate).queryStream(same(Trade.class),
+				any(Statement.class), any());
+
+		Method method = QueryHolder.class.getMethod("dummyMethod2");
+		when(this.queryMethod.getMethod()).thenReturn(method);
+		Mockito.<Parameters>when(this.queryMethod.getParameters()).thenReturn(new DefaultParameters(method));
+
+		Object result = sqlSpannerQuery.execute(new Object[] {});
+
+		assertThat(result).isInstanceOf(Stream.class);
+		assertThat((Stream) result).containsExactly(trade1, trade2);
+		verify(this.spannerTemplate, times(0)).query(same(Trade.class), any(Statement.class), any());
+	}
+
 	@Test
 	public void dmlTest() throws NoSuchMethodException {
 		String sql = "dml statement here";
@@ -510,6 +547,43 @@ public class SqlSpannerQueryTests {
 		verify(this.spannerTemplate, times(1)).executeQuery(any(), any());
 	}
 
+	@Test
+	public void spelExpressionsParsedOnceTest() throws NoSuchMethodException {
+		String sql = "SELECT count(1) FROM children WHERE id = @id AND trader_id = #{#trader_id + 'X'}";
+		this.expressionParser = spy(new SpelExpressionParser());
+
+		when(queryMethod.isCollectionQuery()).thenReturn(false);
+		when(queryMethod.getReturnedObjectType()).thenReturn((Class) long.class);
+		Method method = QueryHolder.class.getMethod("dummyMethod3", String.class, String.class);
+		when(this.queryMethod.getMethod()).thenReturn(method);
+		Mockito.<Parameters>when(this.queryMethod.getParameters()).thenReturn(new DefaultParameters(method));
+		when(this.evaluationContextProvider.getEvaluationContext(any(), any()))
+				.thenAnswer((invocation) -> {
+					Object[] values = invocation.getArgument(1);
+					EvaluationContext evaluationContext = new StandardEvaluationContext();
+					evaluationContext.setVariable("trader_id", values[1]);
+					return evaluationContext;
+				});
+
+		SqlSpannerQuery sqlSpannerQuery = createQuery(sql, long.class, false);
+
+		doAnswer((invocation) -> {
+			Statement statement = invocation.getArgument(0);
+			assertThat(statement.getSql())
+					.isEqualTo("SELECT count(1) FROM children WHERE id = @id AND trader_id = @SpELtag1");
+			Map<String, Value> paramMap = statement.getParameters();
+			assertThat(paramMap.get("SpELtag1").getString())
+					.isEqualTo(paramMap.get("trader_id").getString() + "X");
+			return null;
+		}).when(this.spannerTemplate).executeQuery(any(), any());
+
+		sqlSpannerQuery.execute(new Object[] { "ID", "A" });
+		sqlSpannerQuery.execute(new Object[] { "ID", "B" });
+
+		verify(this.spannerTemplate, times(2)).executeQuery(any(), any());
+		verify(this.expressionParser, times(1)).parseExpression(any(), any());
+	}
+
 	private static class SymbolAction {
 		String symbol;
 
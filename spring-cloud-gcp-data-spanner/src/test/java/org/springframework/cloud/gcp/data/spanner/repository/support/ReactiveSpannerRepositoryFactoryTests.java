@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.gcp.data.spanner.repository.support;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Value;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.SpannerPageableQueryOptions;
+import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.PrimaryKey;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.Table;
+import org.springframework.cloud.gcp.data.spanner.repository.ReactiveSpannerRepository;
+import org.springframework.cloud.gcp.data.spanner.repository.query.Query;
+import org.springframework.data.repository.query.Param;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the query methods of reactive Spanner repositories.
+ */
+public class ReactiveSpannerRepositoryFactoryTests {
+
+	private ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+	private ReactiveSpannerRepositoryFactory repositoryFactory;
+
+	@Before
+	public void setUp() {
+		SpannerMappingContext mappingContext = new SpannerMappingContext();
+		SpannerTemplate spannerTemplate = mock(SpannerTemplate.class);
+		when(spannerTemplate.getSpannerEntityProcessor())
+				.thenReturn(new ConverterAwareMappingSpannerEntityProcessor(mappingContext));
+		this.reactiveSpannerTemplate = mock(ReactiveSpannerTemplate.class);
+		when(this.reactiveSpannerTemplate.getSpannerTemplate()).thenReturn(spannerTemplate);
+		this.repositoryFactory = new ReactiveSpannerRepositoryFactory(mappingContext, this.reactiveSpannerTemplate);
+	}
+
+	@Test
+	public void derivedQueryTest() {
+		Trade trade = new Trade();
+		AtomicReference<Statement> statement = new AtomicReference<>();
+		when(this.reactiveSpannerTemplate.query(eq(Trade.class), any(Statement.class), isNull()))
+				.thenAnswer((invocation) -> {
+					statement.set(invocation.getArgument(1));
+					return Flux.just(trade);
+				});
+
+		Flux<Trade> trades = this.repositoryFactory.getRepository(TradeRepository.class).findByAction("BUY");
+
+		assertThat(statement.get()).isNull();
+		StepVerifier.create(trades).expectNext(trade).verifyComplete();
+		assertThat(statement.get().getSql()).isEqualTo("SELECT action, id FROM trades WHERE ( action=@tag0 )");
+		assertThat(statement.get().getParameters()).containsEntry("tag0", Value.string("BUY"));
+	}
+
+	@Test
+	public void derivedCountQueryTest() {
+		AtomicReference<Statement> statement = new AtomicReference<>();
+		when(this.reactiveSpannerTemplate.query(any(Function.class), any(Statement.class), isNull()))
+				.thenAnswer((invocation) -> {
+					statement.set(invocation.getArgument(1));
+					return Flux.just(3L);
+				});
+
+		StepVerifier.create(this.repositoryFactory.getRepository(TradeRepository.class).countByAction("BUY"))
+				.expectNext(3L)
+				.verifyComplete();
+		assertThat(statement.get().getSql())
+				.isEqualTo("SELECT COUNT(1) FROM (SELECT action, id FROM trades WHERE ( action=@tag0 ))");
+	}
+
+	@Test
+	public void sqlQueryTest() {
+		Trade trade = new Trade();
+		AtomicReference<Statement> statement = new AtomicReference<>();
+		when(this.reactiveSpannerTemplate.query(eq(Trade.class), any(Statement.class),
+				any(SpannerPageableQueryOptions.class))).thenAnswer((invocation) -> {
+					statement.set(invocation.getArgument(1));
+					return Flux.just(trade);
+				});
+
+		StepVerifier.create(this.repositoryFactory.getRepository(TradeRepository.class).findTrades("SELL"))
+				.expectNext(trade)
+				.verifyComplete();
+		assertThat(statement.get().getSql()).isEqualTo("SELECT * FROM trades WHERE action = @action");
+		assertThat(statement.get().getParameters()).containsEntry("action", Value.string("SELL"));
+	}
+
+	@Test
+	public void dmlQueryTest() {
+		Statement expected = Statement.newBuilder("DELETE FROM trades WHERE action = @action")
+				.bind("action").to("SELL").build();
+		when(this.reactiveSpannerTemplate.executeDmlStatement(eq(expected))).thenReturn(Mono.just(2L));
+
+		StepVerifier.create(this.repositoryFactory.getRepository(TradeRepository.class).deleteTrades("SELL"))
+				.expectNext(2L)
+				.verifyComplete();
+	}
+
+	@Test
+	public void derivedDeleteQueryRejectedTest() {
+		assertThatThrownBy(() -> this.repositoryFactory.getRepository(DeletingTradeRepository.class))
+				.isInstanceOf(SpannerDataException.class)
+				.hasMessageContaining("Delete query methods are not supported");
+	}
+
+	@Table(name = "trades")
+	private static class Trade {
+		@PrimaryKey
+		String id;
+
+		String action;
+	}
+
+	private interface TradeRepository extends ReactiveSpannerRepository<Trade, Key> {
+
+		Flux<Trade> findByAction(String action);
+
+		Mono<Long> countByAction(String action);
+
+		@Query("SELECT * FROM trades WHERE action = @action")
+		Flux<Trade> findTrades(@Param("action") String action);
+
+		@Query(value = "DELETE FROM trades WHERE action = @action", dmlStatement = true)
+		Mono<Long> deleteTrades(@Param("action") String action);
+	}
+
+	private interface DeletingTradeRepository extends ReactiveSpannerRepository<Trade, Key> {
+
+		Mono<Void> deleteByAction(String action);
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.data.spanner.repository.support;
+
+import java.util.Arrays;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.gcp.data.spanner.core.ReactiveSpannerTemplate;
+import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the reactive Spanner repository implementation.
+ */
+public class SimpleReactiveSpannerRepositoryTests {
+
+	private static final Key A_KEY = Key.of("key");
+
+	private ReactiveSpannerTemplate template;
+
+	private SpannerEntityProcessor entityProcessor;
+
+	private SimpleReactiveSpannerRepository<Object, Key> repository;
+
+	/**
+	 * checks exceptions for messages and types.
+	 */
+	@Rule
+	public ExpectedException expectedEx = ExpectedException.none();
+
+	@Before
+	public void setup() {
+		this.template = mock(ReactiveSpannerTemplate.class);
+		this.entityProcessor = mock(SpannerEntityProcessor.class);
+		when(this.template.getSpannerEntityProcessor()).thenReturn(this.entityProcessor);
+		when(this.entityProcessor.convertToKey(eq(A_KEY))).thenReturn(A_KEY);
+		this.repository = new SimpleReactiveSpannerRepository<>(this.template, Object.class);
+	}
+
+	@Test
+	public void constructorNullTemplateTest() {
+		this.expectedEx.expect(IllegalArgumentException.class);
+		this.expectedEx.expectMessage("A valid ReactiveSpannerTemplate object is required.");
+		new SimpleReactiveSpannerRepository<Object, Key>(null, Object.class);
+	}
+
+	@Test
+	public void saveTest() {
+		Object entity = new Object();
+		when(this.template.upsert(same(entity))).thenReturn(Mono.empty());
+		StepVerifier.create(this.repository.save(entity)).expectNext(entity).verifyComplete();
+	}
+
+	@Test
+	public void saveAllPublisherTest() {
+		Object a = new Object();
+		Object b = new Object();
+		when(this.template.upsertAll(eq(Arrays.asList(a, b)))).thenReturn(Mono.empty());
+		StepVerifier.create(this.repository.saveAll(Flux.just(a, b))).expectNext(a, b).verifyComplete();
+		verify(this.template, times(1)).upsertAll(eq(Arrays.asList(a, b)));
+	}
+
+	@Test
+	public void findByIdTest() {
+		Object entity = new Object();
+		when(this.template.read(eq(Object.class), eq(A_KEY))).thenReturn(Mono.just(entity));
+		StepVerifier.create(this.repository.findById(Mono.just(A_KEY))).expectNext(entity).verifyComplete();
+	}
+
+	@Test
+	public void findAllByIdTest() {
+		Object entity = new Object();
+		when(this.template.read(eq(Object.class), eq(KeySet.newBuilder().addKey(A_KEY).build()), isNull()))
+				.thenReturn(Flux.just(entity));
+		StepVerifier.create(this.repository.findAllById(Arrays.asList(A_KEY))).expectNext(entity).verifyComplete();
+	}
+
+	@Test
+	public void deleteAllTest() {
+		when(this.template.delete(eq(Object.class), eq(KeySet.all()))).thenReturn(Mono.empty());
+		StepVerifier.create(this.repository.deleteAll()).verifyComplete();
+		verify(this.template, times(1)).delete(eq(Object.class), eq(KeySet.all()));
+	}
+}
@@ -17,6 +17,7 @@
 package org.springframework.cloud.gcp.data.spanner.repository.support;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.cloud.spanner.Key;
 import org.junit.Before;
@@ -30,6 +31,9 @@ import org.springframework.cloud.gcp.data.spanner.core.mapping.Column;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.PrimaryKey;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.Table;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerMetricsRecorder;
+import org.springframework.cloud.gcp.data.spanner.core.metrics.SpannerRepositoryMethodContext;
+import org.springframework.cloud.gcp.data.spanner.repository.SpannerRepository;
 import org.springframework.cloud.gcp.data.spanner.repository.query.SpannerQueryLookupStrategy;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.repository.core.EntityInformation;
@@ -39,6 +43,7 @@ import org.springframework.data.repository.query.QueryMethodEvaluationContextPro
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for the Spanner repository factory.
@@ -116,6 +121,26 @@ public class SpannerRepositoryFactoryTests {
 		assertThat(qls.get()).isInstanceOf(SpannerQueryLookupStrategy.class);
 	}
 
+	@Test
+	public void repositoryMethodAvailableToMetricsTest() {
+		SpannerTemplate template = mock(SpannerTemplate.class);
+		when(template.getMetricsRecorder()).thenReturn(mock(SpannerMetricsRecorder.class));
+		AtomicReference<String> repositoryMethod = new AtomicReference<>();
+		when(template.count(TestEntity.class)).thenAnswer((invocation) -> {
+			repositoryMethod.set(SpannerRepositoryMethodContext.getCurrentMethod());
+			return 3L;
+		});
+		TestEntityRepository repository = new SpannerRepositoryFactory(new SpannerMappingContext(), template)
+				.getRepository(TestEntityRepository.class);
+
+		assertThat(repository.count()).isEqualTo(3L);
+		assertThat(repositoryMethod.get()).isEqualTo("TestEntityRepository.count");
+		assertThat(SpannerRepositoryMethodContext.getCurrentMethod()).isNull();
+	}
+
+	private interface TestEntityRepository extends SpannerRepository<TestEntity, Key> {
+	}
+
 	@Table(name = "custom_test_table")
 	private static class TestEntity {
 		@PrimaryKey(keyOrder = 1)
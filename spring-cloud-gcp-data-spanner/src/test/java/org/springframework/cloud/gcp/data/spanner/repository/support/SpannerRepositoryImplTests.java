@@ -23,15 +23,22 @@ import java.util.function.Function;
 
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import org.springframework.cloud.gcp.data.spanner.core.SpannerKeysetPageRequest;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerPageableQueryOptions;
 import org.springframework.cloud.gcp.data.spanner.core.SpannerTemplate;
 import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerEntityProcessor;
+import org.springframework.cloud.gcp.data.spanner.core.convert.SpannerWriteConverter;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.PrimaryKey;
 import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerDataException;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.cloud.gcp.data.spanner.core.mapping.Table;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -234,6 +241,69 @@ public class SpannerRepositoryImplTests {
 		verify(this.template, times(1)).queryAll(eq(Object.class), any());
 	}
 
+	@Test
+	public void findAllKeysetPageableTest() {
+		when(this.template.getMappingContext()).thenReturn(new SpannerMappingContext());
+		when(this.entityProcessor.getWriteConverter()).thenReturn(new SpannerWriteConverter());
+		TestEntity first = new TestEntity("a", 1L);
+		TestEntity second = new TestEntity("b", 2L);
+		TestEntity third = new TestEntity("c", 2L);
+		when(this.template.query(eq(TestEntity.class), any(Statement.class), any())).thenAnswer((invocation) -> {
+			Statement statement = invocation.getArgument(1);
+			assertThat(statement.getSql()).isEqualTo("SELECT score, id FROM test_entities "
+					+ "WHERE (score < @keyset0 OR score IS NULL) OR (score = @keyset0 AND id > @keyset1) "
+					+ "ORDER BY score DESC , id ASC LIMIT 3");
+			assertThat(statement.getParameters().get("keyset0").getInt64()).isEqualTo(3L);
+			assertThat(statement.getParameters().get("keyset1").getString()).isEqualTo("x");
+			return Arrays.asList(first, second, third);
+		});
+		SpannerKeysetPageRequest pageRequest = SpannerKeysetPageRequest
+				.of(2, Sort.by(Sort.Order.desc("score"), Sort.Order.asc("id")))
+				.afterValues(Arrays.asList(3L, "x"));
+
+		Page<TestEntity> page = new SimpleSpannerRepository<TestEntity, Key>(this.template, TestEntity.class)
+				.findAll(pageRequest);
+
+		assertThat(page.getContent()).containsExactly(first, second);
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(((SpannerKeysetPageRequest) page.nextPageable()).getKeysetValues())
+				.containsExactly(2L, "b");
+		assertThat(page.nextPageable().getPageNumber()).isEqualTo(2);
+		verify(this.template, times(0)).queryAll(any(), any());
+		verify(this.template, times(0)).count(any());
+	}
+
+	@Test
+	public void findAllKeysetPageableTotalCountTest() {
+		when(this.template.getMappingContext()).thenReturn(new SpannerMappingContext());
+		when(this.entityProcessor.getWriteConverter()).thenReturn(new SpannerWriteConverter());
+		when(this.template.count(eq(TestEntity.class))).thenReturn(10L);
+		when(this.template.query(eq(TestEntity.class), any(Statement.class), any())).thenReturn(
+				Arrays.asList(new TestEntity("a", 1L), new TestEntity("b", 2L), new TestEntity("c", 2L)));
+		SimpleSpannerRepository<TestEntity, Key> repository =
+				new SimpleSpannerRepository<>(this.template, TestEntity.class);
+
+		Page<TestEntity> firstPage = repository.findAll(
+				SpannerKeysetPageRequest.of(2, Sort.by("score", "id")).withTotalCount());
+		Page<TestEntity> secondPage = repository.findAll(firstPage.nextPageable());
+
+		assertThat(firstPage.getTotalElements()).isEqualTo(10L);
+		assertThat(secondPage.getTotalElements()).isEqualTo(10L);
+		assertThat(((SpannerKeysetPageRequest) secondPage.nextPageable()).getTotal()).isEqualTo(10L);
+		verify(this.template, times(1)).count(eq(TestEntity.class));
+	}
+
+	@Test
+	public void findAllKeysetPageableMissingKeyTest() {
+		this.expectedEx.expect(SpannerDataException.class);
+		this.expectedEx.expectMessage("Keyset pagination requires the sort to include all primary "
+				+ "key properties, but it does not include: id");
+		when(this.template.getMappingContext()).thenReturn(new SpannerMappingContext());
+		new SimpleSpannerRepository<TestEntity, Key>(this.template, TestEntity.class)
+				.findAll(SpannerKeysetPageRequest.of(2, Sort.by("score")));
+	}
+
 	@Test
 	public void findAllByIdTest() {
 		List<Key> unconvertedKey = Arrays.asList(Key.of("key1"), Key.of("key2"));
@@ -304,4 +374,17 @@ public class SpannerRepositoryImplTests {
 						.performReadWriteTransaction((repo) -> "test");
 		assertThat(object).isEqualTo("test");
 	}
+
+	@Table(name = "test_entities")
+	private static class TestEntity {
+		@PrimaryKey
+		String id;
+
+		Long score;
+
+		TestEntity(String id, Long score) {
+			this.id = id;
+			this.score = score;
+		}
+	}
 }
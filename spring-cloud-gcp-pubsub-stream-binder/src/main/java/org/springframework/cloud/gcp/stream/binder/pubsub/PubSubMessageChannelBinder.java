@@ -87,6 +87,10 @@ public class PubSubMessageChannelBinder
 		ErrorInfrastructure errorInfrastructure = registerErrorInfrastructure(destination, group, properties);
 		adapter.setErrorChannel(errorInfrastructure.getErrorChannel());
 		adapter.setAckMode(properties.getExtension().getAckMode());
+		if (properties.isBatchMode()) {
+			adapter.setBatchSize(properties.getExtension().getBatchSize());
+			adapter.setBatchTimeout(properties.getExtension().getBatchTimeout());
+		}
 
 		return adapter;
 	}
@@ -30,6 +30,10 @@ public class PubSubConsumerProperties extends PubSubCommonProperties {
 
 	private AckMode ackMode = AckMode.AUTO;
 
+	private int batchSize = 100;
+
+	private long batchTimeout = 1000;
+
 	public AckMode getAckMode() {
 		return ackMode;
 	}
@@ -37,4 +41,31 @@ public class PubSubConsumerProperties extends PubSubCommonProperties {
 	public void setAckMode(AckMode ackMode) {
 		this.ackMode = ackMode;
 	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum number of messages in a batch, when the binding is in batch mode.
+	 * @param batchSize the maximum batch size
+	 * @since 1.2.8
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public long getBatchTimeout() {
+		return this.batchTimeout;
+	}
+
+	/**
+	 * Set the time in milliseconds after which an incomplete batch is sent, when the binding
+	 * is in batch mode.
+	 * @param batchTimeout the batch timeout in milliseconds
+	 * @since 1.2.8
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		this.batchTimeout = batchTimeout;
+	}
 }
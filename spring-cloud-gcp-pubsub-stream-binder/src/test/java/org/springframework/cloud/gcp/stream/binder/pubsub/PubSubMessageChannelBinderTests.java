@@ -26,6 +26,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cloud.gcp.pubsub.PubSubAdmin;
 import org.springframework.cloud.gcp.pubsub.core.PubSubTemplate;
+import org.springframework.cloud.gcp.pubsub.integration.inbound.PubSubInboundChannelAdapter;
 import org.springframework.cloud.gcp.pubsub.integration.outbound.PubSubMessageHandler;
 import org.springframework.cloud.gcp.stream.binder.pubsub.config.PubSubBinderConfiguration;
 import org.springframework.cloud.gcp.stream.binder.pubsub.properties.PubSubConsumerProperties;
@@ -99,6 +100,25 @@ public class PubSubMessageChannelBinderTests {
 		verify(this.channelProvisioner).afterUnbindConsumer(this.consumerDestination);
 	}
 
+	@Test
+	public void consumerBatchModePropagatesToAdapter() {
+		when(consumerDestination.getName()).thenReturn("test-subscription");
+		baseContext
+				.withPropertyValues("spring.cloud.stream.gcp.pubsub.default.consumer.batch-size=50",
+						"spring.cloud.stream.gcp.pubsub.default.consumer.batch-timeout=200")
+				.run(ctx -> {
+					PubSubMessageChannelBinder binder = ctx.getBean(PubSubMessageChannelBinder.class);
+
+					PubSubExtendedBindingProperties props = ctx.getBean("pubSubExtendedBindingProperties", PubSubExtendedBindingProperties.class);
+					ExtendedConsumerProperties<PubSubConsumerProperties> extendedProperties =
+							new ExtendedConsumerProperties<>(props.getExtendedConsumerProperties("test"));
+					extendedProperties.setBatchMode(true);
+					PubSubInboundChannelAdapter adapter = (PubSubInboundChannelAdapter) binder.createConsumerEndpoint(
+							consumerDestination, "testGroup", extendedProperties);
+					assertThat(adapter.getBatchSize()).isEqualTo(50);
+				});
+	}
+
 	@Test
 	public void producerSyncPropertyFalseByDefault() {
 		baseContext
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.pubsub.core.subscriber;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.protobuf.Empty;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * Buffers the ack IDs of individually acknowledged messages per subscription and
+ * operation, and sends them in a single request once the element count or byte threshold
+ * is reached or the delay threshold has passed since the first ack ID was buffered. The
+ * future of each message completes when the request carrying its ack ID does.
+ *
+ * @since 1.2.8
+ */
+class AckCoalescer {
+
+	private final long elementCountThreshold;
+
+	private final long requestByteThreshold;
+
+	private final long delayThresholdMillis;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Executor callbackExecutor;
+
+	private final AckOperation operation;
+
+	// guarded by this
+	private final Map<BatchKey, Batch> pendingBatches = new HashMap<>();
+
+	AckCoalescer(BatchingSettings batchingSettings, ScheduledExecutorService scheduler, Executor callbackExecutor,
+			AckOperation operation) {
+		Assert.notNull(batchingSettings.getDelayThreshold(), "The ack batching delay threshold can't be null.");
+		Assert.isTrue(batchingSettings.getDelayThreshold().toMillis() > 0,
+				"The ack batching delay threshold must be positive.");
+		this.elementCountThreshold = (batchingSettings.getElementCountThreshold() != null)
+				? batchingSettings.getElementCountThreshold() : Long.MAX_VALUE;
+		this.requestByteThreshold = (batchingSettings.getRequestByteThreshold() != null)
+				? batchingSettings.getRequestByteThreshold() : Long.MAX_VALUE;
+		this.delayThresholdMillis = batchingSettings.getDelayThreshold().toMillis();
+		this.scheduler = scheduler;
+		this.callbackExecutor = callbackExecutor;
+		this.operation = operation;
+	}
+
+	/**
+	 * Buffers an ack ID.
+	 * @param subscriptionName the fully qualified subscription name.
+	 * @param ackDeadlineSeconds the new ack deadline, or {@code null} to acknowledge.
+	 * @param ackId the ack ID of the message.
+	 * @return the future completed when the batch containing the ack ID is sent.
+	 */
+	ListenableFuture<Void> add(String subscriptionName, @Nullable Integer ackDeadlineSeconds, String ackId) {
+		SettableListenableFuture<Void> future = new SettableListenableFuture<>();
+		Batch full = null;
+		synchronized (this) {
+			BatchKey key = new BatchKey(subscriptionName, ackDeadlineSeconds);
+			Batch batch = this.pendingBatches.get(key);
+			if (batch == null) {
+				batch = new Batch(key);
+				this.pendingBatches.put(key, batch);
+				Batch scheduled = batch;
+				batch.delayedFlush = this.scheduler.schedule(() -> flush(scheduled),
+						this.delayThresholdMillis, TimeUnit.MILLISECONDS);
+			}
+			batch.add(ackId, future);
+			if (batch.ackIds.size() >= this.elementCountThreshold || batch.bytes >= this.requestByteThreshold) {
+				this.pendingBatches.remove(key);
+				batch.delayedFlush.cancel(false);
+				full = batch;
+			}
+		}
+		if (full != null) {
+			send(full);
+		}
+		return future;
+	}
+
+	/**
+	 * Sends all buffered ack IDs right away.
+	 */
+	void flushAll() {
+		List<Batch> batches;
+		synchronized (this) {
+			batches = new ArrayList<>(this.pendingBatches.values());
+			this.pendingBatches.clear();
+		}
+		batches.forEach((batch) -> {
+			batch.delayedFlush.cancel(false);
+			send(batch);
+		});
+	}
+
+	private void flush(Batch batch) {
+		synchronized (this) {
+			// the batch may have been sent already because it filled up.
+			if (!this.pendingBatches.remove(batch.key, batch)) {
+				return;
+			}
+		}
+		send(batch);
+	}
+
+	private void send(Batch batch) {
+		ApiFuture<Empty> apiFuture;
+		try {
+			apiFuture = this.operation.send(batch.key.subscriptionName, batch.key.ackDeadlineSeconds,
+					batch.ackIds);
+		}
+		catch (RuntimeException ex) {
+			batch.futures.forEach((future) -> future.setException(ex));
+			return;
+		}
+		ApiFutures.addCallback(apiFuture, new ApiFutureCallback<Empty>() {
+			@Override
+			public void onFailure(Throwable throwable) {
+				batch.futures.forEach((future) -> future.setException(throwable));
+			}
+
+			@Override
+			public void onSuccess(Empty empty) {
+				batch.futures.forEach((future) -> future.set(null));
+			}
+		}, this.callbackExecutor);
+	}
+
+	/**
+	 * Sends a request for a batch of ack IDs.
+	 */
+	@FunctionalInterface
+	interface AckOperation {
+		ApiFuture<Empty> send(String subscriptionName, @Nullable Integer ackDeadlineSeconds, List<String> ackIds);
+	}
+
+	/**
+	 * The subscription and operation shared by the ack IDs of a batch.
+	 */
+	private static final class BatchKey {
+		private final String subscriptionName;
+
+		private final Integer ackDeadlineSeconds;
+
+		BatchKey(String subscriptionName, Integer ackDeadlineSeconds) {
+			this.subscriptionName = subscriptionName;
+			this.ackDeadlineSeconds = ackDeadlineSeconds;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			BatchKey that = (BatchKey) o;
+			return this.subscriptionName.equals(that.subscriptionName)
+					&& Objects.equals(this.ackDeadlineSeconds, that.ackDeadlineSeconds);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.subscriptionName, this.ackDeadlineSeconds);
+		}
+	}
+
+	/**
+	 * The buffered ack IDs of a subscription and operation, and their futures.
+	 */
+	private static final class Batch {
+		private final BatchKey key;
+
+		private final List<String> ackIds = new ArrayList<>();
+
+		private final List<SettableListenableFuture<Void>> futures = new ArrayList<>();
+
+		private long bytes;
+
+		private ScheduledFuture<?> delayedFlush;
+
+		Batch(BatchKey key) {
+			this.key = key;
+		}
+
+		void add(String ackId, SettableListenableFuture<Void> future) {
+			this.ackIds.add(ackId);
+			this.futures.add(future);
+			this.bytes += ackId.getBytes(StandardCharsets.UTF_8).length;
+		}
+	}
+}
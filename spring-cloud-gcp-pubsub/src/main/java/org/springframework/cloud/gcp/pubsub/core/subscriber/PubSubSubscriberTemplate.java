@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.gcp.pubsub.core.subscriber;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -31,6 +33,7 @@ import java.util.stream.Collectors;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
 import com.google.cloud.pubsub.v1.AckReplyConsumer;
 import com.google.cloud.pubsub.v1.MessageReceiver;
 import com.google.cloud.pubsub.v1.Subscriber;
@@ -53,6 +56,7 @@ import org.springframework.cloud.gcp.pubsub.support.converter.ConvertedAcknowled
 import org.springframework.cloud.gcp.pubsub.support.converter.ConvertedBasicAcknowledgeablePubsubMessage;
 import org.springframework.cloud.gcp.pubsub.support.converter.PubSubMessageConverter;
 import org.springframework.cloud.gcp.pubsub.support.converter.SimplePubSubMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
@@ -72,6 +76,13 @@ import org.springframework.util.concurrent.SettableListenableFuture;
  * the responses of the asynchronous pull callback operations.
  * By default, this is executed on the same thread that executes the callback.
  *
+ * Acknowledgement and deadline operations on individual pulled messages can be batched
+ * by setting {@link BatchingSettings} for them. By default, each one sends its own request.
+ *
+ * The ack deadlines of pulled messages can be extended automatically until they are
+ * acknowledged, like those of messages received by a {@link Subscriber}. By default, they
+ * are not extended.
+ *
  * @author Vinicius Carvalho
  * @author João André Martins
  * @author Mike Eltsufin
@@ -97,6 +108,12 @@ public class PubSubSubscriberTemplate
 
 	private Executor asyncPullExecutor = Runnable::run;
 
+	private volatile AckCoalescer ackCoalescer;
+
+	private volatile PulledMessageLeaseManager leaseManager;
+
+	private ScheduledExecutorService ackScheduler;
+
 	/**
 	 * Default {@link PubSubSubscriberTemplate} constructor.
 	 *
@@ -152,6 +169,65 @@ public class PubSubSubscriberTemplate
 		this.asyncPullExecutor = asyncPullExecutor;
 	}
 
+	/**
+	 * Sets the thresholds at which the ack IDs of individually acked, nacked or
+	 * deadline-modified pulled messages are sent together. The ack IDs are buffered per
+	 * subscription and operation, and sent in a single request once the element count or
+	 * request byte threshold is reached, or the delay threshold passed since the first one
+	 * was buffered. The future returned for each message completes when that request does.
+	 * Operations on collections of messages are sent right away, as before. Disabled by
+	 * default.
+	 * @param ackBatchingSettings the thresholds to use, or {@code null} to disable batching.
+	 * A delay threshold is required if batching is enabled.
+	 * @since 1.2.8
+	 */
+	public synchronized void setAckBatchingSettings(BatchingSettings ackBatchingSettings) {
+		if (this.ackCoalescer != null) {
+			this.ackCoalescer.flushAll();
+			this.ackCoalescer = null;
+		}
+		if (ackBatchingSettings != null && !Boolean.FALSE.equals(ackBatchingSettings.getIsEnabled())) {
+			this.ackCoalescer = new AckCoalescer(ackBatchingSettings, getAckScheduler(),
+					(runnable) -> this.ackExecutor.execute(runnable),
+					(subscriptionName, ackDeadlineSeconds, ackIds) -> (ackDeadlineSeconds != null)
+							? modifyAckDeadline(subscriptionName, ackIds, ackDeadlineSeconds)
+							: ack(subscriptionName, ackIds));
+		}
+	}
+
+	/**
+	 * Enables the automatic extension of the ack deadlines of messages returned by the pull
+	 * methods that don't acknowledge them. Pulled messages get the given ack deadline right
+	 * away, and it is extended every half of it, in one request per subscription, until the
+	 * message is acked, nacked or its ack deadline modified, or the max extension period
+	 * since it was pulled has passed. Disabled by default.
+	 * @param ackDeadlineSeconds the ack deadline to set on every extension, between 10 and
+	 * 600 seconds.
+	 * @param maxExtensionPeriod the maximum time a message lease is extended for, or
+	 * {@code null} to disable lease extension.
+	 * @since 1.2.8
+	 */
+	public synchronized void setPullLeaseExtension(int ackDeadlineSeconds, Duration maxExtensionPeriod) {
+		if (this.leaseManager != null) {
+			this.leaseManager.stop();
+			this.leaseManager = null;
+		}
+		if (maxExtensionPeriod != null) {
+			this.leaseManager = new PulledMessageLeaseManager(ackDeadlineSeconds, maxExtensionPeriod,
+					getAckScheduler(), (subscriptionName, deadlineSeconds, ackIds) ->
+							modifyAckDeadline(subscriptionName, ackIds, deadlineSeconds));
+		}
+	}
+
+	private synchronized ScheduledExecutorService getAckScheduler() {
+		if (this.ackScheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("pubsub-ack-");
+			threadFactory.setDaemon(true);
+			this.ackScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+		return this.ackScheduler;
+	}
+
 	@Override
 	@Deprecated
 	public Subscriber subscribe(String subscription, MessageReceiver messageReceiver) {
@@ -215,6 +291,24 @@ public class PubSubSubscriberTemplate
 				pullRequest.getSubscription());
 	}
 
+	/**
+	 * Starts extending the leases of pulled messages that are handed out unacknowledged, if
+	 * lease extension is enabled.
+	 * @param messages the pulled messages
+	 * @return the same messages
+	 */
+	private List<AcknowledgeablePubsubMessage> manageLeases(List<AcknowledgeablePubsubMessage> messages) {
+		PulledMessageLeaseManager manager = this.leaseManager;
+		if (manager != null && !messages.isEmpty()) {
+			messages.stream()
+					.collect(Collectors.groupingBy(
+							(message) -> message.getProjectSubscriptionName().toString(),
+							Collectors.mapping(AcknowledgeablePubsubMessage::getAckId, Collectors.toList())))
+					.forEach(manager::register);
+		}
+		return messages;
+	}
+
 	/**
 	 * Pulls messages asynchronously, on demand, using the pull request in argument.
 	 *
@@ -263,13 +357,19 @@ public class PubSubSubscriberTemplate
 	@Override
 	public List<AcknowledgeablePubsubMessage> pull(
 			String subscription, Integer maxMessages, Boolean returnImmediately) {
-		return pull(this.subscriberFactory.createPullRequest(subscription, maxMessages,
-				returnImmediately));
+		return manageLeases(pull(this.subscriberFactory.createPullRequest(subscription, maxMessages,
+				returnImmediately)));
 	}
 
 	@Override
 	public ListenableFuture<List<AcknowledgeablePubsubMessage>> pullAsync(String subscription, Integer maxMessages, Boolean returnImmediately) {
-		return pullAsync(this.subscriberFactory.createPullRequest(subscription, maxMessages, returnImmediately));
+		final SettableListenableFuture<List<AcknowledgeablePubsubMessage>> settableFuture = new SettableListenableFuture<>();
+
+		pullAsync(this.subscriberFactory.createPullRequest(subscription, maxMessages, returnImmediately)).addCallback(
+				ackableMessages -> settableFuture.set(manageLeases(ackableMessages)),
+				settableFuture::setException);
+
+		return settableFuture;
 	}
 
 	@Override
@@ -413,10 +513,25 @@ public class PubSubSubscriberTemplate
 	}
 
 	/**
-	 * Destroys the default executor, regardless of whether it was used.
+	 * Stops extending the leases of pulled messages and sends any batched acknowledgements,
+	 * then destroys the default executor, regardless of whether it was used. Messages
+	 * acknowledged afterwards are no longer batched.
 	 */
 	@Override
 	public void destroy() {
+		synchronized (this) {
+			if (this.leaseManager != null) {
+				this.leaseManager.stop();
+				this.leaseManager = null;
+			}
+			if (this.ackCoalescer != null) {
+				this.ackCoalescer.flushAll();
+				this.ackCoalescer = null;
+			}
+			if (this.ackScheduler != null) {
+				this.ackScheduler.shutdown();
+			}
+		}
 		this.defaultAckExecutor.shutdown();
 		this.subscriberStub.close();
 	}
@@ -466,6 +581,11 @@ public class PubSubSubscriberTemplate
 		Assert.state(groupedMessages.keySet().stream().map(ProjectSubscriptionName::getProject).distinct().count() == 1,
 				"The project id of all messages must match.");
 
+		PulledMessageLeaseManager manager = this.leaseManager;
+		if (manager != null) {
+			groupedMessages.forEach((psName, ackIds) -> manager.release(psName.toString(), ackIds));
+		}
+
 		SettableListenableFuture<Void> settableListenableFuture	= new SettableListenableFuture<>();
 		int numExpectedFutures = groupedMessages.size();
 		AtomicInteger numCompletedFutures = new AtomicInteger();
@@ -541,7 +661,11 @@ public class PubSubSubscriberTemplate
 
 		@Override
 		public ListenableFuture<Void> ack() {
-			return PubSubSubscriberTemplate.this.ack(Collections.singleton(this));
+			releaseLease();
+			AckCoalescer coalescer = PubSubSubscriberTemplate.this.ackCoalescer;
+			return (coalescer != null)
+					? coalescer.add(getProjectSubscriptionName().toString(), null, this.ackId)
+					: PubSubSubscriberTemplate.this.ack(Collections.singleton(this));
 		}
 
 		@Override
@@ -551,9 +675,22 @@ public class PubSubSubscriberTemplate
 
 		@Override
 		public ListenableFuture<Void> modifyAckDeadline(int ackDeadlineSeconds) {
+			releaseLease();
+			AckCoalescer coalescer = PubSubSubscriberTemplate.this.ackCoalescer;
+			if (coalescer != null) {
+				Assert.isTrue(ackDeadlineSeconds >= 0, "The ackDeadlineSeconds must not be negative.");
+				return coalescer.add(getProjectSubscriptionName().toString(), ackDeadlineSeconds, this.ackId);
+			}
 			return PubSubSubscriberTemplate.this.modifyAckDeadline(Collections.singleton(this), ackDeadlineSeconds);
 		}
 
+		private void releaseLease() {
+			PulledMessageLeaseManager manager = PubSubSubscriberTemplate.this.leaseManager;
+			if (manager != null) {
+				manager.release(getProjectSubscriptionName().toString(), Collections.singleton(this.ackId));
+			}
+		}
+
 		@Override
 		public String toString() {
 			return "PulledAcknowledgeablePubsubMessage{" +
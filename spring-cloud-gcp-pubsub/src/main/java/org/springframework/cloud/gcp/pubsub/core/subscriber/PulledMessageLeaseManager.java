@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.gcp.pubsub.core.subscriber;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.protobuf.Empty;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the leases of pulled messages alive until they are acked, nacked or their ack
+ * deadline is modified explicitly. Pulled ack IDs get the configured ack deadline right
+ * away, and are then extended by it on a fixed schedule of half that deadline, in one
+ * request per subscription, until the max extension period since they were pulled has
+ * passed.
+ *
+ * @since 1.2.8
+ */
+class PulledMessageLeaseManager {
+
+	private static final Log LOGGER = LogFactory.getLog(PulledMessageLeaseManager.class);
+
+	/**
+	 * The maximum number of ack IDs sent in a single extension request.
+	 */
+	static final int MAX_ACK_IDS_PER_REQUEST = 1000;
+
+	private final int ackDeadlineSeconds;
+
+	private final long maxExtensionPeriodMillis;
+
+	private final ExtensionOperation operation;
+
+	private final LongSupplier clock;
+
+	private final ScheduledFuture<?> scheduledExtension;
+
+	// guarded by this; subscription name to ack ID to the time its leases stop being extended
+	private final Map<String, Map<String, Long>> leases = new HashMap<>();
+
+	PulledMessageLeaseManager(int ackDeadlineSeconds, Duration maxExtensionPeriod,
+			ScheduledExecutorService scheduler, ExtensionOperation operation) {
+		this(ackDeadlineSeconds, maxExtensionPeriod, scheduler, operation, System::currentTimeMillis);
+	}
+
+	PulledMessageLeaseManager(int ackDeadlineSeconds, Duration maxExtensionPeriod,
+			ScheduledExecutorService scheduler, ExtensionOperation operation, LongSupplier clock) {
+		Assert.isTrue(ackDeadlineSeconds >= 10 && ackDeadlineSeconds <= 600,
+				"The lease ack deadline must be between 10 and 600 seconds.");
+		Assert.notNull(maxExtensionPeriod, "The max extension period can't be null.");
+		Assert.isTrue(!maxExtensionPeriod.isNegative() && !maxExtensionPeriod.isZero(),
+				"The max extension period must be positive.");
+		this.ackDeadlineSeconds = ackDeadlineSeconds;
+		this.maxExtensionPeriodMillis = maxExtensionPeriod.toMillis();
+		this.operation = operation;
+		this.clock = clock;
+		long periodMillis = TimeUnit.SECONDS.toMillis(ackDeadlineSeconds) / 2;
+		this.scheduledExtension = scheduler.scheduleAtFixedRate(this::extendLeases,
+				periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Starts managing the leases of freshly pulled messages.
+	 * @param subscriptionName the fully qualified subscription name.
+	 * @param ackIds the ack IDs of the pulled messages.
+	 */
+	void register(String subscriptionName, List<String> ackIds) {
+		if (ackIds.isEmpty()) {
+			return;
+		}
+		long expiry = this.clock.getAsLong() + this.maxExtensionPeriodMillis;
+		synchronized (this) {
+			Map<String, Long> subscriptionLeases =
+					this.leases.computeIfAbsent(subscriptionName, (name) -> new HashMap<>());
+			ackIds.forEach((ackId) -> subscriptionLeases.put(ackId, expiry));
+		}
+		send(subscriptionName, ackIds);
+	}
+
+	/**
+	 * Stops managing the leases of messages.
+	 * @param subscriptionName the fully qualified subscription name.
+	 * @param ackIds the ack IDs of the messages.
+	 */
+	synchronized void release(String subscriptionName, Collection<String> ackIds) {
+		Map<String, Long> subscriptionLeases = this.leases.get(subscriptionName);
+		if (subscriptionLeases != null) {
+			subscriptionLeases.keySet().removeAll(ackIds);
+			if (subscriptionLeases.isEmpty()) {
+				this.leases.remove(subscriptionName);
+			}
+		}
+	}
+
+	/**
+	 * Stops extending leases and forgets all managed messages.
+	 */
+	synchronized void stop() {
+		this.scheduledExtension.cancel(false);
+		this.leases.clear();
+	}
+
+	synchronized int size() {
+		return this.leases.values().stream().mapToInt(Map::size).sum();
+	}
+
+	void extendLeases() {
+		long now = this.clock.getAsLong();
+		Map<String, List<String>> extensions = new HashMap<>();
+		synchronized (this) {
+			Iterator<Map.Entry<String, Map<String, Long>>> subscriptions = this.leases.entrySet().iterator();
+			while (subscriptions.hasNext()) {
+				Map.Entry<String, Map<String, Long>> subscription = subscriptions.next();
+				subscription.getValue().values().removeIf((expiry) -> expiry <= now);
+				if (subscription.getValue().isEmpty()) {
+					subscriptions.remove();
+				}
+				else {
+					extensions.put(subscription.getKey(), new ArrayList<>(subscription.getValue().keySet()));
+				}
+			}
+		}
+		extensions.forEach(this::send);
+	}
+
+	private void send(String subscriptionName, List<String> ackIds) {
+		for (int i = 0; i < ackIds.size(); i += MAX_ACK_IDS_PER_REQUEST) {
+			List<String> chunk = ackIds.subList(i, Math.min(i + MAX_ACK_IDS_PER_REQUEST, ackIds.size()));
+			try {
+				ApiFutures.addCallback(
+						this.operation.send(subscriptionName, this.ackDeadlineSeconds, chunk),
+						new ApiFutureCallback<Empty>() {
+							@Override
+							public void onFailure(Throwable throwable) {
+								LOGGER.warn("Failed to extend the leases of pulled messages from "
+										+ subscriptionName, throwable);
+							}
+
+							@Override
+							public void onSuccess(Empty empty) {
+							}
+						}, Runnable::run);
+			}
+			catch (RuntimeException ex) {
+				LOGGER.warn("Failed to extend the leases of pulled messages from " + subscriptionName, ex);
+			}
+		}
+	}
+
+	/**
+	 * Sends a request modifying the ack deadline of a batch of ack IDs.
+	 */
+	@FunctionalInterface
+	interface ExtensionOperation {
+		ApiFuture<Empty> send(String subscriptionName, int ackDeadlineSeconds, List<String> ackIds);
+	}
+}
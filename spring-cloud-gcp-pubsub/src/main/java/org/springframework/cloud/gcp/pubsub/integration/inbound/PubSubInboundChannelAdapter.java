@@ -16,7 +16,14 @@
 
 package org.springframework.cloud.gcp.pubsub.integration.inbound;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.google.cloud.pubsub.v1.AckReplyConsumer;
 import com.google.cloud.pubsub.v1.Subscriber;
@@ -31,12 +38,21 @@ import org.springframework.cloud.gcp.pubsub.support.converter.ConvertedBasicAckn
 import org.springframework.integration.endpoint.MessageProducerSupport;
 import org.springframework.integration.mapping.HeaderMapper;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
  * Converts from GCP Pub/Sub message to Spring message and sends the Spring message to the
  * attached channels.
  *
+ * <p>With a batch size greater than 1, received messages are grouped until the batch size
+ * is reached or the batch timeout has passed since the first one, and sent as a single
+ * Spring message whose payload is the list of their payloads. The original messages are
+ * then in the {@link GcpPubSubHeaders#ORIGINAL_MESSAGES} header, the headers mapped from
+ * their attributes in the {@link GcpPubSubHeaders#BATCH_HEADERS} header, and automatic
+ * acking or nacking applies to the whole batch. Stopping the adapter waits for the subscriber to
+ * terminate and then sends the incomplete batch.
+ *
  * @author João André Martins
  * @author Mike Eltsufin
  * @author Doug Hoard
@@ -58,6 +74,20 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
 
 	private Class<?> payloadType = byte[].class;
 
+	private int batchSize = 1;
+
+	private long batchTimeout = 1000;
+
+	// guarded by batchMonitor
+	private List<ConvertedBasicAcknowledgeablePubsubMessage<?>> batch = new ArrayList<>();
+
+	private ScheduledFuture<?> batchFlush;
+
+	private final Object batchMonitor = new Object();
+
+	// guarded by batchMonitor once the subscriber is started
+	private ScheduledExecutorService batchScheduler;
+
 	public PubSubInboundChannelAdapter(PubSubSubscriberOperations pubSubSubscriberOperations, String subscriptionName) {
 		Assert.notNull(pubSubSubscriberOperations, "Pub/Sub subscriber template can't be null.");
 		Assert.notNull(subscriptionName, "Pub/Sub subscription name can't be null.");
@@ -102,12 +132,49 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
 		this.headerMapper = headerMapper;
 	}
 
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum number of Pub/Sub messages sent together as a single Spring message
+	 * with a list payload. The default of 1 sends every Pub/Sub message on its own.
+	 * @param batchSize the maximum number of messages in a batch
+	 * @since 1.2.8
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "The batch size must be positive.");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the time in milliseconds after which an incomplete batch is sent, counting from
+	 * its first message. Only used with a batch size greater than 1. The default is 1000.
+	 * @param batchTimeout the batch timeout in milliseconds
+	 * @since 1.2.8
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		Assert.isTrue(batchTimeout > 0, "The batch timeout must be positive.");
+		this.batchTimeout = batchTimeout;
+	}
+
 	@Override
 	protected void doStart() {
 		super.doStart();
 
-		this.subscriber = this.pubSubSubscriberOperations.subscribeAndConvert(
-				this.subscriptionName, this::consumeMessage, this.payloadType);
+		if (this.batchSize > 1) {
+			// a daemon thread, so that an adapter that is never stopped does not keep the JVM alive.
+			CustomizableThreadFactory threadFactory =
+					new CustomizableThreadFactory("pubsub-batch-" + this.subscriptionName + "-");
+			threadFactory.setDaemon(true);
+			this.batchScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.subscriber = this.pubSubSubscriberOperations.subscribeAndConvert(
+					this.subscriptionName, this::addToBatch, this.payloadType);
+		}
+		else {
+			this.subscriber = this.pubSubSubscriberOperations.subscribeAndConvert(
+					this.subscriptionName, this::consumeMessage, this.payloadType);
+		}
 	}
 
 	@Override
@@ -116,9 +183,102 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
 			this.subscriber.stopAsync();
 		}
 
+		if (this.batchScheduler != null) {
+			// messages still being received are added to the batch before it is flushed.
+			awaitSubscriberTerminated();
+			ScheduledExecutorService scheduler;
+			synchronized (this.batchMonitor) {
+				scheduler = this.batchScheduler;
+				this.batchScheduler = null;
+			}
+			flushBatch();
+			scheduler.shutdown();
+		}
+
 		super.doStop();
 	}
 
+	private void awaitSubscriberTerminated() {
+		if (this.subscriber != null) {
+			try {
+				this.subscriber.awaitTerminated();
+			}
+			catch (IllegalStateException ex) {
+				LOGGER.warn("The subscriber of " + this.subscriptionName + " failed while stopping.", ex);
+			}
+		}
+	}
+
+	private void addToBatch(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+		List<ConvertedBasicAcknowledgeablePubsubMessage<?>> fullBatch = null;
+		synchronized (this.batchMonitor) {
+			this.batch.add(message);
+			// once stopped, there is no scheduler left to flush the batch later.
+			if (this.batch.size() >= this.batchSize || this.batchScheduler == null) {
+				fullBatch = takeBatch();
+			}
+			else if (this.batchFlush == null) {
+				this.batchFlush = this.batchScheduler.schedule(this::flushBatch, this.batchTimeout,
+						TimeUnit.MILLISECONDS);
+			}
+		}
+		if (fullBatch != null) {
+			consumeBatch(fullBatch);
+		}
+	}
+
+	private void flushBatch() {
+		List<ConvertedBasicAcknowledgeablePubsubMessage<?>> pendingBatch;
+		synchronized (this.batchMonitor) {
+			pendingBatch = takeBatch();
+		}
+		if (!pendingBatch.isEmpty()) {
+			consumeBatch(pendingBatch);
+		}
+	}
+
+	private List<ConvertedBasicAcknowledgeablePubsubMessage<?>> takeBatch() {
+		List<ConvertedBasicAcknowledgeablePubsubMessage<?>> takenBatch = this.batch;
+		this.batch = new ArrayList<>();
+		if (this.batchFlush != null) {
+			this.batchFlush.cancel(false);
+			this.batchFlush = null;
+		}
+		return takenBatch;
+	}
+
+	private void consumeBatch(List<ConvertedBasicAcknowledgeablePubsubMessage<?>> messages) {
+		List<Object> payloads = messages.stream()
+				.map(ConvertedBasicAcknowledgeablePubsubMessage::getPayload)
+				.collect(Collectors.toList());
+		List<Map<String, Object>> batchHeaders = messages.stream()
+				.map((message) -> this.headerMapper.toHeaders(message.getPubsubMessage().getAttributesMap()))
+				.collect(Collectors.toList());
+
+		try {
+			sendMessage(getMessageBuilderFactory()
+					.withPayload(payloads)
+					.setHeader(GcpPubSubHeaders.ORIGINAL_MESSAGES, messages)
+					.setHeader(GcpPubSubHeaders.BATCH_HEADERS, batchHeaders)
+					.build());
+
+			if (this.ackMode == AckMode.AUTO_ACK || this.ackMode == AckMode.AUTO) {
+				messages.forEach(ConvertedBasicAcknowledgeablePubsubMessage::ack);
+			}
+		}
+		catch (RuntimeException re) {
+			if (this.ackMode == AckMode.AUTO) {
+				messages.forEach(ConvertedBasicAcknowledgeablePubsubMessage::nack);
+				LOGGER.warn("Sending batch of " + messages.size()
+						+ " Spring messages failed; messages nacked automatically.", re);
+			}
+			else {
+				LOGGER.warn("Sending batch of " + messages.size()
+						+ " Spring messages failed; messages neither acked nor nacked.", re);
+			}
+		}
+	}
+
 	@SuppressWarnings("deprecation")
 	private void consumeMessage(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
 		Map<String, Object> messageHeaders =
@@ -20,7 +20,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import com.google.api.core.ApiService;
 import com.google.api.gax.rpc.DeadlineExceededException;
+import com.google.cloud.pubsub.v1.Subscriber;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.core.Disposable;
@@ -31,6 +33,7 @@ import reactor.core.scheduler.Scheduler;
 
 import org.springframework.cloud.gcp.pubsub.core.subscriber.PubSubSubscriberOperations;
 import org.springframework.cloud.gcp.pubsub.support.AcknowledgeablePubsubMessage;
+import org.springframework.cloud.gcp.pubsub.support.BasicAcknowledgeablePubsubMessage;
 import org.springframework.util.Assert;
 
 /**
@@ -41,6 +44,9 @@ import org.springframework.util.Assert;
  * when the demand is unlimited.
  * The scheduler is not used when there is a specific demand (a.k.a backpressure).
  *
+ * Streams can also be backed by a StreamingPull {@link Subscriber}, which avoids both
+ * polling latency and a pull request per demand signal.
+ *
  * @author Elena Felder
  * @author Maurice Zeijen
  *
@@ -116,6 +122,71 @@ public final class PubSubReactiveFactory {
 		});
 	}
 
+	/**
+	 * Create an infinite stream {@link Flux} of {@link BasicAcknowledgeablePubsubMessage}
+	 * objects, received through a StreamingPull {@link Subscriber} that is started on
+	 * subscription and stopped on cancellation.
+	 * <p>Received messages beyond the downstream demand are buffered until they are
+	 * requested, without blocking the {@link Subscriber} threads. They stay outstanding in
+	 * the {@link Subscriber}, which extends their leases and stops receiving more once its
+	 * flow control limits are reached. Its max outstanding element count should therefore
+	 * be set to a value close to the expected demand, which also bounds the buffer.
+	 * Messages buffered when the stream is cancelled are nacked.
+	 * <p>Messages must be acked or nacked individually; the {@link Subscriber} batches
+	 * these acknowledgements and extends the leases of outstanding messages.
+	 * <p>A failure of the {@link Subscriber} is passed as an error to the stream.
+	 * @param subscriptionName subscription from which to receive messages.
+	 * @return infinite stream of {@link BasicAcknowledgeablePubsubMessage} objects.
+	 * @since 1.2.8
+	 */
+	public Flux<BasicAcknowledgeablePubsubMessage> streamingPull(String subscriptionName) {
+		Assert.hasText(subscriptionName, "subscriptionName cannot be null or empty.");
+
+		return Flux.<BasicAcknowledgeablePubsubMessage>create(sink -> {
+			Subscriber subscriber = this.subscriberOperations.subscribe(subscriptionName, (message) -> {
+				if (sink.isCancelled()) {
+					message.nack();
+				}
+				else {
+					sink.next(message);
+				}
+			});
+			subscriber.addListener(new ApiService.Listener() {
+				@Override
+				public void failed(ApiService.State from, Throwable failure) {
+					sink.error(failure);
+				}
+			}, Runnable::run);
+			sink.onDispose(subscriber::stopAsync);
+		}).doOnDiscard(BasicAcknowledgeablePubsubMessage.class, BasicAcknowledgeablePubsubMessage::nack);
+	}
+
+	/**
+	 * Acknowledge a stream of pulled messages in batches.
+	 * <p>Messages are buffered until {@code maxBatchSize} of them have arrived or
+	 * {@code maxBatchDelay} has passed since the first one, and then acknowledged with
+	 * {@link PubSubSubscriberOperations#ack(java.util.Collection)}, which sends one request
+	 * per subscription.
+	 * @param messages the messages to acknowledge, potentially from different subscriptions
+	 * of the same project.
+	 * @param maxBatchSize the maximum number of messages acknowledged in a single batch.
+	 * @param maxBatchDelay the maximum time a message waits before its batch is acknowledged.
+	 * @return a {@link Mono} completing when all messages are acknowledged, or failing with
+	 * the first acknowledgement error.
+	 * @since 1.2.8
+	 */
+	public Mono<Void> ack(Flux<? extends AcknowledgeablePubsubMessage> messages, int maxBatchSize,
+			Duration maxBatchDelay) {
+		Assert.notNull(messages, "messages cannot be null.");
+		Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be positive.");
+		Assert.notNull(maxBatchDelay, "maxBatchDelay cannot be null.");
+
+		return messages
+				.bufferTimeout(maxBatchSize, maxBatchDelay, this.scheduler)
+				.concatMap((batch) -> Mono.fromFuture(this.subscriberOperations.ack(batch).completable()))
+				.then();
+	}
+
 	private void pollingPull(String subscriptionName, long pollingPeriodMs,
 			FluxSink<AcknowledgeablePubsubMessage> sink) {
 		Disposable disposable = Flux
@@ -17,8 +17,10 @@
 package org.springframework.cloud.gcp.pubsub.support;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import com.google.api.gax.batching.BatchingSettings;
 import com.google.api.gax.core.CredentialsProvider;
@@ -27,6 +29,7 @@ import com.google.api.gax.retrying.RetrySettings;
 import com.google.api.gax.rpc.HeaderProvider;
 import com.google.api.gax.rpc.TransportChannelProvider;
 import com.google.cloud.pubsub.v1.Publisher;
+import com.google.pubsub.v1.TopicName;
 
 import org.springframework.cloud.gcp.core.GcpProjectIdProvider;
 import org.springframework.cloud.gcp.pubsub.core.PubSubException;
@@ -37,6 +40,9 @@ import org.springframework.util.Assert;
  *
  * <p>Creates {@link Publisher}s for topics once, caches and reuses them.
  *
+ * <p>The executor provider, retry settings and batching settings can be overridden for
+ * individual topics, which are then used instead of the ones set for all topics.
+ *
  * @author João André Martins
  * @author Chengyuan Zhao
  */
@@ -61,6 +67,12 @@ public class DefaultPublisherFactory implements PublisherFactory {
 
 	private BatchingSettings batchingSettings;
 
+	private Map<String, ExecutorProvider> executorProviderMap = Collections.emptyMap();
+
+	private Map<String, RetrySettings> retrySettingsMap = Collections.emptyMap();
+
+	private Map<String, BatchingSettings> batchingSettingsMap = Collections.emptyMap();
+
 	/**
 	 * Create {@link DefaultPublisherFactory} instance based on the provided {@link GcpProjectIdProvider}.
 	 * <p>The {@link GcpProjectIdProvider} must not be null, neither provide an empty {@code projectId}.
@@ -123,15 +135,54 @@ public class DefaultPublisherFactory implements PublisherFactory {
 		this.batchingSettings = batchingSettings;
 	}
 
+	/**
+	 * Set the providers for the executors of the publishers of individual topics.
+	 * @param executorProviderMap the executor providers, by topic name or fully qualified
+	 * topic name
+	 * @since 1.2.8
+	 */
+	public void setExecutorProviderMap(Map<String, ExecutorProvider> executorProviderMap) {
+		this.executorProviderMap = toTopicMap(executorProviderMap);
+	}
+
+	/**
+	 * Set the API call retry configuration of individual topics.
+	 * @param retrySettingsMap the retry settings, by topic name or fully qualified topic name
+	 * @since 1.2.8
+	 */
+	public void setRetrySettingsMap(Map<String, RetrySettings> retrySettingsMap) {
+		this.retrySettingsMap = toTopicMap(retrySettingsMap);
+	}
+
+	/**
+	 * Set the API call batching configuration of individual topics.
+	 * @param batchingSettingsMap the batching settings, by topic name or fully qualified
+	 * topic name
+	 * @since 1.2.8
+	 */
+	public void setBatchingSettingsMap(Map<String, BatchingSettings> batchingSettingsMap) {
+		this.batchingSettingsMap = toTopicMap(batchingSettingsMap);
+	}
+
+	private <T> Map<String, T> toTopicMap(Map<String, T> settingsMap) {
+		Assert.notNull(settingsMap, "The settings map can't be null.");
+		return settingsMap.entrySet().stream().collect(Collectors.toMap(
+				(entry) -> PubSubTopicUtils.toTopicName(entry.getKey(), this.projectId).toString(),
+				Map.Entry::getValue));
+	}
+
 	@Override
 	public Publisher createPublisher(String topic) {
 		return this.publishers.computeIfAbsent(topic, key -> {
 			try {
-				Publisher.Builder publisherBuilder =
-						Publisher.newBuilder(PubSubTopicUtils.toTopicName(topic, this.projectId));
-
-				if (this.executorProvider != null) {
-					publisherBuilder.setExecutorProvider(this.executorProvider);
+				TopicName topicName = PubSubTopicUtils.toTopicName(topic, this.projectId);
+				String topicKey = topicName.toString();
+				Publisher.Builder publisherBuilder = Publisher.newBuilder(topicName);
+
+				ExecutorProvider executorProvider =
+						this.executorProviderMap.getOrDefault(topicKey, this.executorProvider);
+				if (executorProvider != null) {
+					publisherBuilder.setExecutorProvider(executorProvider);
 				}
 
 				if (this.channelProvider != null) {
@@ -146,12 +197,15 @@ public class DefaultPublisherFactory implements PublisherFactory {
 					publisherBuilder.setHeaderProvider(this.headerProvider);
 				}
 
-				if (this.retrySettings != null) {
-					publisherBuilder.setRetrySettings(this.retrySettings);
+				RetrySettings retrySettings = this.retrySettingsMap.getOrDefault(topicKey, this.retrySettings);
+				if (retrySettings != null) {
+					publisherBuilder.setRetrySettings(retrySettings);
 				}
 
-				if (this.batchingSettings != null) {
-					publisherBuilder.setBatchingSettings(this.batchingSettings);
+				BatchingSettings batchingSettings =
+						this.batchingSettingsMap.getOrDefault(topicKey, this.batchingSettings);
+				if (batchingSettings != null) {
+					publisherBuilder.setBatchingSettings(batchingSettings);
 				}
 
 				return publisherBuilder.build();
@@ -17,6 +17,9 @@
 package org.springframework.cloud.gcp.pubsub.support;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.api.core.ApiClock;
 import com.google.api.gax.batching.FlowControlSettings;
@@ -30,6 +33,7 @@ import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.pubsub.v1.stub.GrpcSubscriberStub;
 import com.google.cloud.pubsub.v1.stub.SubscriberStub;
 import com.google.cloud.pubsub.v1.stub.SubscriberStubSettings;
+import com.google.pubsub.v1.ProjectSubscriptionName;
 import com.google.pubsub.v1.PullRequest;
 import org.threeten.bp.Duration;
 
@@ -39,6 +43,10 @@ import org.springframework.util.Assert;
 /**
  * The default {@link SubscriberFactory} implementation.
  *
+ * <p>The executor provider, flow control settings, max ack extension period and parallel
+ * pull count can be overridden for individual subscriptions, which are then used instead
+ * of the ones set for all subscriptions.
+ *
  * @author João André Martins
  * @author Mike Eltsufin
  * @author Doug Hoard
@@ -71,6 +79,14 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
 
 	private RetrySettings subscriberStubRetrySettings;
 
+	private Map<String, ExecutorProvider> executorProviderMap = Collections.emptyMap();
+
+	private Map<String, FlowControlSettings> flowControlSettingsMap = Collections.emptyMap();
+
+	private Map<String, Duration> maxAckExtensionPeriodMap = Collections.emptyMap();
+
+	private Map<String, Integer> parallelPullCountMap = Collections.emptyMap();
+
 	/**
 	 * Default {@link DefaultSubscriberFactory} constructor.
 	 * @param projectIdProvider provides the default GCP project ID for selecting the subscriptions
@@ -178,17 +194,69 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
 		this.subscriberStubRetrySettings = subscriberStubRetrySettings;
 	}
 
+	/**
+	 * Set the providers for the executors of the subscribers of individual subscriptions,
+	 * for example to give a high-volume subscription its own threads.
+	 * @param executorProviderMap the executor providers, by subscription name or fully
+	 * qualified subscription name
+	 * @since 1.2.8
+	 */
+	public void setExecutorProviderMap(Map<String, ExecutorProvider> executorProviderMap) {
+		this.executorProviderMap = toSubscriptionMap(executorProviderMap);
+	}
+
+	/**
+	 * Set the flow control for the subscribers of individual subscriptions.
+	 * @param flowControlSettingsMap the flow control settings, by subscription name or fully
+	 * qualified subscription name
+	 * @since 1.2.8
+	 */
+	public void setFlowControlSettingsMap(Map<String, FlowControlSettings> flowControlSettingsMap) {
+		this.flowControlSettingsMap = toSubscriptionMap(flowControlSettingsMap);
+	}
+
+	/**
+	 * Set the maximum period the ack timeout is extended by for individual subscriptions.
+	 * @param maxAckExtensionPeriodMap the max ack extension periods, by subscription name or
+	 * fully qualified subscription name
+	 * @since 1.2.8
+	 */
+	public void setMaxAckExtensionPeriodMap(Map<String, Duration> maxAckExtensionPeriodMap) {
+		this.maxAckExtensionPeriodMap = toSubscriptionMap(maxAckExtensionPeriodMap);
+	}
+
+	/**
+	 * Set the number of pull workers for individual subscriptions.
+	 * @param parallelPullCountMap the parallel pull counts, by subscription name or fully
+	 * qualified subscription name
+	 * @since 1.2.8
+	 */
+	public void setParallelPullCountMap(Map<String, Integer> parallelPullCountMap) {
+		this.parallelPullCountMap = toSubscriptionMap(parallelPullCountMap);
+	}
+
+	private <T> Map<String, T> toSubscriptionMap(Map<String, T> settingsMap) {
+		Assert.notNull(settingsMap, "The settings map can't be null.");
+		return settingsMap.entrySet().stream().collect(Collectors.toMap(
+				(entry) -> PubSubSubscriptionUtils.toProjectSubscriptionName(entry.getKey(), this.projectId).toString(),
+				Map.Entry::getValue));
+	}
+
 	@Override
 	public Subscriber createSubscriber(String subscriptionName, MessageReceiver receiver) {
-		Subscriber.Builder subscriberBuilder = Subscriber.newBuilder(
-				PubSubSubscriptionUtils.toProjectSubscriptionName(subscriptionName, this.projectId), receiver);
+		ProjectSubscriptionName projectSubscriptionName =
+				PubSubSubscriptionUtils.toProjectSubscriptionName(subscriptionName, this.projectId);
+		String subscriptionKey = projectSubscriptionName.toString();
+		Subscriber.Builder subscriberBuilder = Subscriber.newBuilder(projectSubscriptionName, receiver);
 
 		if (this.channelProvider != null) {
 			subscriberBuilder.setChannelProvider(this.channelProvider);
 		}
 
-		if (this.executorProvider != null) {
-			subscriberBuilder.setExecutorProvider(this.executorProvider);
+		ExecutorProvider executorProvider =
+				this.executorProviderMap.getOrDefault(subscriptionKey, this.executorProvider);
+		if (executorProvider != null) {
+			subscriberBuilder.setExecutorProvider(executorProvider);
 		}
 
 		if (this.credentialsProvider != null) {
@@ -203,16 +271,21 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
 			subscriberBuilder.setSystemExecutorProvider(this.systemExecutorProvider);
 		}
 
-		if (this.flowControlSettings != null) {
-			subscriberBuilder.setFlowControlSettings(this.flowControlSettings);
+		FlowControlSettings flowControlSettings =
+				this.flowControlSettingsMap.getOrDefault(subscriptionKey, this.flowControlSettings);
+		if (flowControlSettings != null) {
+			subscriberBuilder.setFlowControlSettings(flowControlSettings);
 		}
 
-		if (this.maxAckExtensionPeriod != null) {
-			subscriberBuilder.setMaxAckExtensionPeriod(this.maxAckExtensionPeriod);
+		Duration maxAckExtensionPeriod =
+				this.maxAckExtensionPeriodMap.getOrDefault(subscriptionKey, this.maxAckExtensionPeriod);
+		if (maxAckExtensionPeriod != null) {
+			subscriberBuilder.setMaxAckExtensionPeriod(maxAckExtensionPeriod);
 		}
 
-		if (this.parallelPullCount != null) {
-			subscriberBuilder.setParallelPullCount(this.parallelPullCount);
+		Integer parallelPullCount = this.parallelPullCountMap.getOrDefault(subscriptionKey, this.parallelPullCount);
+		if (parallelPullCount != null) {
+			subscriberBuilder.setParallelPullCount(parallelPullCount);
 		}
 
 		return subscriberBuilder.build();
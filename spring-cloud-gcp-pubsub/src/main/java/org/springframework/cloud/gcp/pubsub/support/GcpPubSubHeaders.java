@@ -44,4 +44,17 @@ public abstract class GcpPubSubHeaders {
 	 * The original message header text.
 	 */
 	public static final String ORIGINAL_MESSAGE = PREFIX + "original_message";
+
+	/**
+	 * The original messages header text, for messages carrying a batch of payloads.
+	 * @since 1.2.8
+	 */
+	public static final String ORIGINAL_MESSAGES = PREFIX + "original_messages";
+
+	/**
+	 * The batch headers header text, for messages carrying a batch of payloads. Holds the
+	 * headers mapped from the attributes of each message, in the order of the payloads.
+	 * @since 1.2.8
+	 */
+	public static final String BATCH_HEADERS = PREFIX + "batch_headers";
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.gcp.pubsub.core.subscriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.protobuf.Empty;
+import org.junit.Before;
+import org.junit.Test;
+import org.threeten.bp.Duration;
+
+import org.springframework.util.concurrent.ListenableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the coalescing of individual acknowledgements.
+ */
+public class AckCoalescerTests {
+
+	private static final String SUBSCRIPTION = "projects/proj/subscriptions/sub";
+
+	private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+	private final ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+
+	private final List<Runnable> scheduledFlushes = new ArrayList<>();
+
+	private final List<String> sentRequests = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+		when(this.scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer((invocation) -> {
+			this.scheduledFlushes.add(invocation.getArgument(0));
+			return this.scheduledFuture;
+		});
+	}
+
+	@Test
+	public void flushesOnElementCountTest() {
+		AckCoalescer coalescer = createCoalescer(batchingSettings().setElementCountThreshold(3L)
+				.setDelayThreshold(Duration.ofSeconds(1)).build());
+
+		ListenableFuture<Void> first = coalescer.add(SUBSCRIPTION, null, "ack1");
+		coalescer.add(SUBSCRIPTION, null, "ack2");
+		assertThat(this.sentRequests).isEmpty();
+		assertThat(first.isDone()).isFalse();
+
+		ListenableFuture<Void> third = coalescer.add(SUBSCRIPTION, null, "ack3");
+		assertThat(this.sentRequests).containsExactly("ack " + SUBSCRIPTION + " [ack1, ack2, ack3]");
+		assertThat(first.isDone()).isTrue();
+		assertThat(third.isDone()).isTrue();
+		verify(this.scheduledFuture).cancel(false);
+		verify(this.scheduler).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void flushesOnRequestBytesTest() {
+		AckCoalescer coalescer = createCoalescer(batchingSettings().setRequestByteThreshold(8L)
+				.setDelayThreshold(Duration.ofSeconds(1)).build());
+
+		coalescer.add(SUBSCRIPTION, null, "ack1");
+		assertThat(this.sentRequests).isEmpty();
+
+		coalescer.add(SUBSCRIPTION, null, "ack2");
+		assertThat(this.sentRequests).containsExactly("ack " + SUBSCRIPTION + " [ack1, ack2]");
+	}
+
+	@Test
+	public void flushesAfterDelayTest() {
+		AckCoalescer coalescer = createCoalescer(batchingSettings().setElementCountThreshold(100L)
+				.setDelayThreshold(Duration.ofMillis(50)).build());
+
+		ListenableFuture<Void> future = coalescer.add(SUBSCRIPTION, null, "ack1");
+		coalescer.add(SUBSCRIPTION, null, "ack2");
+		assertThat(this.scheduledFlushes).hasSize(1);
+		assertThat(this.sentRequests).isEmpty();
+
+		this.scheduledFlushes.get(0).run();
+		assertThat(this.sentRequests).containsExactly("ack " + SUBSCRIPTION + " [ack1, ack2]");
+		assertThat(future.isDone()).isTrue();
+
+		// the next ack ID starts a new batch with its own delay.
+		coalescer.add(SUBSCRIPTION, null, "ack3");
+		assertThat(this.scheduledFlushes).hasSize(2);
+	}
+
+	@Test
+	public void batchesPerSubscriptionAndOperationTest() {
+		AckCoalescer coalescer = createCoalescer(batchingSettings()
+				.setDelayThreshold(Duration.ofSeconds(1)).build());
+
+		coalescer.add(SUBSCRIPTION, null, "ack1");
+		coalescer.add(SUBSCRIPTION, 0, "nack1");
+		coalescer.add(SUBSCRIPTION, 0, "nack2");
+		coalescer.add(SUBSCRIPTION, 30, "extend1");
+		coalescer.add("projects/proj/subscriptions/other", null, "ack2");
+		assertThat(this.sentRequests).isEmpty();
+
+		coalescer.flushAll();
+		assertThat(this.sentRequests).containsExactlyInAnyOrder(
+				"ack " + SUBSCRIPTION + " [ack1]",
+				"0 " + SUBSCRIPTION + " [nack1, nack2]",
+				"30 " + SUBSCRIPTION + " [extend1]",
+				"ack projects/proj/subscriptions/other [ack2]");
+	}
+
+	@Test
+	public void failedRequestFailsAllFuturesTest() {
+		RuntimeException failure = new RuntimeException("ack failed");
+		AckCoalescer coalescer = new AckCoalescer(batchingSettings().setElementCountThreshold(2L)
+				.setDelayThreshold(Duration.ofSeconds(1)).build(), this.scheduler, Runnable::run,
+				(subscriptionName, ackDeadlineSeconds, ackIds) -> ApiFutures.immediateFailedFuture(failure));
+
+		List<ListenableFuture<Void>> futures = Arrays.asList(coalescer.add(SUBSCRIPTION, null, "ack1"),
+				coalescer.add(SUBSCRIPTION, null, "ack2"));
+
+		for (ListenableFuture<Void> future : futures) {
+			assertThatThrownBy(future::get).hasCause(failure);
+		}
+	}
+
+	@Test
+	public void delayThresholdRequiredTest() {
+		assertThatThrownBy(() -> createCoalescer(batchingSettings().setDelayThreshold(null).build()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("The ack batching delay threshold can't be null.");
+	}
+
+	// the builder defaults to thresholds of one, which would send every ack ID on its own.
+	private static BatchingSettings.Builder batchingSettings() {
+		return BatchingSettings.newBuilder().setElementCountThreshold(null).setRequestByteThreshold(null);
+	}
+
+	private AckCoalescer createCoalescer(BatchingSettings batchingSettings) {
+		return new AckCoalescer(batchingSettings, this.scheduler, Runnable::run,
+				(subscriptionName, ackDeadlineSeconds, ackIds) -> {
+					this.sentRequests.add(((ackDeadlineSeconds != null) ? ackDeadlineSeconds.toString() : "ack")
+							+ " " + subscriptionName + " " + ackIds);
+					return ApiFutures.immediateFuture(Empty.getDefaultInstance());
+				});
+	}
+}
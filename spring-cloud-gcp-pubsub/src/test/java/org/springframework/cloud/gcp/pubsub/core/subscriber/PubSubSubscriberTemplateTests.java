@@ -28,6 +28,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.gax.batching.BatchingSettings;
 import com.google.api.gax.rpc.UnaryCallable;
 import com.google.cloud.pubsub.v1.AckReplyConsumer;
 import com.google.cloud.pubsub.v1.MessageReceiver;
@@ -48,6 +49,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.threeten.bp.Duration;
 
 import org.springframework.cloud.gcp.pubsub.support.AcknowledgeablePubsubMessage;
 import org.springframework.cloud.gcp.pubsub.support.BasicAcknowledgeablePubsubMessage;
@@ -330,6 +332,71 @@ public class PubSubSubscriberTemplateTests {
 		assertThat(testListenableFutureCallback.getThrowable()).isNull();
 	}
 
+	@Test
+	public void testPull_AndBatchedManualAck() throws InterruptedException, ExecutionException, TimeoutException {
+		this.pubSubSubscriberTemplate.setAckBatchingSettings(BatchingSettings.newBuilder()
+				.setElementCountThreshold(2L)
+				.setRequestByteThreshold(null)
+				.setDelayThreshold(Duration.ofSeconds(10))
+				.build());
+
+		AcknowledgeablePubsubMessage first = this.pubSubSubscriberTemplate.pull("sub2", 1, true).get(0);
+		AcknowledgeablePubsubMessage second = this.pubSubSubscriberTemplate.pull("sub2", 1, true).get(0);
+
+		ListenableFuture<Void> firstFuture = first.ack();
+		assertThat(firstFuture.isDone()).isFalse();
+		verify(this.ackCallable, never()).futureCall(any(AcknowledgeRequest.class));
+
+		ListenableFuture<Void> secondFuture = second.ack();
+		secondFuture.get(10L, TimeUnit.SECONDS);
+		firstFuture.get(10L, TimeUnit.SECONDS);
+
+		ArgumentCaptor<AcknowledgeRequest> request = ArgumentCaptor.forClass(AcknowledgeRequest.class);
+		verify(this.ackCallable, times(1)).futureCall(request.capture());
+		assertThat(request.getValue().getSubscription()).isEqualTo("projects/testProject/subscriptions/sub2");
+		assertThat(request.getValue().getAckIdsCount()).isEqualTo(2);
+
+		this.pubSubSubscriberTemplate.destroy();
+	}
+
+	@Test
+	public void testPull_AndBatchedManualAckAfterDestroy() {
+		this.pubSubSubscriberTemplate.setAckBatchingSettings(BatchingSettings.newBuilder()
+				.setElementCountThreshold(2L)
+				.setRequestByteThreshold(null)
+				.setDelayThreshold(Duration.ofSeconds(10))
+				.build());
+		this.pubSubSubscriberTemplate.setPullLeaseExtension(60, java.time.Duration.ofMinutes(5));
+
+		AcknowledgeablePubsubMessage message = this.pubSubSubscriberTemplate.pull("sub2", 1, true).get(0);
+		this.pubSubSubscriberTemplate.destroy();
+
+		// the message is acked right away instead of being handed to the stopped batcher.
+		message.ack();
+		verify(this.ackCallable, times(1)).futureCall(any(AcknowledgeRequest.class));
+	}
+
+	@Test
+	public void testPull_WithLeaseExtension() throws InterruptedException, ExecutionException, TimeoutException {
+		this.pubSubSubscriberTemplate.setPullLeaseExtension(60, java.time.Duration.ofMinutes(5));
+
+		AcknowledgeablePubsubMessage message = this.pubSubSubscriberTemplate.pull("sub2", 1, true).get(0);
+
+		ArgumentCaptor<ModifyAckDeadlineRequest> request = ArgumentCaptor.forClass(ModifyAckDeadlineRequest.class);
+		verify(this.modifyAckDeadlineCallable, times(1)).futureCall(request.capture());
+		assertThat(request.getValue().getSubscription()).isEqualTo("projects/testProject/subscriptions/sub2");
+		assertThat(request.getValue().getAckDeadlineSeconds()).isEqualTo(60);
+		assertThat(request.getValue().getAckIdsList()).containsExactly(message.getAckId());
+
+		message.ack().get(10L, TimeUnit.SECONDS);
+		verify(this.ackCallable, times(1)).futureCall(any(AcknowledgeRequest.class));
+
+		this.pubSubSubscriberTemplate.pullAndAck("sub2", 1, true);
+		verify(this.modifyAckDeadlineCallable, times(1)).futureCall(any(ModifyAckDeadlineRequest.class));
+
+		this.pubSubSubscriberTemplate.destroy();
+	}
+
 	@Test
 	public void testPull_AndManualNack() throws InterruptedException, ExecutionException, TimeoutException {
 		List<AcknowledgeablePubsubMessage> result = this.pubSubSubscriberTemplate.pull(
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.gcp.pubsub.core.subscriber;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.api.core.ApiFutures;
+import com.google.protobuf.Empty;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the lease extension of pulled messages.
+ */
+public class PulledMessageLeaseManagerTests {
+
+	private static final String SUBSCRIPTION = "projects/proj/subscriptions/sub";
+
+	private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+	private final ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+
+	private final List<String> sentRequests = new ArrayList<>();
+
+	private long now;
+
+	private PulledMessageLeaseManager leaseManager;
+
+	@Before
+	public void setUp() {
+		when(this.scheduler.scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class)))
+				.thenAnswer((invocation) -> this.scheduledFuture);
+		this.leaseManager = new PulledMessageLeaseManager(60, Duration.ofMinutes(5), this.scheduler,
+				(subscriptionName, ackDeadlineSeconds, ackIds) -> {
+					this.sentRequests.add(ackDeadlineSeconds + " " + subscriptionName + " " + ackIds);
+					return ApiFutures.immediateFuture(Empty.getDefaultInstance());
+				},
+				() -> this.now);
+	}
+
+	@Test
+	public void schedulesExtensionsEveryHalfDeadlineTest() {
+		verify(this.scheduler).scheduleAtFixedRate(any(Runnable.class), eq(30000L), eq(30000L),
+				eq(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void registerExtendsRightAwayTest() {
+		this.leaseManager.register(SUBSCRIPTION, Arrays.asList("ack1", "ack2"));
+
+		assertThat(this.sentRequests).containsExactly("60 " + SUBSCRIPTION + " [ack1, ack2]");
+		assertThat(this.leaseManager.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void extendsOutstandingLeasesTest() {
+		this.leaseManager.register(SUBSCRIPTION, Arrays.asList("ack1", "ack2", "ack3"));
+		this.leaseManager.release(SUBSCRIPTION, Collections.singleton("ack2"));
+		this.sentRequests.clear();
+
+		this.now += 30000;
+		this.leaseManager.extendLeases();
+
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(this.sentRequests.get(0)).startsWith("60 " + SUBSCRIPTION)
+				.contains("ack1").contains("ack3").doesNotContain("ack2");
+	}
+
+	@Test
+	public void stopsExtendingAfterMaxExtensionPeriodTest() {
+		this.leaseManager.register(SUBSCRIPTION, Collections.singletonList("ack1"));
+		this.now += 60000;
+		this.leaseManager.register(SUBSCRIPTION, Collections.singletonList("ack2"));
+		this.sentRequests.clear();
+
+		this.now += 240000;
+		this.leaseManager.extendLeases();
+
+		assertThat(this.sentRequests).containsExactly("60 " + SUBSCRIPTION + " [ack2]");
+		assertThat(this.leaseManager.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void splitsLargeExtensionsTest() {
+		List<String> ackIds = IntStream.range(0, PulledMessageLeaseManager.MAX_ACK_IDS_PER_REQUEST + 1)
+				.mapToObj((i) -> "ack" + i).collect(Collectors.toList());
+
+		this.leaseManager.register(SUBSCRIPTION, ackIds);
+
+		assertThat(this.sentRequests).hasSize(2);
+	}
+
+	@Test
+	public void stopCancelsExtensionsTest() {
+		this.leaseManager.register(SUBSCRIPTION, Collections.singletonList("ack1"));
+		this.sentRequests.clear();
+
+		this.leaseManager.stop();
+		this.leaseManager.extendLeases();
+
+		verify(this.scheduledFuture).cancel(false);
+		assertThat(this.sentRequests).isEmpty();
+	}
+
+	@Test
+	public void invalidAckDeadlineTest() {
+		assertThatThrownBy(() -> new PulledMessageLeaseManager(5, Duration.ofMinutes(5), this.scheduler,
+				(subscriptionName, ackDeadlineSeconds, ackIds) -> null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("The lease ack deadline must be between 10 and 600 seconds.");
+	}
+}
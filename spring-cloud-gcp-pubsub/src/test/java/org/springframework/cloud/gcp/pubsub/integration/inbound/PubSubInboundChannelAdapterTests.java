@@ -16,8 +16,14 @@
 
 package org.springframework.cloud.gcp.pubsub.integration.inbound;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.pubsub.v1.PubsubMessage;
 import org.junit.After;
 import org.junit.Before;
@@ -47,7 +53,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -230,6 +238,147 @@ public class PubSubInboundChannelAdapterTests {
 		verifyOriginalMessage();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchMode_sendsFullBatchAsSingleMessage() {
+		List<ConvertedBasicAcknowledgeablePubsubMessage> messages = setUpBatch("payload1", "payload2");
+		this.adapter.setBatchSize(2);
+		this.adapter.setAckMode(AckMode.AUTO);
+		this.adapter.start();
+
+		ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
+		verify(this.mockMessageChannel).send(argument.capture());
+		assertThat((List<Object>) argument.getValue().getPayload()).containsExactly("payload1", "payload2");
+		assertThat(argument.getValue().getHeaders().get(GcpPubSubHeaders.ORIGINAL_MESSAGES)).isEqualTo(messages);
+		verify(messages.get(0)).ack();
+		verify(messages.get(1)).ack();
+
+		this.adapter.stop();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchMode_mapsAttributesOfEachMessageToBatchHeaders() {
+		setUpBatch("payload1", "payload2");
+		this.adapter.setBatchSize(2);
+		this.adapter.start();
+
+		ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
+		verify(this.mockMessageChannel).send(argument.capture());
+		List<Map<String, Object>> batchHeaders = (List<Map<String, Object>>) argument.getValue().getHeaders()
+				.get(GcpPubSubHeaders.BATCH_HEADERS);
+		assertThat(batchHeaders).hasSize(2);
+		assertThat(batchHeaders.get(0)).containsEntry("source", "payload1-source");
+		assertThat(batchHeaders.get(1)).containsEntry("source", "payload2-source");
+
+		this.adapter.stop();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchMode_sendsIncompleteBatchAfterTimeout() {
+		setUpBatch("payload1");
+		this.adapter.setBatchSize(10);
+		this.adapter.setBatchTimeout(50);
+		this.adapter.start();
+
+		ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
+		verify(this.mockMessageChannel, timeout(10000)).send(argument.capture());
+		assertThat((List<Object>) argument.getValue().getPayload()).containsExactly("payload1");
+
+		this.adapter.stop();
+	}
+
+	@Test
+	public void batchMode_flushesAfterTimeoutOnDaemonThread() {
+		AtomicReference<Thread> flushThread = new AtomicReference<>();
+		when(this.mockMessageChannel.send(any())).then((invocationOnMock) -> {
+			flushThread.set(Thread.currentThread());
+			return true;
+		});
+		setUpBatch("payload1");
+		this.adapter.setBatchSize(10);
+		this.adapter.setBatchTimeout(50);
+		this.adapter.start();
+
+		verify(this.mockMessageChannel, timeout(10000)).send(any());
+		assertThat(flushThread.get().isDaemon()).isTrue();
+		assertThat(flushThread.get().getName()).startsWith("pubsub-batch-testSubscription-");
+
+		this.adapter.stop();
+	}
+
+	@Test
+	public void batchMode_nacksBatchWhenDownstreamProcessingFails() {
+		when(this.mockMessageChannel.send(any())).thenThrow(new RuntimeException(EXCEPTION_MESSAGE));
+		List<ConvertedBasicAcknowledgeablePubsubMessage> messages = setUpBatch("payload1", "payload2");
+		this.adapter.setBatchSize(2);
+		this.adapter.setAckMode(AckMode.AUTO);
+		this.adapter.start();
+
+		verify(messages.get(0)).nack();
+		verify(messages.get(1)).nack();
+		assertThat(output.getOut()).contains("Sending batch of 2 Spring messages failed; messages nacked automatically");
+
+		this.adapter.stop();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchMode_flushesMessagesReceivedWhileAndAfterStopping() {
+		AtomicReference<Consumer<ConvertedBasicAcknowledgeablePubsubMessage>> messageConsumer =
+				new AtomicReference<>();
+		Subscriber subscriber = mock(Subscriber.class);
+		when(this.mockPubSubSubscriberOperations.subscribeAndConvert(
+				anyString(), any(Consumer.class), any(Class.class))).then((invocationOnMock) -> {
+					messageConsumer.set(invocationOnMock.getArgument(1));
+					return subscriber;
+				});
+		// a message still being received when the subscriber is stopped.
+		doAnswer((invocationOnMock) -> {
+			messageConsumer.get().accept(createBatchMessage("payload2"));
+			return null;
+		}).when(subscriber).awaitTerminated();
+		this.adapter.setBatchSize(10);
+		this.adapter.setBatchTimeout(60000);
+		this.adapter.start();
+
+		messageConsumer.get().accept(createBatchMessage("payload1"));
+		this.adapter.stop();
+
+		ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
+		verify(this.mockMessageChannel).send(argument.capture());
+		assertThat((List<Object>) argument.getValue().getPayload()).containsExactly("payload1", "payload2");
+
+		messageConsumer.get().accept(createBatchMessage("payload3"));
+		verify(this.mockMessageChannel, times(2)).send(argument.capture());
+		assertThat((List<Object>) argument.getValue().getPayload()).containsExactly("payload3");
+	}
+
+	private ConvertedBasicAcknowledgeablePubsubMessage createBatchMessage(String payload) {
+		ConvertedBasicAcknowledgeablePubsubMessage message = mock(ConvertedBasicAcknowledgeablePubsubMessage.class);
+		when(message.getPayload()).thenReturn(payload);
+		when(message.getPubsubMessage()).thenReturn(
+				PubsubMessage.newBuilder().putAttributes("source", payload + "-source").build());
+		return message;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ConvertedBasicAcknowledgeablePubsubMessage> setUpBatch(String... payloads) {
+		List<ConvertedBasicAcknowledgeablePubsubMessage> messages = Arrays.stream(payloads)
+				.map(this::createBatchMessage)
+				.collect(Collectors.toList());
+
+		when(this.mockPubSubSubscriberOperations.subscribeAndConvert(
+				anyString(), any(Consumer.class), any(Class.class))).then((invocationOnMock) -> {
+					Consumer<ConvertedBasicAcknowledgeablePubsubMessage> messageConsumer =
+							invocationOnMock.getArgument(1);
+					messages.forEach(messageConsumer);
+					return null;
+				});
+		return messages;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void verifyOriginalMessage() {
 		ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
@@ -21,32 +21,40 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import com.google.api.gax.grpc.GrpcStatusCode;
 import com.google.api.gax.rpc.DeadlineExceededException;
+import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.protobuf.ByteString;
 import com.google.pubsub.v1.PubsubMessage;
 import io.grpc.Status;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 import reactor.test.scheduler.VirtualTimeScheduler;
 
 import org.springframework.cloud.gcp.pubsub.core.subscriber.PubSubSubscriberOperations;
 import org.springframework.cloud.gcp.pubsub.support.AcknowledgeablePubsubMessage;
+import org.springframework.cloud.gcp.pubsub.support.BasicAcknowledgeablePubsubMessage;
 import org.springframework.scheduling.annotation.AsyncResult;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -203,7 +211,82 @@ public class PubSubReactiveFactoryTests {
 		methodOrder.verifyNoMoreInteractions();
 	}
 
-	private String messageToString(AcknowledgeablePubsubMessage message) {
+	@Test
+	public void testStreamingPullHonorsDemand() {
+		Subscriber subscriber = mock(Subscriber.class);
+		AtomicReference<Consumer<BasicAcknowledgeablePubsubMessage>> receiver = setUpStreamingPull(subscriber);
+
+		// messages beyond the demand are buffered without blocking the delivering thread.
+		StepVerifier.create(factory.streamingPull("sub1").map(this::messageToString), 1)
+				.expectSubscription()
+				.then(() -> Arrays.asList("msg1", "msg2", "msg3").forEach((payload) ->
+						receiver.get().accept(createMessage(payload))))
+				.expectNext("msg1")
+				.expectNoEvent(Duration.ofMillis(100))
+				.thenRequest(2)
+				.expectNext("msg2", "msg3")
+				.thenCancel()
+				.verify(Duration.ofSeconds(10));
+
+		verify(subscriber).stopAsync();
+	}
+
+	@Test
+	public void testStreamingPullNacksHeldMessagesOnCancel() {
+		Subscriber subscriber = mock(Subscriber.class);
+		AtomicReference<Consumer<BasicAcknowledgeablePubsubMessage>> receiver = setUpStreamingPull(subscriber);
+		BasicAcknowledgeablePubsubMessage message = mock(BasicAcknowledgeablePubsubMessage.class);
+		BasicAcknowledgeablePubsubMessage lateMessage = mock(BasicAcknowledgeablePubsubMessage.class);
+
+		StepVerifier.create(factory.streamingPull("sub1"), 0)
+				.expectSubscription()
+				.then(() -> receiver.get().accept(message))
+				.expectNoEvent(Duration.ofMillis(100))
+				.thenCancel()
+				.verify(Duration.ofSeconds(10));
+
+		verify(message).nack();
+
+		// messages delivered before the subscriber stopped are nacked too.
+		receiver.get().accept(lateMessage);
+		verify(lateMessage).nack();
+	}
+
+	@Test
+	public void testAckInBatches() {
+		List<AcknowledgeablePubsubMessage> messages = Arrays.asList(mock(AcknowledgeablePubsubMessage.class),
+				mock(AcknowledgeablePubsubMessage.class), mock(AcknowledgeablePubsubMessage.class));
+		when(subscriberOperations.ack(any())).thenReturn(AsyncResult.forValue(null));
+
+		StepVerifier.create(factory.ack(Flux.fromIterable(messages), 2, Duration.ofSeconds(1)))
+				.verifyComplete();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AcknowledgeablePubsubMessage>> batches = ArgumentCaptor.forClass(List.class);
+		verify(subscriberOperations, times(2)).ack(batches.capture());
+		assertThat(batches.getAllValues().get(0)).containsExactly(messages.get(0), messages.get(1));
+		assertThat(batches.getAllValues().get(1)).containsExactly(messages.get(2));
+	}
+
+	@SuppressWarnings("unchecked")
+	private AtomicReference<Consumer<BasicAcknowledgeablePubsubMessage>> setUpStreamingPull(Subscriber subscriber) {
+		AtomicReference<Consumer<BasicAcknowledgeablePubsubMessage>> receiver = new AtomicReference<>();
+		when(subscriberOperations.subscribe(eq("sub1"), any(Consumer.class))).then(invocationOnMock -> {
+			receiver.set(invocationOnMock.getArgument(1));
+			return subscriber;
+		});
+		return receiver;
+	}
+
+	private BasicAcknowledgeablePubsubMessage createMessage(String payload) {
+		BasicAcknowledgeablePubsubMessage message = mock(BasicAcknowledgeablePubsubMessage.class);
+		when(message.getPubsubMessage()).thenReturn(PubsubMessage.newBuilder()
+				.setData(ByteString.copyFrom(payload.getBytes()))
+				.build());
+		return message;
+	}
+
+	private String messageToString(BasicAcknowledgeablePubsubMessage message) {
 		return new String(message.getPubsubMessage().getData().toByteArray(), Charset.defaultCharset());
 	}
 
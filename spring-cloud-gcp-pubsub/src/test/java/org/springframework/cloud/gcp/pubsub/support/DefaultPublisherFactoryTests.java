@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.gcp.pubsub.support;
 
+import java.util.Collections;
+
+import com.google.api.gax.batching.BatchingSettings;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.cloud.pubsub.v1.Publisher;
 import com.google.pubsub.v1.ProjectTopicName;
@@ -58,6 +61,19 @@ public class DefaultPublisherFactoryTests {
 		assertThat(((ProjectTopicName) publisher.getTopicName()).getProject()).isEqualTo("projectId");
 	}
 
+	@Test
+	public void testGetPublisher_perTopicBatchingSettings() {
+		DefaultPublisherFactory factory = new DefaultPublisherFactory(() -> "projectId");
+		factory.setCredentialsProvider(this.credentialsProvider);
+		BatchingSettings batchingSettings = BatchingSettings.newBuilder().setElementCountThreshold(500L).build();
+		factory.setBatchingSettingsMap(Collections.singletonMap("firehose", batchingSettings));
+
+		assertThat(factory.createPublisher("projects/projectId/topics/firehose").getBatchingSettings())
+				.isEqualTo(batchingSettings);
+		assertThat(factory.createPublisher("testTopic").getBatchingSettings())
+				.isNotEqualTo(batchingSettings);
+	}
+
 	@Test
 	public void testNewDefaultPublisherFactory_nullProjectIdProvider() {
 		this.expectedException.expect(IllegalArgumentException.class);
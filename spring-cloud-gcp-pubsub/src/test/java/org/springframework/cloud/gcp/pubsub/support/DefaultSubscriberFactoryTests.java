@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.gcp.pubsub.support;
 
+import java.util.Collections;
+
+import com.google.api.gax.batching.FlowControlSettings;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.pubsub.v1.PullRequest;
@@ -57,6 +60,24 @@ public class DefaultSubscriberFactoryTests {
 				.isEqualTo("projects/angeldust/subscriptions/midnight cowboy");
 	}
 
+	@Test
+	public void testNewSubscriber_perSubscriptionFlowControl() {
+		DefaultSubscriberFactory factory = new DefaultSubscriberFactory(() -> "angeldust");
+		factory.setCredentialsProvider(this.credentialsProvider);
+		FlowControlSettings defaultFlowControl = FlowControlSettings.newBuilder()
+				.setMaxOutstandingElementCount(10L).build();
+		FlowControlSettings firehoseFlowControl = FlowControlSettings.newBuilder()
+				.setMaxOutstandingElementCount(1000L).build();
+		factory.setFlowControlSettings(defaultFlowControl);
+		factory.setFlowControlSettingsMap(Collections.singletonMap(
+				"projects/angeldust/subscriptions/firehose", firehoseFlowControl));
+
+		assertThat(factory.createSubscriber("firehose", (message, consumer) -> { }).getFlowControlSettings())
+				.isEqualTo(firehoseFlowControl);
+		assertThat(factory.createSubscriber("trickle", (message, consumer) -> { }).getFlowControlSettings())
+				.isEqualTo(defaultFlowControl);
+	}
+
 	@Test
 	public void testNewDefaultSubscriberFactory_nullProjectProvider() {
 		this.expectedException.expect(IllegalArgumentException.class);